@@ -0,0 +1,142 @@
+package in.testautomationstudio.commons.benchmark;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Builds configuration beans of arbitrary size for benchmarks.
+ *
+ * <p>Writing classes with hundreds or thousands of annotated fields by hand is
+ * impractical, so the source of a bean with {@code fieldCount} fields is
+ * generated, compiled with the system {@link JavaCompiler} and defined in this
+ * class's package and class loader, so binders see it exactly like an
+ * application class. Field {@code i} is bound to key {@code key.i} and its
+ * type cycles through {@code String}, {@code int}, {@code double},
+ * {@code boolean} and {@code Integer}, so every built-in conversion is
+ * exercised.</p>
+ */
+public final class GeneratedBeans {
+    private static final String PACKAGE = GeneratedBeans.class.getPackageName();
+    private static final String[] TYPES = {"String", "int", "double", "boolean", "Integer"};
+    private static final String[] VALUES = {"value", "42", "3.14", "true", "7"};
+
+    private GeneratedBeans() {
+    }
+
+    /**
+     * Generate, compile and load a bean class with {@code fieldCount}
+     * {@code @PropertyKey} fields.
+     *
+     * @param fieldCount number of annotated fields
+     * @return the loaded bean class
+     */
+    public static Class<?> beanClass(int fieldCount) {
+        String simpleName = "GeneratedBean" + fieldCount;
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("import in.testautomationstudio.commons.annotation.PropertyKey;\n\n")
+                .append("public class ").append(simpleName).append(" {\n");
+        for (int i = 0; i < fieldCount; i++) {
+            source.append("    @PropertyKey(key = \"key.").append(i).append("\")\n")
+                    .append("    private ").append(TYPES[i % TYPES.length]).append(" field").append(i).append(";\n");
+        }
+        source.append("}\n");
+        try {
+            Path directory = Files.createTempDirectory("generated-beans");
+            Path sourceFile = directory.resolve(simpleName + ".java");
+            Files.writeString(sourceFile, source);
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            int status = compiler.run(null, null, null, "-proc:none", "-d", directory.toString(),
+                    "-classpath", System.getProperty("java.class.path"), sourceFile.toString());
+            if (status != 0) {
+                throw new IllegalStateException("Failed to compile generated bean " + simpleName);
+            }
+            byte[] bytes = Files.readAllBytes(directory.resolve(PACKAGE.replace('.', '/')).resolve(simpleName + ".class"));
+            return MethodHandles.lookup().defineClass(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Create a new instance of a class returned by {@link #beanClass(int)}.
+     *
+     * @param beanClass generated bean class
+     * @return new bean instance
+     */
+    public static Object newBean(Class<?> beanClass) {
+        try {
+            return beanClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Properties holding a value for every field of a bean with
+     * {@code fieldCount} fields.
+     *
+     * @param fieldCount number of keys
+     * @return properties with keys {@code key.0 .. key.(fieldCount - 1)}
+     */
+    public static Properties properties(int fieldCount) {
+        Properties properties = new Properties();
+        for (int i = 0; i < fieldCount; i++) {
+            properties.setProperty("key." + i, VALUES[i % VALUES.length]);
+        }
+        return properties;
+    }
+
+    /**
+     * Converted value matching the type of field {@code index}, as a binder
+     * would assign it.
+     *
+     * @param index field index
+     * @return converted value for that field
+     */
+    public static Object parsedValue(int index) {
+        return switch (index % TYPES.length) {
+            case 0 -> VALUES[0];
+            case 1 -> Integer.parseInt(VALUES[1]);
+            case 2 -> Double.parseDouble(VALUES[2]);
+            case 3 -> Boolean.parseBoolean(VALUES[3]);
+            default -> Integer.valueOf(VALUES[4]);
+        };
+    }
+
+    /**
+     * Write a properties file with {@code keyCount} keys to a temporary
+     * directory: {@code prefix} first, then keys {@code key.0 .. key.(n - 1)}
+     * holding values for the fields of a generated bean, until the file has
+     * {@code keyCount} keys.
+     *
+     * @param prefix   properties text written first, may be empty
+     * @param keyCount total number of keys
+     * @return the written file
+     */
+    public static Path propertiesFile(String prefix, int keyCount) {
+        StringBuilder text = new StringBuilder(prefix);
+        if (!prefix.isEmpty() && !prefix.endsWith("\n")) {
+            text.append('\n');
+        }
+        int existing = (int) prefix.lines().filter(line -> !line.isBlank() && !line.startsWith("#")).count();
+        for (int i = 0; i < keyCount - existing; i++) {
+            text.append("key.").append(i).append('=').append(VALUES[i % VALUES.length]).append('\n');
+        }
+        try {
+            Path file = Files.createTempFile("generated-configurations", ".properties");
+            file.toFile().deleteOnExit();
+            return Files.writeString(file, text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
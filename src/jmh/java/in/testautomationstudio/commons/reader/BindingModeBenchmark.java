@@ -0,0 +1,101 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.benchmark.GeneratedBeans;
+import in.testautomationstudio.commons.pojo.TestConfiguration;
+import in.testautomationstudio.commons.source.PropertySource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the runtime {@link BindingMode}s on the {@link TestConfiguration}
+ * shape (10 fields, one custom parser) and on a generated 500-field bean.
+ *
+ * <p>{@link #compileTimeBinder} binds {@code TestConfiguration} with the
+ * binder generated by the annotation processor, as a reference for what the
+ * runtime strategies are aiming at. Sources are parsed up front, so the
+ * scores contain only key lookups, conversion and field writes.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingModeBenchmark {
+
+    @State(Scope.Thread)
+    public static class RuntimeBinderState {
+        @Param({"TestConfiguration", "500"})
+        private String shape;
+
+        @Param({"REFLECTIVE", "METHOD_HANDLE", "HIDDEN_CLASS"})
+        private BindingMode mode;
+
+        private ConfigurationBinder<Object> binder;
+        private Object bean;
+        private PropertySource source;
+
+        @Setup
+        public void setUp() throws IOException {
+            Class<?> beanClass;
+            if ("TestConfiguration".equals(shape)) {
+                beanClass = TestConfiguration.class;
+                source = PropertySource.of(testProperties());
+            } else {
+                int fieldCount = Integer.parseInt(shape);
+                beanClass = GeneratedBeans.beanClass(fieldCount);
+                source = PropertySource.of(GeneratedBeans.properties(fieldCount));
+            }
+            bean = GeneratedBeans.newBean(beanClass);
+            binder = Binders.runtimeBinder(beanClass, mode);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class CompileTimeBinderState {
+        private ConfigurationBinder<Object> binder;
+        private TestConfiguration bean;
+        private PropertySource source;
+
+        @Setup
+        public void setUp() throws IOException {
+            binder = Binders.generatedBinder(TestConfiguration.class);
+            bean = new TestConfiguration();
+            source = PropertySource.of(testProperties());
+        }
+    }
+
+    @Benchmark
+    public Object runtimeBinder(RuntimeBinderState state) {
+        state.binder.bind(state.bean, state.source);
+        return state.bean;
+    }
+
+    @Benchmark
+    public Object compileTimeBinder(CompileTimeBinderState state) {
+        state.binder.bind(state.bean, state.source);
+        return state.bean;
+    }
+
+    private static Properties testProperties() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = BindingModeBenchmark.class.getClassLoader()
+                .getResourceAsStream("test-configurations.properties")) {
+            properties.load(inputStream);
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,83 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.benchmark.GeneratedBeans;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of writing every field of a bean through the previous
+ * {@link FieldUtils#writeField(Field, Object, Object, boolean)} path, through
+ * {@link Field#set(Object, Object)} on a pre-opened field, and through the
+ * setter handles used by {@link BindingPlan}.
+ *
+ * <p>Values are converted up front, so the scores only contain the write
+ * cost. Divide by {@code fieldCount} for the per-field cost.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldWriteBenchmark {
+    @Param({"10", "100", "500"})
+    private int fieldCount;
+
+    private Object bean;
+    private Field[] fields;
+    private BindingPlan.FieldWriter[] writers;
+    private Object[] values;
+
+    @Setup
+    public void setUp() {
+        Class<?> beanClass = GeneratedBeans.beanClass(fieldCount);
+        bean = GeneratedBeans.newBean(beanClass);
+        fields = beanClass.getDeclaredFields();
+        writers = new BindingPlan.FieldWriter[fields.length];
+        values = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            writers[i] = BindingPlan.writerFor(fields[i]);
+            values[i] = GeneratedBeans.parsedValue(i);
+        }
+        for (Field field : fields) {
+            field.setAccessible(true);
+        }
+    }
+
+    @Benchmark
+    public Object fieldUtilsWriteField() throws IllegalAccessException {
+        for (int i = 0; i < fields.length; i++) {
+            FieldUtils.writeField(fields[i], bean, values[i], true);
+        }
+        return bean;
+    }
+
+    @Benchmark
+    public Object reflectiveFieldSet() throws IllegalAccessException {
+        for (int i = 0; i < fields.length; i++) {
+            fields[i].set(bean, values[i]);
+        }
+        return bean;
+    }
+
+    @Benchmark
+    public Object methodHandleWriter() throws Throwable {
+        for (int i = 0; i < writers.length; i++) {
+            writers[i].write(bean, values[i]);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,85 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.benchmark.GeneratedBeans;
+import in.testautomationstudio.commons.pojo.TestConfiguration;
+import in.testautomationstudio.commons.source.SourceCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of {@link PropertiesReader#loadBean(Object)}: path
+ * resolution, source lookup or loading, conversion and field writes.
+ *
+ * <p>{@code shape} is the bean: the {@link TestConfiguration} shape (10
+ * fields, one custom parser) or a generated bean with that many fields.
+ * {@code fileKeys} is the number of keys in the file, which holds a value for
+ * every field plus unrelated keys up to that count. {@link #cached} measures
+ * the steady state with a source cache; {@link #uncached} also reads and
+ * parses the file on every call.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoadBeanBenchmark {
+    @Param({"TestConfiguration", "100", "1000", "5000"})
+    private String shape;
+
+    @Param({"10", "10000", "200000"})
+    private int fileKeys;
+
+    private Class<?> beanClass;
+    private PropertiesReader<Object> cachedReader;
+    private PropertiesReader<Object> uncachedReader;
+
+    @Setup
+    public void setUp() throws IOException {
+        Path file;
+        if ("TestConfiguration".equals(shape)) {
+            beanClass = TestConfiguration.class;
+            String values;
+            try (InputStream input = LoadBeanBenchmark.class.getClassLoader()
+                    .getResourceAsStream("test-configurations.properties")) {
+                values = new String(input.readAllBytes(), StandardCharsets.ISO_8859_1);
+            }
+            file = GeneratedBeans.propertiesFile(values, fileKeys);
+        } else {
+            int fieldCount = Integer.parseInt(shape);
+            beanClass = GeneratedBeans.beanClass(fieldCount);
+            file = GeneratedBeans.propertiesFile("", Math.max(fieldCount, fileKeys));
+        }
+        cachedReader = new PropertiesReader<>("file:" + file, BindingMode.METHOD_HANDLE, new SourceCache(1));
+        uncachedReader = new PropertiesReader<>("file:" + file, BindingMode.METHOD_HANDLE, null);
+    }
+
+    @Benchmark
+    public Object cached() {
+        Object bean = GeneratedBeans.newBean(beanClass);
+        cachedReader.loadBean(bean);
+        return bean;
+    }
+
+    @Benchmark
+    public Object uncached() {
+        Object bean = GeneratedBeans.newBean(beanClass);
+        uncachedReader.loadBean(bean);
+        return bean;
+    }
+}
@@ -0,0 +1,111 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.enums.BrowserType;
+import in.testautomationstudio.commons.parser.BrowserTypeParser;
+import in.testautomationstudio.commons.parser.EnumLookup;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single value conversion: the built-in {@code PARSERS} of
+ * {@link PropertiesReader} for each supported type, from a string and from a
+ * range of a larger character sequence as binders read raw values, enum
+ * resolution with {@link Enum#valueOf(Class, String)} and with the
+ * {@link EnumLookup} used for enum fields without a parser, spelled exactly
+ * and in lower case, and a custom enum parser looping over the constants.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    private static final Map<String, Class<?>> TYPES = Map.of("int", int.class, "long", long.class,
+            "float", float.class, "double", double.class, "boolean", boolean.class);
+    private static final Map<String, String> VALUES = Map.of("int", "123456", "long", "1700000000000",
+            "float", "1.25", "double", "3.1123", "boolean", "true");
+
+    @State(Scope.Thread)
+    public static class BuiltInState {
+        @Param({"int", "long", "float", "double", "boolean"})
+        private String type;
+
+        private PropertyValueParser<?> parser;
+        private String value;
+        private CharSequence line;
+
+        @Setup
+        public void setUp() {
+            parser = PropertiesReader.PARSERS.get(TYPES.get(type));
+            value = VALUES.get(type);
+            line = new StringBuilder("tuning.").append(type).append('=').append(value);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class EnumState {
+        @Param({"CHROME", "FIREFOX"})
+        private String value;
+
+        private final BrowserTypeParser parser = new BrowserTypeParser();
+        private final EnumLookup<BrowserType> lookup = EnumLookup.of(BrowserType.class);
+        private String lowerCaseValue;
+
+        @Setup
+        public void setUp() {
+            lowerCaseValue = value.toLowerCase();
+        }
+    }
+
+    @Benchmark
+    public Object builtInParser(BuiltInState state) {
+        return state.parser.parse(state.value);
+    }
+
+    @Benchmark
+    public void builtInParserRange(BuiltInState state, Blackhole blackhole) {
+        CharSequence line = state.line;
+        int start = line.length() - state.value.length();
+        switch (state.type) {
+            case "int" -> blackhole.consume(PrimitiveParsers.INT.parseInt(line, start, line.length()));
+            case "long" -> blackhole.consume(PrimitiveParsers.LONG.parseLong(line, start, line.length()));
+            case "float" -> blackhole.consume(PrimitiveParsers.FLOAT.parseFloat(line, start, line.length()));
+            case "double" -> blackhole.consume(PrimitiveParsers.DOUBLE.parseDouble(line, start, line.length()));
+            default -> blackhole.consume(PrimitiveParsers.BOOLEAN.parseBoolean(line, start, line.length()));
+        }
+    }
+
+    @Benchmark
+    public BrowserType enumValueOf(EnumState state) {
+        return Enum.valueOf(BrowserType.class, state.value);
+    }
+
+    @Benchmark
+    public BrowserType enumLookup(EnumState state) {
+        return state.lookup.parse(state.value);
+    }
+
+    @Benchmark
+    public BrowserType enumLookupIgnoringCase(EnumState state) {
+        return state.lookup.parse(state.lowerCaseValue);
+    }
+
+    @Benchmark
+    public BrowserType customEnumParser(EnumState state) {
+        return state.parser.parse(state.lowerCaseValue);
+    }
+}
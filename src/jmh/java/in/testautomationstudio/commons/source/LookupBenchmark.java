@@ -0,0 +1,67 @@
+package in.testautomationstudio.commons.source;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares looking up every key of a loaded file through
+ * {@link Properties#getProperty(String)} and through
+ * {@link ImmutablePropertySource}. Lookup keys are distinct instances equal
+ * to the stored keys, as they are when they come from annotations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+    @Param({"10", "500", "10000"})
+    private int keyCount;
+
+    private String[] lookupKeys;
+    private PropertySource properties;
+    private PropertySource immutable;
+
+    @Setup
+    public void setUp() {
+        Properties loaded = new Properties();
+        ImmutablePropertySource.Builder builder = ImmutablePropertySource.builder();
+        lookupKeys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            String key = "service." + i + ".url";
+            loaded.setProperty(key, "http://host-" + i);
+            builder.put(key, "http://host-" + i);
+            lookupKeys[i] = new String(key);
+        }
+        properties = PropertySource.of(loaded);
+        immutable = builder.build();
+    }
+
+    @Benchmark
+    public void properties(Blackhole blackhole) {
+        for (String key : lookupKeys) {
+            blackhole.consume(properties.getProperty(key));
+        }
+    }
+
+    @Benchmark
+    public void immutable(Blackhole blackhole) {
+        for (String key : lookupKeys) {
+            blackhole.consume(immutable.getProperty(key));
+        }
+    }
+}
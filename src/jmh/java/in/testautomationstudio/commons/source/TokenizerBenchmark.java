@@ -0,0 +1,74 @@
+package in.testautomationstudio.commons.source;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Properties#load(java.io.InputStream)} with
+ * {@link PropertiesTokenizer} on a generated file of {@code entryCount}
+ * entries, one in ten of them with escapes or a continuation line, and with
+ * {@link PropertySources#parse}, which keeps the values of plain lines as raw
+ * bytes instead of strings.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenizerBenchmark {
+    @Param({"100", "10000", "100000"})
+    private int entryCount;
+
+    private byte[] content;
+
+    @Setup
+    public void setUp() {
+        StringBuilder text = new StringBuilder("# generated configuration\n");
+        for (int i = 0; i < entryCount; i++) {
+            if (i % 10 == 0) {
+                text.append("service.").append(i).append(".urls = http\\://host-").append(i).append(",\\\n    backup\\u002Dhost\n");
+            } else {
+                text.append("service.").append(i).append(".timeout=").append(i * 31).append('\n');
+            }
+        }
+        content = text.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    @Benchmark
+    public Properties propertiesLoad() throws IOException {
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(content));
+        return properties;
+    }
+
+    @Benchmark
+    public Map<String, String> tokenizer() {
+        Map<String, String> values = new HashMap<>();
+        PropertiesTokenizer.tokenize(content, values::put);
+        return values;
+    }
+
+    @Benchmark
+    public ImmutablePropertySource immutableSource() {
+        return PropertySources.parse(ByteBuffer.wrap(content));
+    }
+}
@@ -0,0 +1,56 @@
+package in.testautomationstudio.commons.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link PlaceholderResolver#resolvePlaceholders(String)} on paths
+ * without placeholders, with one, and with several. Placeholders resolve
+ * against system properties set up front, or the {@code HOME} environment
+ * variable, read live or from a
+ * {@link PlaceholderContext#snapshot()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderBenchmark {
+    @Param({"test-configurations.properties",
+            "${benchmark.env}-configurations.properties",
+            "${HOME}/configurations.properties",
+            "file:${benchmark.root}/${benchmark.env}/${benchmark.region}/${benchmark.env}-configurations.properties"})
+    private String path;
+
+    private PlaceholderContext snapshot;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("benchmark.env", "qa");
+        System.setProperty("benchmark.region", "eu-west-1");
+        System.setProperty("benchmark.root", "/etc/grid");
+        snapshot = PlaceholderContext.snapshot();
+    }
+
+    @Benchmark
+    public String resolvePlaceholders() {
+        return PlaceholderResolver.resolvePlaceholders(path);
+    }
+
+    @Benchmark
+    public String resolvePlaceholdersFromSnapshot() {
+        return PlaceholderResolver.resolvePlaceholders(path, snapshot);
+    }
+}
@@ -19,6 +19,10 @@ import java.lang.annotation.Target;
  *   <li>The {@code filePath} value is treated as a path relative to the
  *       runtime classpath/resources root. For example, {@code "qa-configurations.properties"}
  *       refers to {@code /resources/qa-configurations.properties}.</li>
+ *   <li>A {@code filePath} starting with {@code file:} names a file on the
+ *       file system instead, absolute or relative to the working directory
+ *       (for example {@code "file:${config.dir}/qa-configurations.properties"}),
+ *       so it can be changed without rebuilding the application.</li>
  *   <li>Retention is {@link RetentionPolicy#RUNTIME} so annotation processors
  *       or reflection-based binders can discover it at runtime.</li>
  *   <li>This annotation targets {@link ElementType#TYPE} (classes and interfaces).
@@ -81,4 +85,20 @@ public @interface Configuration {
      * keys will result in an {@link IllegalArgumentException} from the resolver.</p>
      */
     String filePath();
+
+    /**
+     * @return whether {@code ${KEY}} placeholders in property values are
+     * resolved before they are bound; {@code false} by default, which binds
+     * values as written.
+     *
+     * <p>A placeholder names another key of the same file or, failing that,
+     * a system property or environment variable, for example
+     * {@code grid.url=http://${grid.host}:${grid.port}/wd/hub}. Referenced
+     * values may contain placeholders too. The values of a loaded file are
+     * resolved once, on the first bind of an interpolating class, and shared
+     * by every later bind of that file. A cycle of references, or a key
+     * found nowhere, fails the bind with an
+     * {@link IllegalArgumentException}.</p>
+     */
+    boolean interpolate() default false;
 }
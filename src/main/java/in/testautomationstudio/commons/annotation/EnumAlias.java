@@ -0,0 +1,45 @@
+package in.testautomationstudio.commons.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Additional property values that resolve to an enum constant.
+ *
+ * <p>Enum fields without a custom parser are resolved through
+ * {@link in.testautomationstudio.commons.parser.EnumLookup}, which accepts a
+ * constant's name, ignoring case, and every alias declared with this
+ * annotation, also ignoring case. Aliases let property files keep values
+ * that are not valid Java identifiers or that predate a rename.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * public enum BrowserType {
+ *     @EnumAlias({"google-chrome", "chromium"})
+ *     CHROME,
+ *     @EnumAlias("ff")
+ *     FIREFOX
+ * }
+ *
+ * // browser.name=google-chrome, Chrome or CHROME all bind CHROME
+ * @PropertyKey(key = "browser.name")
+ * private BrowserType browser;
+ * }</pre>
+ *
+ * <h2>Notes</h2>
+ * <ul>
+ *   <li>An alias may not be used by two constants, nor equal another
+ *       constant's name; such an enum is rejected when it is first
+ *       bound.</li>
+ * </ul>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface EnumAlias {
+    /**
+     * @return alternative values of the annotated constant
+     */
+    String[] value();
+}
@@ -54,7 +54,13 @@ import in.testautomationstudio.commons.parser.PropertyValueParser;
  * <h2>Notes</h2>
  * <ul>
  *   <li>This annotation has runtime retention so it can be discovered via reflection.</li>
- *   <li>It targets fields only.</li>
+ *   <li>It targets fields and, for configuration interfaces read through
+ *       {@code PropertiesReader#loadProxy(Class)}, their getter methods.
+ *       Annotated methods must take no arguments and return a value.</li>
+ *   <li>On record components and constructor parameters it declares the
+ *       arguments {@code PropertiesReader#read(Class)} passes to the
+ *       constructor. Final fields are never bound by
+ *       {@code PropertiesReader#loadBean(Object)}.</li>
  *   <li>Implementations reading property values should honor {@code defaultValue}
  *       when the property is not present or empty.</li>
  * </ul>
@@ -63,7 +69,7 @@ import in.testautomationstudio.commons.parser.PropertyValueParser;
  * @see DefaultPropertyValueParser
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
 public @interface PropertyKey {
     String key();
     String defaultValue() default "";
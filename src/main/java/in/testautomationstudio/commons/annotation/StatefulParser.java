@@ -0,0 +1,40 @@
+package in.testautomationstudio.commons.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link in.testautomationstudio.commons.parser.PropertyValueParser}
+ * implementation that must not be shared.
+ *
+ * <p>By default a parser class named in {@link PropertyKey#parser()} is
+ * instantiated once and the instance is shared by every field, bean and thread
+ * that uses it (see {@link in.testautomationstudio.commons.parser.ParserRegistry}).
+ * Parsers that keep per-use state, or are not thread-safe, opt out with this
+ * annotation: a new instance is then created for every value parsed.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * @StatefulParser
+ * public class DateParser implements PropertyValueParser<Date> {
+ *     private final SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
+ *
+ *     @Override
+ *     public Date parse(String value) {
+ *         try {
+ *             return format.parse(value);
+ *         } catch (ParseException e) {
+ *             throw new IllegalArgumentException(e);
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see in.testautomationstudio.commons.parser.ParserRegistry
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface StatefulParser {
+}
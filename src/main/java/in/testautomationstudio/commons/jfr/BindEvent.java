@@ -0,0 +1,31 @@
+package in.testautomationstudio.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The annotated fields of a configuration bean were bound from a loaded
+ * source.
+ */
+@Name(BindEvent.NAME)
+@Label("Configuration Bind")
+@Category(ConfigurationEvents.CATEGORY)
+@Description("The annotated fields of a configuration bean were bound")
+public final class BindEvent extends jdk.jfr.Event {
+    /**
+     * Name of the event type.
+     */
+    public static final String NAME = "in.testautomationstudio.commons.Bind";
+
+    @Label("Configuration Class")
+    Class<?> configurationClass;
+
+    @Label("Field Count")
+    @Description("Number of fields annotated with @PropertyKey")
+    int fieldCount;
+
+    BindEvent() {
+    }
+}
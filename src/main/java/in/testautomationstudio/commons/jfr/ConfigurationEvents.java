@@ -0,0 +1,442 @@
+package in.testautomationstudio.commons.jfr;
+
+import in.testautomationstudio.commons.parser.BooleanPropertyValueParser;
+import in.testautomationstudio.commons.parser.DoublePropertyValueParser;
+import in.testautomationstudio.commons.parser.FloatPropertyValueParser;
+import in.testautomationstudio.commons.parser.IntPropertyValueParser;
+import in.testautomationstudio.commons.parser.LongPropertyValueParser;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import in.testautomationstudio.commons.source.SourceCache;
+import jdk.jfr.FlightRecorder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Emits the JDK Flight Recorder events of this library.
+ *
+ * <h2>Events</h2>
+ * <ul>
+ *   <li>{@value SourceLoadEvent#NAME}: a properties file was read and
+ *       parsed (path, size in bytes, number of properties, duration).</li>
+ *   <li>{@value BindEvent#NAME}: a bean was bound (configuration class,
+ *       number of fields, duration).</li>
+ *   <li>{@value SlowParserEvent#NAME}: a custom parser took longer than the
+ *       threshold, 1 ms by default, to convert a value (parser class,
+ *       property key, duration).</li>
+ *   <li>{@value PlaceholderResolutionEvent#NAME}: placeholders in a file
+ *       path were resolved (text, number of placeholders, duration).</li>
+ *   <li>{@value SourceCacheStatisticsEvent#NAME}: periodic size and
+ *       counters of every live
+ *       {@link in.testautomationstudio.commons.source.SourceCache}.</li>
+ * </ul>
+ * <p>All of them are in the {@value #CATEGORY} category and are enabled by
+ * default; thresholds and periods can be changed like those of JDK events,
+ * for example
+ * {@code -XX:StartFlightRecording:in.testautomationstudio.commons.SlowParser#threshold=100us}.</p>
+ *
+ * <h2>Cost</h2>
+ * <p>Initializing a Flight Recorder event class initializes the recorder's
+ * metadata, which takes tens of milliseconds. Until the recorder has been
+ * initialized (by {@code -XX:StartFlightRecording}, {@code jcmd JFR.start} or
+ * the {@code jdk.jfr} API), the methods of this class therefore do nothing
+ * beyond reading one flag, and no event class is touched. The periodic
+ * cache event is registered on the first event emitted while the recorder
+ * is active.</p>
+ *
+ * <p>Conversions by parsers wrapped with {@link #timed} can also be
+ * observed on the current thread through {@link #observeParses}, which is how
+ * a {@link in.testautomationstudio.commons.reader.BindingListener} receives
+ * per-field parse times from binders generated at compile time or as hidden
+ * classes. While no thread observes parses, the wrappers read one more
+ * counter and no clock.</p>
+ *
+ * <p>The methods are public so that
+ * {@link in.testautomationstudio.commons.reader.PropertiesReader},
+ * {@link in.testautomationstudio.commons.util.PlaceholderResolver} and
+ * generated binders can reach them; applications do not need to call
+ * them.</p>
+ */
+public final class ConfigurationEvents {
+    /**
+     * Category of every event of this library.
+     */
+    public static final String CATEGORY = "Properties Reader";
+
+    private static final Set<SourceCache> CACHES = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final ThreadLocal<ParseObserver> PARSE_OBSERVERS = new ThreadLocal<>();
+    /**
+     * Number of threads with a parse observer, so that unobserved parses skip
+     * the thread-local lookup.
+     */
+    private static final AtomicInteger OBSERVING_THREADS = new AtomicInteger();
+    private static volatile boolean periodicRegistered;
+
+    private ConfigurationEvents() {
+    }
+
+    /**
+     * @return whether the Flight Recorder has been initialized, so events may
+     * be recorded
+     */
+    public static boolean isRecording() {
+        if (!FlightRecorder.isInitialized()) {
+            return false;
+        }
+        if (!periodicRegistered) {
+            registerPeriodicEvents();
+        }
+        return true;
+    }
+
+    /**
+     * Start timing a source load.
+     *
+     * @return the started event, or {@code null} when not recording
+     */
+    public static SourceLoadEvent beginSourceLoad() {
+        if (!isRecording()) {
+            return null;
+        }
+        SourceLoadEvent event = new SourceLoadEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record a source load started with {@link #beginSourceLoad()}.
+     *
+     * @param event      started event, or {@code null}
+     * @param path       resolved location of the file
+     * @param bytes      size of the file
+     * @param properties number of properties in the file
+     */
+    public static void commit(SourceLoadEvent event, String path, long bytes, int properties) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.bytes = bytes;
+            event.properties = properties;
+            event.commit();
+        }
+    }
+
+    /**
+     * Start timing a bind.
+     *
+     * @return the started event, or {@code null} when not recording
+     */
+    public static BindEvent beginBind() {
+        if (!isRecording()) {
+            return null;
+        }
+        BindEvent event = new BindEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record a bind started with {@link #beginBind()}.
+     *
+     * @param event              started event, or {@code null}
+     * @param configurationClass class of the bound bean
+     * @param fieldCount         number of bindable fields of the class
+     */
+    public static void commit(BindEvent event, Class<?> configurationClass, int fieldCount) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.configurationClass = configurationClass;
+            event.fieldCount = fieldCount;
+            event.commit();
+        }
+    }
+
+    /**
+     * Start timing a placeholder resolution.
+     *
+     * @return the started event, or {@code null} when not recording
+     */
+    public static PlaceholderResolutionEvent beginPlaceholderResolution() {
+        if (!isRecording()) {
+            return null;
+        }
+        PlaceholderResolutionEvent event = new PlaceholderResolutionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Record a placeholder resolution started with
+     * {@link #beginPlaceholderResolution()}.
+     *
+     * @param event        started event, or {@code null}
+     * @param text         text before resolution
+     * @param placeholders number of placeholders resolved
+     */
+    public static void commit(PlaceholderResolutionEvent event, String text, int placeholders) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.text = text;
+            event.placeholders = placeholders;
+            event.commit();
+        }
+    }
+
+    /**
+     * Wrap a custom parser so that conversions slower than the
+     * {@value SlowParserEvent#NAME} threshold are recorded. A parser
+     * implementing a primitive specialization, such as
+     * {@link IntPropertyValueParser}, is wrapped in the same specialization,
+     * so the result can still be cast to it and called without boxing, and
+     * its range overload is forwarded as well.
+     *
+     * @param parserClass parser class named by the field's annotation
+     * @param key         property key of the field
+     * @param parser      parser to time
+     * @param <T>         parsed type
+     * @return parser recording slow conversions
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PropertyValueParser<T> timed(Class<?> parserClass, String key, PropertyValueParser<T> parser) {
+        if (parser instanceof IntPropertyValueParser intParser) {
+            return (PropertyValueParser<T>) new IntPropertyValueParser() {
+                @Override
+                public int parseInt(String value) {
+                    ParseTimer timer = startParse();
+                    int parsed = intParser.parseInt(value);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+
+                @Override
+                public int parseInt(CharSequence text, int start, int end) {
+                    ParseTimer timer = startParse();
+                    int parsed = intParser.parseInt(text, start, end);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+            };
+        } else if (parser instanceof LongPropertyValueParser longParser) {
+            return (PropertyValueParser<T>) new LongPropertyValueParser() {
+                @Override
+                public long parseLong(String value) {
+                    ParseTimer timer = startParse();
+                    long parsed = longParser.parseLong(value);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+
+                @Override
+                public long parseLong(CharSequence text, int start, int end) {
+                    ParseTimer timer = startParse();
+                    long parsed = longParser.parseLong(text, start, end);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+            };
+        } else if (parser instanceof FloatPropertyValueParser floatParser) {
+            return (PropertyValueParser<T>) new FloatPropertyValueParser() {
+                @Override
+                public float parseFloat(String value) {
+                    ParseTimer timer = startParse();
+                    float parsed = floatParser.parseFloat(value);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+
+                @Override
+                public float parseFloat(CharSequence text, int start, int end) {
+                    ParseTimer timer = startParse();
+                    float parsed = floatParser.parseFloat(text, start, end);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+            };
+        } else if (parser instanceof DoublePropertyValueParser doubleParser) {
+            return (PropertyValueParser<T>) new DoublePropertyValueParser() {
+                @Override
+                public double parseDouble(String value) {
+                    ParseTimer timer = startParse();
+                    double parsed = doubleParser.parseDouble(value);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+
+                @Override
+                public double parseDouble(CharSequence text, int start, int end) {
+                    ParseTimer timer = startParse();
+                    double parsed = doubleParser.parseDouble(text, start, end);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+            };
+        } else if (parser instanceof BooleanPropertyValueParser booleanParser) {
+            return (PropertyValueParser<T>) new BooleanPropertyValueParser() {
+                @Override
+                public boolean parseBoolean(String value) {
+                    ParseTimer timer = startParse();
+                    boolean parsed = booleanParser.parseBoolean(value);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+
+                @Override
+                public boolean parseBoolean(CharSequence text, int start, int end) {
+                    ParseTimer timer = startParse();
+                    boolean parsed = booleanParser.parseBoolean(text, start, end);
+                    stopParse(timer, parserClass, key);
+                    return parsed;
+                }
+            };
+        }
+        return value -> {
+            ParseTimer timer = startParse();
+            T parsed = parser.parse(value);
+            stopParse(timer, parserClass, key);
+            return parsed;
+        };
+    }
+
+    /**
+     * Report every conversion by a parser wrapped with {@link #timed} on the
+     * current thread to {@code observer}, replacing the current observer.
+     * Callers restore the previous observer once done:
+     * <pre>{@code
+     * ParseObserver previous = ConfigurationEvents.observeParses(observer);
+     * try {
+     *     binder.bind(bean, source);
+     * } finally {
+     *     ConfigurationEvents.observeParses(previous);
+     * }
+     * }</pre>
+     *
+     * @param observer receives the conversions of the current thread, or
+     *                 {@code null} to stop observing
+     * @return the observer replaced, or {@code null}
+     */
+    public static ParseObserver observeParses(ParseObserver observer) {
+        ParseObserver previous = PARSE_OBSERVERS.get();
+        if (observer == null) {
+            PARSE_OBSERVERS.remove();
+        } else {
+            PARSE_OBSERVERS.set(observer);
+        }
+        if (previous == null && observer != null) {
+            OBSERVING_THREADS.incrementAndGet();
+        } else if (previous != null && observer == null) {
+            OBSERVING_THREADS.decrementAndGet();
+        }
+        return previous;
+    }
+
+    /**
+     * Include {@code cache} in the periodic statistics for as long as it is
+     * reachable.
+     *
+     * @param cache cache to report
+     */
+    public static void monitor(SourceCache cache) {
+        CACHES.add(cache);
+    }
+
+    private static ParseTimer startParse() {
+        ParseObserver observer = OBSERVING_THREADS.get() == 0 ? null : PARSE_OBSERVERS.get();
+        SlowParserEvent event = beginParse();
+        if (observer == null && event == null) {
+            return null;
+        }
+        return new ParseTimer(event, observer, observer == null ? 0 : System.nanoTime());
+    }
+
+    private static void stopParse(ParseTimer timer, Class<?> parserClass, String key) {
+        if (timer == null) {
+            return;
+        }
+        if (timer.observer != null) {
+            timer.observer.parsed(parserClass, key, System.nanoTime() - timer.start);
+        }
+        commitParse(timer.event, parserClass, key);
+    }
+
+    private static SlowParserEvent beginParse() {
+        if (!isRecording()) {
+            return null;
+        }
+        SlowParserEvent event = new SlowParserEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void commitParse(SlowParserEvent event, Class<?> parserClass, String key) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.parserClass = parserClass;
+            event.key = key;
+            event.commit();
+        }
+    }
+
+    private static synchronized void registerPeriodicEvents() {
+        if (!periodicRegistered) {
+            FlightRecorder.addPeriodicEvent(SourceCacheStatisticsEvent.class, ConfigurationEvents::emitCacheStatistics);
+            periodicRegistered = true;
+        }
+    }
+
+    private static void emitCacheStatistics() {
+        List<SourceCache> caches;
+        synchronized (CACHES) {
+            caches = new ArrayList<>(CACHES);
+        }
+        for (SourceCache cache : caches) {
+            SourceCache.CacheStats stats = cache.stats();
+            SourceCacheStatisticsEvent event = new SourceCacheStatisticsEvent();
+            event.shared = cache == SourceCache.shared();
+            event.size = stats.size();
+            event.maximumSize = cache.maximumSize();
+            event.hits = stats.hits();
+            event.misses = stats.misses();
+            event.evictions = stats.evictions();
+            event.commit();
+        }
+    }
+
+    /**
+     * Receives the conversions of a thread, see {@link #observeParses}.
+     */
+    @FunctionalInterface
+    public interface ParseObserver {
+        /**
+         * A parser wrapped with {@link #timed} converted a value.
+         *
+         * @param parserClass parser class named by the field's annotation
+         * @param key         property key of the field
+         * @param nanos       duration of the conversion
+         */
+        void parsed(Class<?> parserClass, String key, long nanos);
+    }
+
+    /**
+     * Flight Recorder event and observer of one conversion, either of which
+     * may be {@code null}.
+     */
+    private record ParseTimer(SlowParserEvent event, ParseObserver observer, long start) {
+    }
+}
@@ -0,0 +1,32 @@
+package in.testautomationstudio.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Placeholders in a text, usually a properties file path, were resolved by
+ * {@link in.testautomationstudio.commons.util.PlaceholderResolver}. Texts
+ * without placeholders are not recorded.
+ */
+@Name(PlaceholderResolutionEvent.NAME)
+@Label("Placeholder Resolution")
+@Category(ConfigurationEvents.CATEGORY)
+@Description("Placeholders in a properties file path were resolved")
+public final class PlaceholderResolutionEvent extends jdk.jfr.Event {
+    /**
+     * Name of the event type.
+     */
+    public static final String NAME = "in.testautomationstudio.commons.PlaceholderResolution";
+
+    @Label("Text")
+    @Description("Text with placeholders, before resolution")
+    String text;
+
+    @Label("Placeholders")
+    int placeholders;
+
+    PlaceholderResolutionEvent() {
+    }
+}
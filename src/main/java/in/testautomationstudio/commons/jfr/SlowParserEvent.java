@@ -0,0 +1,34 @@
+package in.testautomationstudio.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * A custom {@link in.testautomationstudio.commons.parser.PropertyValueParser}
+ * took longer than the event threshold, 1 ms unless configured otherwise, to
+ * convert a value.
+ */
+@Name(SlowParserEvent.NAME)
+@Label("Slow Configuration Parser")
+@Category(ConfigurationEvents.CATEGORY)
+@Description("A custom PropertyValueParser took longer than the threshold to convert a value")
+@Threshold("1 ms")
+public final class SlowParserEvent extends jdk.jfr.Event {
+    /**
+     * Name of the event type.
+     */
+    public static final String NAME = "in.testautomationstudio.commons.SlowParser";
+
+    @Label("Parser Class")
+    Class<?> parserClass;
+
+    @Label("Key")
+    @Description("Property key whose value was converted")
+    String key;
+
+    SlowParserEvent() {
+    }
+}
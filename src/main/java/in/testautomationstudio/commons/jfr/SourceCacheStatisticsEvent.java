@@ -0,0 +1,48 @@
+package in.testautomationstudio.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic snapshot of a {@link in.testautomationstudio.commons.source.SourceCache}:
+ * one event per live cache, every 60 seconds unless configured otherwise.
+ */
+@Name(SourceCacheStatisticsEvent.NAME)
+@Label("Configuration Source Cache Statistics")
+@Category(ConfigurationEvents.CATEGORY)
+@Description("Size and hit statistics of a cache of parsed properties files")
+@Period("60 s")
+@StackTrace(false)
+public final class SourceCacheStatisticsEvent extends jdk.jfr.Event {
+    /**
+     * Name of the event type.
+     */
+    public static final String NAME = "in.testautomationstudio.commons.SourceCacheStatistics";
+
+    @Label("Shared")
+    @Description("Whether this is SourceCache.shared()")
+    boolean shared;
+
+    @Label("Size")
+    @Description("Number of cached sources")
+    int size;
+
+    @Label("Maximum Size")
+    int maximumSize;
+
+    @Label("Hits")
+    long hits;
+
+    @Label("Misses")
+    long misses;
+
+    @Label("Evictions")
+    long evictions;
+
+    SourceCacheStatisticsEvent() {
+    }
+}
@@ -0,0 +1,38 @@
+package in.testautomationstudio.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A properties file was read and parsed. Loads served from a
+ * {@link in.testautomationstudio.commons.source.SourceCache} are not
+ * recorded.
+ */
+@Name(SourceLoadEvent.NAME)
+@Label("Configuration Source Load")
+@Category(ConfigurationEvents.CATEGORY)
+@Description("A properties file was read and parsed")
+public final class SourceLoadEvent extends jdk.jfr.Event {
+    /**
+     * Name of the event type.
+     */
+    public static final String NAME = "in.testautomationstudio.commons.SourceLoad";
+
+    @Label("Path")
+    @Description("Resolved location of the file")
+    String path;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Properties")
+    @Description("Number of properties in the file")
+    int properties;
+
+    SourceLoadEvent() {
+    }
+}
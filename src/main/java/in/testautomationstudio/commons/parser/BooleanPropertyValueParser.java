@@ -0,0 +1,55 @@
+package in.testautomationstudio.commons.parser;
+
+/**
+ * {@link PropertyValueParser} specialized for {@code boolean} values: binders
+ * assign {@link #parseBoolean(String)} to {@code boolean} fields without
+ * boxing, as described for {@link IntPropertyValueParser}.
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * public class YesNoParser implements BooleanPropertyValueParser {
+ *     @Override
+ *     public boolean parseBoolean(String value) {
+ *         return value.trim().equalsIgnoreCase("yes");
+ *     }
+ * }
+ *
+ * @PropertyKey(key = "feature.enabled", parser = YesNoParser.class)
+ * private boolean featureEnabled;
+ * }</pre>
+ */
+@FunctionalInterface
+public interface BooleanPropertyValueParser extends PropertyValueParser<Boolean> {
+    /**
+     * Parse the provided string value into a {@code boolean}.
+     *
+     * @param value the raw property value, never blank when called by a binder
+     * @return the parsed value
+     */
+    boolean parseBoolean(String value);
+
+    /**
+     * Parse the characters {@code [start, end)} of {@code text} into a
+     * {@code boolean}, as described for
+     * {@link IntPropertyValueParser#parseInt(CharSequence, int, int)}.
+     *
+     * @param text  characters holding the value
+     * @param start index of the first character of the value
+     * @param end   index after the last character of the value
+     * @return the parsed value
+     */
+    default boolean parseBoolean(CharSequence text, int start, int end) {
+        return parseBoolean(text.subSequence(start, end).toString());
+    }
+
+    /**
+     * Parse the provided string value into a boxed {@code boolean}.
+     *
+     * @param value the raw property value
+     * @return the result of {@link #parseBoolean(String)}, boxed
+     */
+    @Override
+    default Boolean parse(String value) {
+        return parseBoolean(value);
+    }
+}
@@ -0,0 +1,55 @@
+package in.testautomationstudio.commons.parser;
+
+/**
+ * {@link PropertyValueParser} specialized for {@code double} values: binders
+ * assign {@link #parseDouble(String)} to {@code double} fields without
+ * boxing, as described for {@link IntPropertyValueParser}.
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * public class LocalizedDecimalParser implements DoublePropertyValueParser {
+ *     @Override
+ *     public double parseDouble(String value) {
+ *         return Double.parseDouble(value.trim().replace(',', '.'));
+ *     }
+ * }
+ *
+ * @PropertyKey(key = "price.limit", parser = LocalizedDecimalParser.class)
+ * private double priceLimit;
+ * }</pre>
+ */
+@FunctionalInterface
+public interface DoublePropertyValueParser extends PropertyValueParser<Double> {
+    /**
+     * Parse the provided string value into a {@code double}.
+     *
+     * @param value the raw property value, never blank when called by a binder
+     * @return the parsed value
+     */
+    double parseDouble(String value);
+
+    /**
+     * Parse the characters {@code [start, end)} of {@code text} into a
+     * {@code double}, as described for
+     * {@link IntPropertyValueParser#parseInt(CharSequence, int, int)}.
+     *
+     * @param text  characters holding the value
+     * @param start index of the first character of the value
+     * @param end   index after the last character of the value
+     * @return the parsed value
+     */
+    default double parseDouble(CharSequence text, int start, int end) {
+        return parseDouble(text.subSequence(start, end).toString());
+    }
+
+    /**
+     * Parse the provided string value into a boxed {@code double}.
+     *
+     * @param value the raw property value
+     * @return the result of {@link #parseDouble(String)}, boxed
+     */
+    @Override
+    default Double parse(String value) {
+        return parseDouble(value);
+    }
+}
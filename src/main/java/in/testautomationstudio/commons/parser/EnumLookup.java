@@ -0,0 +1,211 @@
+package in.testautomationstudio.commons.parser;
+
+import in.testautomationstudio.commons.annotation.EnumAlias;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Precomputed table resolving property values to the constants of one enum
+ * class; the parser of enum fields without a custom parser.
+ *
+ * <p>A value resolves, in this order, to the constant with that exact name,
+ * to the constant declaring it as an exact {@link EnumAlias}, or to the
+ * constant whose name or alias equals it ignoring case, unless two constants
+ * do. {@link #find(String)} reports a value that matches nothing as
+ * {@code null}; {@link #parse(String)} throws one
+ * {@link IllegalArgumentException} naming the accepted values.</p>
+ *
+ * <h2>Cost</h2>
+ * <p>Tables are built once per enum class, on first use, and held in a
+ * {@link ClassValue}. A lookup is a hash lookup, plus a second one hashing
+ * characters ignoring case when the value is not spelled exactly; unlike
+ * {@link Enum#valueOf(Class, String)} or a loop over {@code values()}, it
+ * neither copies the constants nor uses exceptions for misses. Instances are
+ * immutable and thread-safe.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * public class BrowserTypeParser implements PropertyValueParser<BrowserType> {
+ *     private static final EnumLookup<BrowserType> BROWSERS = EnumLookup.of(BrowserType.class);
+ *
+ *     @Override
+ *     public BrowserType parse(String value) {
+ *         BrowserType browser = BROWSERS.find(value);
+ *         return browser != null ? browser : BrowserType.CHROME;
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <E> enum type
+ */
+public final class EnumLookup<E extends Enum<E>> implements PropertyValueParser<E> {
+    private static final ClassValue<EnumLookup<?>> LOOKUPS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumLookup<?> computeValue(Class<?> type) {
+            return new EnumLookup(type);
+        }
+    };
+
+    private final Class<E> type;
+    private final Map<String, E> exact;
+    /**
+     * Open-addressing table of every name and alias that identifies one
+     * constant ignoring case, hashed by {@link #foldedHash}, so that a lookup
+     * ignoring case neither lower-cases the value nor walks a tree.
+     */
+    private final String[] foldedKeys;
+    private final Object[] foldedValues;
+    private final String accepted;
+
+    private EnumLookup(Class<E> type) {
+        this.type = type;
+        Map<String, E> exact = new HashMap<>();
+        List<String> aliases = new ArrayList<>();
+        for (E constant : type.getEnumConstants()) {
+            exact.put(constant.name(), constant);
+        }
+        for (E constant : type.getEnumConstants()) {
+            for (String alias : aliases(constant)) {
+                E previous = exact.putIfAbsent(alias, constant);
+                if (previous == null) {
+                    aliases.add(alias);
+                } else if (previous != constant) {
+                    throw new IllegalStateException("Alias '" + alias + "' of " + type.getName() + "." + constant.name()
+                            + " is already used by " + previous.name());
+                }
+            }
+        }
+        Map<String, E> ignoringCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Set<String> ambiguous = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        exact.forEach((value, constant) -> {
+            E previous = ignoringCase.putIfAbsent(value, constant);
+            if (previous != null && previous != constant) {
+                ambiguous.add(value);
+            }
+        });
+        ambiguous.forEach(ignoringCase::remove);
+        this.exact = exact;
+        int capacity = Integer.highestOneBit(Math.max(1, ignoringCase.size()) * 2) * 2;
+        this.foldedKeys = new String[capacity];
+        this.foldedValues = new Object[capacity];
+        ignoringCase.forEach((value, constant) -> {
+            int slot = foldedHash(value) & (capacity - 1);
+            while (foldedKeys[slot] != null) {
+                slot = (slot + 1) & (capacity - 1);
+            }
+            foldedKeys[slot] = value;
+            foldedValues[slot] = constant;
+        });
+
+        StringBuilder accepted = new StringBuilder();
+        for (E constant : type.getEnumConstants()) {
+            accepted.append(accepted.isEmpty() ? "" : ", ").append(constant.name());
+        }
+        if (!aliases.isEmpty()) {
+            accepted.append(" or the alias").append(aliases.size() == 1 ? " " : "es ").append(String.join(", ", aliases));
+        }
+        this.accepted = accepted.toString();
+    }
+
+    /**
+     * Return the lookup table of {@code type}, building it on first use.
+     *
+     * @param type enum class
+     * @param <E>  enum type
+     * @return the shared table of {@code type}
+     * @throws IllegalArgumentException if {@code type} is not an enum class
+     * @throws IllegalStateException    if two constants of {@code type} declare
+     *                                  the same alias, or an alias equals
+     *                                  another constant's name
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumLookup<E> of(Class<E> type) {
+        if (!type.isEnum()) {
+            throw new IllegalArgumentException("Not an enum class: " + type.getName());
+        }
+        return (EnumLookup<E>) LOOKUPS.get(type);
+    }
+
+    /**
+     * @return the enum class of this table
+     */
+    public Class<E> type() {
+        return type;
+    }
+
+    /**
+     * Resolve {@code value} without failing.
+     *
+     * @param value property value, may be {@code null}
+     * @return the matching constant, or {@code null} if no constant or several
+     * constants match
+     */
+    public E find(String value) {
+        if (value == null) {
+            return null;
+        }
+        E constant = exact.get(value);
+        return constant != null ? constant : findIgnoringCase(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E findIgnoringCase(String value) {
+        int mask = foldedKeys.length - 1;
+        for (int slot = foldedHash(value) & mask; foldedKeys[slot] != null; slot = (slot + 1) & mask) {
+            if (foldedKeys[slot].equalsIgnoreCase(value)) {
+                return (E) foldedValues[slot];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Resolve {@code value}.
+     *
+     * @param value property value
+     * @return the matching constant
+     * @throws IllegalArgumentException if no constant matches, naming the
+     *                                  accepted values
+     */
+    @Override
+    public E parse(String value) {
+        E constant = find(value);
+        if (constant == null) {
+            throw new IllegalArgumentException("No " + type.getSimpleName() + " constant matches '" + value
+                    + "'; expected " + accepted + ", ignoring case");
+        }
+        return constant;
+    }
+
+    /**
+     * @return a hash equal for strings that are
+     * {@link String#equalsIgnoreCase(String) equal ignoring case}
+     */
+    private static int foldedHash(String value) {
+        int hash = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            // Same folding as equalsIgnoreCase, without the Character tables for ASCII
+            int folded = c < 0x80 ? (c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c)
+                    : Character.toLowerCase(Character.toUpperCase(c));
+            hash = 31 * hash + folded;
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static List<String> aliases(Enum<?> constant) {
+        try {
+            EnumAlias alias = constant.getDeclaringClass().getField(constant.name()).getAnnotation(EnumAlias.class);
+            return alias == null ? List.of() : List.of(alias.value());
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Enum constant without field: " + constant, e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package in.testautomationstudio.commons.parser;
+
+/**
+ * {@link PropertyValueParser} specialized for {@code float} values: binders
+ * assign {@link #parseFloat(String)} to {@code float} fields without
+ * boxing, as described for {@link IntPropertyValueParser}.
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * public class PercentParser implements FloatPropertyValueParser {
+ *     @Override
+ *     public float parseFloat(String value) {
+ *         return Float.parseFloat(value.trim().replace("%", "")) / 100f;
+ *     }
+ * }
+ *
+ * @PropertyKey(key = "sampling.rate", parser = PercentParser.class)
+ * private float samplingRate;
+ * }</pre>
+ */
+@FunctionalInterface
+public interface FloatPropertyValueParser extends PropertyValueParser<Float> {
+    /**
+     * Parse the provided string value into a {@code float}.
+     *
+     * @param value the raw property value, never blank when called by a binder
+     * @return the parsed value
+     */
+    float parseFloat(String value);
+
+    /**
+     * Parse the characters {@code [start, end)} of {@code text} into a
+     * {@code float}, as described for
+     * {@link IntPropertyValueParser#parseInt(CharSequence, int, int)}.
+     *
+     * @param text  characters holding the value
+     * @param start index of the first character of the value
+     * @param end   index after the last character of the value
+     * @return the parsed value
+     */
+    default float parseFloat(CharSequence text, int start, int end) {
+        return parseFloat(text.subSequence(start, end).toString());
+    }
+
+    /**
+     * Parse the provided string value into a boxed {@code float}.
+     *
+     * @param value the raw property value
+     * @return the result of {@link #parseFloat(String)}, boxed
+     */
+    @Override
+    default Float parse(String value) {
+        return parseFloat(value);
+    }
+}
@@ -0,0 +1,73 @@
+package in.testautomationstudio.commons.parser;
+
+/**
+ * {@link PropertyValueParser} specialized for {@code int} values.
+ *
+ * <p>Binders write the result of {@link #parseInt(String)} straight into
+ * {@code int} fields, so converting and assigning such a field boxes
+ * nothing. {@link #parse(String)} is kept for {@code Integer} fields and
+ * other callers, and boxes the result.</p>
+ *
+ * <p>The built-in conversion of {@code int} and {@code Integer} fields is
+ * an instance of this interface; implement it for custom {@code int}
+ * parsers too. The contract of {@link PropertyValueParser} applies.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * public class PortParser implements IntPropertyValueParser {
+ *     @Override
+ *     public int parseInt(String value) {
+ *         int port = Integer.parseInt(value.trim());
+ *         if (port < 1 || port > 65535) {
+ *             throw new IllegalArgumentException("Not a port: " + value);
+ *         }
+ *         return port;
+ *     }
+ * }
+ *
+ * @PropertyKey(key = "app.port", parser = PortParser.class)
+ * private int port;
+ * }</pre>
+ */
+@FunctionalInterface
+public interface IntPropertyValueParser extends PropertyValueParser<Integer> {
+    /**
+     * Parse the provided string value into an {@code int}.
+     *
+     * @param value the raw property value, never blank when called by a binder
+     * @return the parsed value
+     */
+    int parseInt(String value);
+
+    /**
+     * Parse the characters {@code [start, end)} of {@code text} into an
+     * {@code int}. Binders call this with a range of the loaded file when
+     * the {@link in.testautomationstudio.commons.source.PropertySource}
+     * keeps values unmaterialized, so the value never becomes a
+     * {@link String}.
+     *
+     * <p>The default copies the range into a string, which is free when
+     * {@code text} is a string and the range covers all of it, and calls
+     * {@link #parseInt(String)}. Override it when the conversion can read
+     * the characters in place.</p>
+     *
+     * @param text  characters holding the value
+     * @param start index of the first character of the value
+     * @param end   index after the last character of the value
+     * @return the parsed value
+     */
+    default int parseInt(CharSequence text, int start, int end) {
+        return parseInt(text.subSequence(start, end).toString());
+    }
+
+    /**
+     * Parse the provided string value into a boxed {@code int}.
+     *
+     * @param value the raw property value
+     * @return the result of {@link #parseInt(String)}, boxed
+     */
+    @Override
+    default Integer parse(String value) {
+        return parseInt(value);
+    }
+}
@@ -0,0 +1,55 @@
+package in.testautomationstudio.commons.parser;
+
+/**
+ * {@link PropertyValueParser} specialized for {@code long} values: binders
+ * assign {@link #parseLong(String)} to {@code long} fields without
+ * boxing, as described for {@link IntPropertyValueParser}.
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * public class DurationMillisParser implements LongPropertyValueParser {
+ *     @Override
+ *     public long parseLong(String value) {
+ *         return Duration.parse(value.trim()).toMillis();
+ *     }
+ * }
+ *
+ * @PropertyKey(key = "session.timeout", parser = DurationMillisParser.class)
+ * private long sessionTimeoutMillis;
+ * }</pre>
+ */
+@FunctionalInterface
+public interface LongPropertyValueParser extends PropertyValueParser<Long> {
+    /**
+     * Parse the provided string value into a {@code long}.
+     *
+     * @param value the raw property value, never blank when called by a binder
+     * @return the parsed value
+     */
+    long parseLong(String value);
+
+    /**
+     * Parse the characters {@code [start, end)} of {@code text} into a
+     * {@code long}, as described for
+     * {@link IntPropertyValueParser#parseInt(CharSequence, int, int)}.
+     *
+     * @param text  characters holding the value
+     * @param start index of the first character of the value
+     * @param end   index after the last character of the value
+     * @return the parsed value
+     */
+    default long parseLong(CharSequence text, int start, int end) {
+        return parseLong(text.subSequence(start, end).toString());
+    }
+
+    /**
+     * Parse the provided string value into a boxed {@code long}.
+     *
+     * @param value the raw property value
+     * @return the result of {@link #parseLong(String)}, boxed
+     */
+    @Override
+    default Long parse(String value) {
+        return parseLong(value);
+    }
+}
@@ -0,0 +1,94 @@
+package in.testautomationstudio.commons.parser;
+
+import in.testautomationstudio.commons.annotation.StatefulParser;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide registry of {@link PropertyValueParser} instances, keyed by
+ * parser class.
+ *
+ * <p>Binders resolve the parser named in
+ * {@link in.testautomationstudio.commons.annotation.PropertyKey#parser()}
+ * through this registry instead of instantiating it for every field and every
+ * load. Each parser class is instantiated once, through its no-argument
+ * constructor, and the instance is shared across fields, beans, readers and
+ * threads.</p>
+ *
+ * <h2>Rules</h2>
+ * <ul>
+ *   <li>An instance supplied with {@link #register(Class, PropertyValueParser)}
+ *       is always returned for its class. Register parsers before the first
+ *       bind of a class that uses them: binders resolve their parsers once.</li>
+ *   <li>Parser classes annotated with {@link StatefulParser} are never cached:
+ *       {@link #getParser(Class)} returns a new instance on every call.</li>
+ *   <li>Other parser classes are instantiated lazily, once, and must
+ *       therefore be thread-safe.</li>
+ * </ul>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * // Share a pre-configured parser instead of letting the registry create one
+ * ParserRegistry.register(BrowserTypeParser.class, new BrowserTypeParser());
+ *
+ * BrowserTypeParser parser = ParserRegistry.getParser(BrowserTypeParser.class);
+ * }</pre>
+ */
+public final class ParserRegistry {
+    private static final ConcurrentMap<Class<?>, PropertyValueParser<?>> PARSERS = new ConcurrentHashMap<>();
+
+    private ParserRegistry() {
+    }
+
+    /**
+     * Return the parser instance to use for {@code parserClass}.
+     *
+     * @param parserClass parser implementation class
+     * @param <P>         parser type
+     * @return the registered or shared instance, or a new instance for
+     * {@link StatefulParser} classes without a registered instance
+     * @throws RuntimeException if the parser has to be created and cannot be instantiated
+     */
+    public static <P extends PropertyValueParser<?>> P getParser(Class<P> parserClass) {
+        PropertyValueParser<?> parser = PARSERS.get(parserClass);
+        if (parser != null) {
+            return parserClass.cast(parser);
+        }
+        if (isStateful(parserClass)) {
+            return newInstance(parserClass);
+        }
+        return parserClass.cast(PARSERS.computeIfAbsent(parserClass, type -> newInstance(parserClass)));
+    }
+
+    /**
+     * Use {@code parser} for every binding that names {@code parserClass},
+     * replacing any instance registered or created before.
+     *
+     * @param parserClass parser implementation class
+     * @param parser      instance to share
+     * @param <P>         parser type
+     */
+    public static <P extends PropertyValueParser<?>> void register(Class<P> parserClass, P parser) {
+        PARSERS.put(parserClass, Objects.requireNonNull(parser, "parser"));
+    }
+
+    /**
+     * Whether instances of {@code parserClass} must not be shared.
+     *
+     * @param parserClass parser implementation class
+     * @return {@code true} if the class is annotated with {@link StatefulParser}
+     */
+    public static boolean isStateful(Class<?> parserClass) {
+        return parserClass.isAnnotationPresent(StatefulParser.class);
+    }
+
+    private static <P> P newInstance(Class<P> parserClass) {
+        try {
+            return parserClass.getDeclaredConstructor().newInstance();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to instantiate custom PropertyValueParser: " + parserClass, e);
+        }
+    }
+}
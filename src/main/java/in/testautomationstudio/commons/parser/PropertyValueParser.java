@@ -16,10 +16,22 @@ package in.testautomationstudio.commons.parser;
  *       the needs of the consumer — either by returning {@code null}, a
  *       sensible default, or by throwing an unchecked exception. Document the
  *       chosen behavior in your implementation.</li>
- *   <li>Implementations are typically stateless and can be reused across
- *       multiple bindings; if state is required, ensure thread-safety.</li>
+ *   <li>Implementations are typically stateless: binders obtain one shared
+ *       instance per parser class from {@link ParserRegistry} and use it
+ *       across fields, beans and threads. If state is required, either ensure
+ *       thread-safety or annotate the class with
+ *       {@link in.testautomationstudio.commons.annotation.StatefulParser} to
+ *       get a fresh instance for every value.</li>
  * </ul>
  *
+ * <h2>Primitive specializations</h2>
+ * <p>A parser producing {@code int}, {@code long}, {@code float},
+ * {@code double} or {@code boolean} values can implement
+ * {@link IntPropertyValueParser}, {@link LongPropertyValueParser},
+ * {@link FloatPropertyValueParser}, {@link DoublePropertyValueParser} or
+ * {@link BooleanPropertyValueParser} instead, so fields of the primitive
+ * type are bound without boxing.</p>
+ *
  * <h2>Usage example</h2>
  * <pre>{@code
  * // A parser for integers
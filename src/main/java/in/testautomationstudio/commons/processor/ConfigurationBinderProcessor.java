@@ -0,0 +1,516 @@
+package in.testautomationstudio.commons.processor;
+
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.annotation.StatefulParser;
+import in.testautomationstudio.commons.jfr.ConfigurationEvents;
+import in.testautomationstudio.commons.parser.BooleanPropertyValueParser;
+import in.testautomationstudio.commons.parser.DefaultPropertyValueParser;
+import in.testautomationstudio.commons.parser.DoublePropertyValueParser;
+import in.testautomationstudio.commons.parser.EnumLookup;
+import in.testautomationstudio.commons.parser.FloatPropertyValueParser;
+import in.testautomationstudio.commons.parser.IntPropertyValueParser;
+import in.testautomationstudio.commons.parser.LongPropertyValueParser;
+import in.testautomationstudio.commons.parser.ParserRegistry;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import in.testautomationstudio.commons.reader.BinderSupport;
+import in.testautomationstudio.commons.reader.ConfigurationBinder;
+import in.testautomationstudio.commons.source.PropertyValueConsumer;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates a reflection-free
+ * {@link ConfigurationBinder} for every class declaring {@link PropertyKey}
+ * fields.
+ *
+ * <p>For a class {@code com.acme.QAConfig} the processor writes
+ * {@code com.acme.QAConfigBinder}, whose {@code bind} method reads each key
+ * from the {@link in.testautomationstudio.commons.source.PropertySource},
+ * converts it with the same rules as
+ * {@link in.testautomationstudio.commons.reader.PropertiesReader} and assigns
+ * the field. {@code PropertiesReader} picks the generated class up by name at
+ * runtime and only falls back to reflection when it is absent.</p>
+ *
+ * <h2>Generated code</h2>
+ * <ul>
+ *   <li>Non-private fields are assigned directly.</li>
+ *   <li>Private fields are written through a {@code static final}
+ *       {@link java.lang.invoke.VarHandle} resolved once by field name, which
+ *       the JIT treats as a constant. Finding it is a reflective lookup
+ *       ({@code privateLookupIn} and {@code findVarHandle}): ahead-of-time
+ *       compilers such as GraalVM {@code native-image} need those fields
+ *       registered for reflection. Binders of classes whose bound fields are
+ *       all non-private use no reflection at all.</li>
+ *   <li>Built-in primitive types call {@code Integer.parseInt},
+ *       {@code Long.parseLong}, {@code Float.parseFloat},
+ *       {@code Double.parseDouble} or {@code Boolean.parseBoolean}, and their
+ *       wrappers the matching {@code valueOf}; enums use a shared {@link EnumLookup}; custom
+ *       parsers are obtained once from {@link ParserRegistry}, or on every
+ *       bind for {@link StatefulParser} classes, and wrapped with
+ *       {@link ConfigurationEvents#timed} so slow conversions show up in
+ *       Flight Recorder recordings.</li>
+ *   <li>A custom parser of a primitive field that implements the matching
+ *       specialization, such as {@link IntPropertyValueParser}, is called
+ *       through {@code parseInt} and friends, so the value is never
+ *       boxed.</li>
+ *   <li>Primitive fields with a built-in or specialized parser are read with
+ *       {@code PropertySource.consumeProperty} through a
+ *       {@code static final} {@link PropertyValueConsumer} per field, which
+ *       converts the range with the parser's range overload (the
+ *       {@link BinderSupport} parsers for built-in types), so the value never
+ *       becomes a {@link String}. The default value is converted from its
+ *       string when the key is absent.</li>
+ *   <li>Static and final fields are ignored, as in the reflective path. A
+ *       class with no other {@link PropertyKey} fields, such as a record,
+ *       gets no binder at all.</li>
+ * </ul>
+ *
+ * <h2>Skipped classes</h2>
+ * <p>No binder is generated (and the reflective path is used instead) when
+ * the class, a field type or a parser type cannot be referenced from the
+ * class's package, or when a field without parser is not assignable from
+ * {@link String}. A compiler note names the class and the reason.</p>
+ *
+ * <h2>Usage</h2>
+ * <p>The processor is registered through {@code META-INF/services}, so it runs
+ * whenever this library is on the compile classpath and annotation processing
+ * is enabled (for example {@code -proc:full} on recent JDKs).</p>
+ */
+@SupportedAnnotationTypes("in.testautomationstudio.commons.annotation.PropertyKey")
+public class ConfigurationBinderProcessor extends AbstractProcessor {
+    private static final String PROPERTY_KEY = PropertyKey.class.getCanonicalName();
+    private static final String DEFAULT_PARSER = DefaultPropertyValueParser.class.getCanonicalName();
+    private static final String REGISTRY = ParserRegistry.class.getCanonicalName();
+    private static final String EVENTS = ConfigurationEvents.class.getCanonicalName();
+    private static final String PARSER = PropertyValueParser.class.getCanonicalName();
+    private static final String ENUM_LOOKUP = EnumLookup.class.getCanonicalName();
+    private static final String CONSUMER = PropertyValueConsumer.class.getCanonicalName();
+    private static final String SUPPORT = BinderSupport.class.getCanonicalName();
+    private static final Map<String, String> BUILT_IN_PARSERS = Map.of(
+            "int", "java.lang.Integer.parseInt",
+            "long", "java.lang.Long.parseLong",
+            "float", "java.lang.Float.parseFloat",
+            "double", "java.lang.Double.parseDouble",
+            "boolean", "java.lang.Boolean.parseBoolean");
+    /**
+     * The {@code valueOf(String)} methods return the wrapper type itself, so
+     * the converted value needs no boxing cast.
+     */
+    private static final Map<String, String> BUILT_IN_WRAPPER_PARSERS = Map.of(
+            "java.lang.Integer", "java.lang.Integer.valueOf",
+            "java.lang.Long", "java.lang.Long.valueOf",
+            "java.lang.Float", "java.lang.Float.valueOf",
+            "java.lang.Double", "java.lang.Double.valueOf",
+            "java.lang.Boolean", "java.lang.Boolean.valueOf");
+    private static final Map<String, String> SPECIALIZED_PARSERS = Map.of(
+            "int", IntPropertyValueParser.class.getCanonicalName(),
+            "long", LongPropertyValueParser.class.getCanonicalName(),
+            "float", FloatPropertyValueParser.class.getCanonicalName(),
+            "double", DoublePropertyValueParser.class.getCanonicalName(),
+            "boolean", BooleanPropertyValueParser.class.getCanonicalName());
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> configurationTypes = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(PropertyKey.class)) {
+            if (element.getKind() == ElementKind.FIELD) {
+                configurationTypes.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (TypeElement type : configurationTypes) {
+            try {
+                generateBinder(type);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to write ConfigurationBinder: " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    private void generateBinder(TypeElement type) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String binderName = ConfigurationBinder.binderClassName(binaryName);
+        String binderSimpleName = binderName.substring(binderName.lastIndexOf('.') + 1);
+        String typeName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+
+        if (!isAccessible(type, packageName)) {
+            skip(type, "the class is not accessible from package " + packageName);
+            return;
+        }
+        List<FieldModel> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            AnnotationMirror propertyKey = propertyKey(field);
+            if (propertyKey == null || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+                continue;
+            }
+            FieldModel model = fieldModel(field, propertyKey, packageName);
+            if (model.skipReason != null) {
+                skip(type, model.skipReason);
+                return;
+            }
+            fields.add(model);
+        }
+        if (fields.isEmpty()) {
+            // Records and constructor-bound classes have nothing to assign
+            return;
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("public final class ").append(binderSimpleName)
+                .append(" implements in.testautomationstudio.commons.reader.ConfigurationBinder<")
+                .append(typeName).append("> {\n");
+        appendConstants(source, typeName, fields);
+        appendConsumers(source, typeName, fields);
+        source.append("\n    @Override\n")
+                .append("    public void bind(").append(typeName)
+                .append(" bean, in.testautomationstudio.commons.source.PropertySource source) {\n");
+        for (int i = 0; i < fields.size(); i++) {
+            appendBinding(source, fields.get(i), i);
+        }
+        source.append("    }\n}\n");
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(binderName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private void appendConstants(StringBuilder source, String typeName, List<FieldModel> fields) {
+        boolean hasPrivate = false;
+        for (int i = 0; i < fields.size(); i++) {
+            FieldModel field = fields.get(i);
+            if (field.parserType != null && !field.statefulParser) {
+                if (field.specialization != null) {
+                    source.append("    private static final ").append(field.specialization).append(" PARSER_").append(i)
+                            .append(" = (").append(field.specialization).append(") ").append(timedParser(field))
+                            .append(";\n");
+                } else {
+                    source.append("    private static final ").append(PARSER).append(" PARSER_").append(i)
+                            .append(" = ").append(timedParser(field)).append(";\n");
+                }
+            } else if (field.parserType == null && field.builtInParser == null && field.isEnum) {
+                source.append("    private static final ").append(ENUM_LOOKUP).append("<").append(field.erasure)
+                        .append("> PARSER_").append(i).append(" = ").append(ENUM_LOOKUP).append(".of(")
+                        .append(field.erasure).append(".class);\n");
+            }
+            if (field.isPrivate) {
+                source.append("    private static final java.lang.invoke.VarHandle FIELD_").append(i).append(";\n");
+                hasPrivate = true;
+            }
+        }
+        if (!hasPrivate) {
+            return;
+        }
+        source.append("\n    static {\n")
+                .append("        try {\n")
+                .append("            java.lang.invoke.MethodHandles.Lookup lookup = java.lang.invoke.MethodHandles.privateLookupIn(")
+                .append(typeName).append(".class, java.lang.invoke.MethodHandles.lookup());\n");
+        for (int i = 0; i < fields.size(); i++) {
+            FieldModel field = fields.get(i);
+            if (field.isPrivate) {
+                source.append("            FIELD_").append(i).append(" = lookup.findVarHandle(").append(typeName)
+                        .append(".class, ").append(literal(field.name)).append(", ")
+                        .append(field.erasure).append(".class);\n");
+            }
+        }
+        source.append("        } catch (java.lang.ReflectiveOperationException e) {\n")
+                .append("            throw new java.lang.ExceptionInInitializerError(e);\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    /**
+     * Declare a {@code CONSUMER_i} for every field read as a range. They come
+     * after the static initializer, which assigns the {@code FIELD_i} handles
+     * they use.
+     */
+    private void appendConsumers(StringBuilder source, String typeName, List<FieldModel> fields) {
+        for (int i = 0; i < fields.size(); i++) {
+            FieldModel field = fields.get(i);
+            if (!field.slice) {
+                continue;
+            }
+            String parser;
+            if (field.specialization == null) {
+                parser = SUPPORT + "." + field.erasure.toUpperCase(Locale.ROOT);
+            } else {
+                parser = field.statefulParser
+                        ? "((" + field.specialization + ") " + timedParser(field) + ")"
+                        : "PARSER_" + i;
+            }
+            source.append("\n    private static final ").append(CONSUMER).append(" CONSUMER_").append(i)
+                    .append(" = (target, text, start, end) -> {\n")
+                    .append("        if (!").append(SUPPORT).append(".isBlank(text, start, end)) {\n")
+                    .append("            ").append(assignment(field, i,
+                            field.isPrivate ? "(" + typeName + ") target" : "((" + typeName + ") target)",
+                            parser + "." + field.specializedMethod + "(text, start, end)")).append(";\n")
+                    .append("        }\n")
+                    .append("    };\n");
+        }
+    }
+
+    private void appendBinding(StringBuilder source, FieldModel field, int index) {
+        String value = "value" + index;
+        if (field.slice) {
+            String consume = "source.consumeProperty(" + literal(field.key) + ", bean, CONSUMER_" + index + ")";
+            if (field.defaultValue.isBlank()) {
+                source.append("        ").append(consume).append(";\n");
+                return;
+            }
+            // The default value only applies when the key is absent
+            source.append("        if (!").append(consume).append(") {\n")
+                    .append("            java.lang.String ").append(value).append(" = ")
+                    .append(literal(field.defaultValue)).append(";\n")
+                    .append("            ").append(assignment(field, index, "bean", converted(field, index, value)))
+                    .append(";\n")
+                    .append("        }\n");
+            return;
+        }
+        source.append("        java.lang.String ").append(value).append(" = source.getProperty(")
+                .append(literal(field.key)).append(", ").append(literal(field.defaultValue)).append(");\n")
+                .append("        if (!org.apache.commons.lang3.StringUtils.isBlank(").append(value).append(")) {\n")
+                .append("            ").append(assignment(field, index, "bean", converted(field, index, value)))
+                .append(";\n")
+                .append("        }\n");
+    }
+
+    /**
+     * @return expression converting the string {@code value} for the field
+     */
+    private static String converted(FieldModel field, int index, String value) {
+        // The converted expression always has the erased field type, which keeps VarHandle calls exact
+        if (field.specialization != null) {
+            String parser = field.statefulParser
+                    ? "((" + field.specialization + ") " + timedParser(field) + ")"
+                    : "PARSER_" + index;
+            return parser + "." + field.specializedMethod + "(" + value + ")";
+        } else if (field.parserType != null) {
+            String parser = field.statefulParser ? timedParser(field) : "PARSER_" + index;
+            // Raw parsers return Object; casting to a primitive also unboxes
+            return "(" + field.erasure + ") " + parser + ".parse(" + value + ")";
+        } else if (field.builtInParser != null) {
+            return field.builtInParser + "(" + value + ")";
+        } else if (field.isEnum || field.erasure.equals("java.lang.String") || !field.isPrivate) {
+            return field.isEnum ? "PARSER_" + index + ".parse(" + value + ")" : value;
+        }
+        // Widened for the VarHandle of a field declared as a supertype of String
+        return "(" + field.erasure + ") " + value;
+    }
+
+    /**
+     * @return statement storing {@code converted} into the field of {@code bean}
+     */
+    private static String assignment(FieldModel field, int index, String bean, String converted) {
+        return field.isPrivate
+                ? "FIELD_" + index + ".set(" + bean + ", " + converted + ")"
+                : bean + "." + field.name + " = " + converted;
+    }
+
+    /**
+     * @return expression obtaining the field's parser from the registry,
+     * wrapped to record slow conversions
+     */
+    private static String timedParser(FieldModel field) {
+        return EVENTS + ".timed(" + field.parserType + ".class, " + literal(field.key) + ", "
+                + REGISTRY + ".getParser(" + field.parserType + ".class))";
+    }
+
+    private FieldModel fieldModel(VariableElement field, AnnotationMirror propertyKey, String packageName) {
+        FieldModel model = new FieldModel();
+        model.name = field.getSimpleName().toString();
+        model.isPrivate = field.getModifiers().contains(Modifier.PRIVATE);
+        TypeMirror fieldType = field.asType();
+        model.erasure = processingEnv.getTypeUtils().erasure(fieldType).toString();
+        model.isPrimitive = fieldType.getKind().isPrimitive();
+        if (fieldType.getKind() == TypeKind.DECLARED) {
+            TypeElement fieldTypeElement = (TypeElement) ((DeclaredType) fieldType).asElement();
+            if (!isAccessible(fieldTypeElement, packageName)) {
+                model.skipReason = "the type of field " + model.name + " is not accessible";
+                return model;
+            }
+            model.isEnum = fieldTypeElement.getKind() == ElementKind.ENUM;
+        }
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(propertyKey).entrySet()) {
+            String name = entry.getKey().getSimpleName().toString();
+            Object value = entry.getValue().getValue();
+            switch (name) {
+                case "key" -> model.key = (String) value;
+                case "defaultValue" -> model.defaultValue = (String) value;
+                case "parser" -> {
+                    TypeElement parser = (TypeElement) ((DeclaredType) value).asElement();
+                    if (!parser.getQualifiedName().contentEquals(DEFAULT_PARSER)) {
+                        if (!isAccessible(parser, packageName)) {
+                            model.skipReason = "the parser of field " + model.name + " is not accessible";
+                            return model;
+                        }
+                        model.parserType = parser.getQualifiedName().toString();
+                        model.statefulParser = parser.getAnnotation(StatefulParser.class) != null;
+                        if (model.isPrimitive && implementsSpecialization(parser, model.erasure)) {
+                            model.specialization = SPECIALIZED_PARSERS.get(model.erasure);
+                            model.specializedMethod = "parse" + Character.toUpperCase(model.erasure.charAt(0))
+                                    + model.erasure.substring(1);
+                        }
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        if (model.parserType == null) {
+            model.builtInParser = (model.isPrimitive ? BUILT_IN_PARSERS : BUILT_IN_WRAPPER_PARSERS).get(model.erasure);
+            if (model.isPrimitive && model.builtInParser != null) {
+                model.specializedMethod = "parse" + Character.toUpperCase(model.erasure.charAt(0))
+                        + model.erasure.substring(1);
+            }
+            if (model.builtInParser == null && !model.isEnum && !isAssignableFromString(fieldType)) {
+                model.skipReason = "field " + model.name + " has no parser and is not assignable from String";
+            }
+        }
+        model.slice = model.specializedMethod != null;
+        return model;
+    }
+
+    private AnnotationMirror propertyKey(Element field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(PROPERTY_KEY)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Whether {@code parser} implements the primitive specialization of
+     * {@link PropertyValueParser} for the primitive type named {@code primitive}.
+     */
+    private boolean implementsSpecialization(TypeElement parser, String primitive) {
+        String specialization = SPECIALIZED_PARSERS.get(primitive);
+        if (specialization == null) {
+            return false;
+        }
+        TypeElement specializationType = processingEnv.getElementUtils().getTypeElement(specialization);
+        return specializationType != null && processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(parser.asType()), specializationType.asType());
+    }
+
+    private boolean isAssignableFromString(TypeMirror type) {
+        TypeMirror string = processingEnv.getElementUtils().getTypeElement("java.lang.String").asType();
+        return processingEnv.getTypeUtils().isAssignable(string, type);
+    }
+
+    /**
+     * Whether {@code type} can be referenced from code in {@code packageName}.
+     */
+    private boolean isAccessible(TypeElement type, String packageName) {
+        boolean samePackage = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName()
+                .contentEquals(packageName);
+        Element current = type;
+        while (current instanceof TypeElement typeElement) {
+            Set<Modifier> modifiers = typeElement.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || typeElement.getNestingKind() == NestingKind.LOCAL
+                    || typeElement.getNestingKind() == NestingKind.ANONYMOUS
+                    || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+                return false;
+            }
+            current = typeElement.getEnclosingElement();
+        }
+        return current instanceof PackageElement;
+    }
+
+    private void skip(TypeElement type, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "No ConfigurationBinder generated for " + type.getQualifiedName() + ": " + reason
+                        + "; the reflective binder will be used", type);
+    }
+
+    private static String literal(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * What the generator needs to know about one bindable field.
+     */
+    private static final class FieldModel {
+        private String name;
+        private String key;
+        private String defaultValue;
+        private String erasure;
+        private String parserType;
+        private String specialization;
+        private String specializedMethod;
+        private String builtInParser;
+        private boolean isPrivate;
+        private boolean isPrimitive;
+        private boolean isEnum;
+        private boolean statefulParser;
+        /**
+         * Whether the field is primitive with a built-in or specialized
+         * parser, so its value is read as a range through a consumer.
+         */
+        private boolean slice;
+        private String skipReason;
+    }
+}
@@ -0,0 +1,234 @@
+package in.testautomationstudio.commons.processor;
+
+import in.testautomationstudio.commons.annotation.Configuration;
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.reader.ConfigurationIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that writes an index of every {@link Configuration}
+ * class to {@value ConfigurationIndex#LOCATION}.
+ *
+ * <p>For each class the index records its binary name, its
+ * {@link Configuration#filePath()} template (placeholders unresolved), how it
+ * is loaded, and its keys, each marked as required (no default value) or
+ * optional. The keys of a class are those of its mutable {@link PropertyKey}
+ * fields; the keys of a record are those of its components, and of a class
+ * without such fields those of its single constructor whose parameters all
+ * carry {@link PropertyKey}; the keys of an interface are those of its
+ * {@link PropertyKey} getters, including inherited ones, where a
+ * {@code default} method body also makes the key optional. {@link ConfigurationIndex} reads the index
+ * files of all jars at runtime, so configuration classes can be found,
+ * preloaded and validated without scanning the classpath.</p>
+ *
+ * <h2>Format</h2>
+ * <p>UTF-8 text, one tab-separated record per line:</p>
+ * <pre>
+ * class    com.acme.QAConfig    ${env}-configurations.properties    bean
+ * key      service.url          optional
+ * key      service.token        required
+ * class    com.acme.GridConfig  grid.properties                     proxy
+ * key      grid.url             required
+ * class    com.acme.Browser     browser.properties                  constructor
+ * key      browser.name         required
+ * </pre>
+ * <p>The last field of a {@code class} record names the
+ * {@link ConfigurationIndex.Kind}: {@code bean} for classes bound with
+ * {@code loadBean}, {@code constructor} for records and classes created by
+ * {@code read}, {@code proxy} for interfaces implemented by
+ * {@code loadProxy}. {@code key} records belong to the closest preceding
+ * {@code class} record. Lines starting with {@code #} are comments.</p>
+ *
+ * <h2>Usage</h2>
+ * <p>Like {@link ConfigurationBinderProcessor}, the processor is registered
+ * through {@code META-INF/services}. The index is written once per
+ * compilation, so it lists the classes of that compilation: incremental
+ * builds that recompile a subset of classes should rebuild the module.</p>
+ */
+@SupportedAnnotationTypes("in.testautomationstudio.commons.annotation.Configuration")
+public class ConfigurationIndexProcessor extends AbstractProcessor {
+    private final Map<String, String> records = new LinkedHashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Configuration.class)) {
+            if (element instanceof TypeElement type) {
+                String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+                records.put(binaryName, record(binaryName, type));
+            }
+        }
+        if (roundEnv.processingOver() && !records.isEmpty()) {
+            try {
+                writeIndex();
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Failed to write " + ConfigurationIndex.LOCATION + ": " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private String record(String binaryName, TypeElement type) {
+        StringBuilder record = new StringBuilder()
+                .append("class\t").append(binaryName)
+                .append('\t').append(type.getAnnotation(Configuration.class).filePath());
+        if (type.getKind() == ElementKind.INTERFACE) {
+            record.append("\tproxy\n");
+            for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+                PropertyKey propertyKey = method.getAnnotation(PropertyKey.class);
+                if (propertyKey != null && method.getParameters().isEmpty()) {
+                    appendKey(record, propertyKey, method.isDefault());
+                }
+            }
+            return record.toString();
+        }
+        String kind = "constructor";
+        List<PropertyKey> keys = type.getKind() == ElementKind.RECORD ? componentKeys(type) : constructorKeys(type);
+        List<PropertyKey> fieldKeys = fieldKeys(type);
+        if (keys == null || !fieldKeys.isEmpty()) {
+            // Classes with fields to assign are beans, as they were before constructor binding
+            kind = "bean";
+            keys = fieldKeys;
+        }
+        record.append('\t').append(kind).append('\n');
+        for (PropertyKey propertyKey : keys) {
+            appendKey(record, propertyKey, false);
+        }
+        return record.toString();
+    }
+
+    /**
+     * @return the keys of the non-static, non-final fields of {@code type},
+     * which {@code loadBean} assigns
+     */
+    private static List<PropertyKey> fieldKeys(TypeElement type) {
+        List<PropertyKey> keys = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            PropertyKey propertyKey = field.getAnnotation(PropertyKey.class);
+            Set<Modifier> modifiers = field.getModifiers();
+            if (propertyKey != null && !modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.FINAL)) {
+                keys.add(propertyKey);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @return the keys of the components of the record {@code type}, taken
+     * from the component's field or else from the parameter of an explicit
+     * canonical constructor; components without a key are left out
+     */
+    private List<PropertyKey> componentKeys(TypeElement type) {
+        List<? extends RecordComponentElement> components = ElementFilter.recordComponentsIn(type.getEnclosedElements());
+        ExecutableElement canonical = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (isCanonical(constructor, components)) {
+                canonical = constructor;
+            }
+        }
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            fields.put(field.getSimpleName().toString(), field);
+        }
+        List<PropertyKey> keys = new ArrayList<>();
+        for (int i = 0; i < components.size(); i++) {
+            VariableElement field = fields.get(components.get(i).getSimpleName().toString());
+            PropertyKey propertyKey = field != null ? field.getAnnotation(PropertyKey.class) : null;
+            if (propertyKey == null && canonical != null) {
+                propertyKey = canonical.getParameters().get(i).getAnnotation(PropertyKey.class);
+            }
+            if (propertyKey != null) {
+                keys.add(propertyKey);
+            }
+        }
+        return keys;
+    }
+
+    private boolean isCanonical(ExecutableElement constructor, List<? extends RecordComponentElement> components) {
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        if (parameters.size() != components.size()) {
+            return false;
+        }
+        for (int i = 0; i < parameters.size(); i++) {
+            if (!processingEnv.getTypeUtils().isSameType(processingEnv.getTypeUtils().erasure(parameters.get(i).asType()),
+                    processingEnv.getTypeUtils().erasure(components.get(i).asType()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the keys of the parameters of the single constructor of
+     * {@code type} whose parameters all carry {@link PropertyKey}, or
+     * {@code null} if there is no such constructor or more than one
+     */
+    private static List<PropertyKey> constructorKeys(TypeElement type) {
+        List<PropertyKey> keys = null;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            List<PropertyKey> parameterKeys = new ArrayList<>();
+            for (VariableElement parameter : constructor.getParameters()) {
+                PropertyKey propertyKey = parameter.getAnnotation(PropertyKey.class);
+                if (propertyKey == null) {
+                    parameterKeys = null;
+                    break;
+                }
+                parameterKeys.add(propertyKey);
+            }
+            if (parameterKeys == null || parameterKeys.isEmpty()) {
+                continue;
+            }
+            if (keys != null) {
+                return null;
+            }
+            keys = parameterKeys;
+        }
+        return keys;
+    }
+
+    private static void appendKey(StringBuilder record, PropertyKey propertyKey, boolean hasFallback) {
+        boolean optional = hasFallback || !propertyKey.defaultValue().isEmpty();
+        record.append("key\t").append(propertyKey.key())
+                .append('\t').append(optional ? "optional" : "required").append('\n');
+    }
+
+    private void writeIndex() throws IOException {
+        FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                ConfigurationIndex.LOCATION);
+        try (Writer writer = new OutputStreamWriter(index.openOutputStream(), StandardCharsets.UTF_8)) {
+            writer.write("# Generated by " + ConfigurationIndexProcessor.class.getName() + "\n");
+            for (String record : records.values()) {
+                writer.write(record);
+            }
+        }
+    }
+}
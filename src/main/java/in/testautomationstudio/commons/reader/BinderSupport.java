@@ -0,0 +1,68 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.parser.BooleanPropertyValueParser;
+import in.testautomationstudio.commons.parser.DoublePropertyValueParser;
+import in.testautomationstudio.commons.parser.FloatPropertyValueParser;
+import in.testautomationstudio.commons.parser.IntPropertyValueParser;
+import in.testautomationstudio.commons.parser.LongPropertyValueParser;
+
+/**
+ * Built-in conversions shared by every binder, whether built at runtime,
+ * defined as a hidden class or generated at compile time.
+ *
+ * <p>Binders pass the value of a primitive field to
+ * {@link in.testautomationstudio.commons.source.PropertySource#consumeProperty}
+ * as a range of the loaded file, skip it when {@link #isBlank blank} and
+ * convert it with the range overload of the built-in parser, such as
+ * {@link IntPropertyValueParser#parseInt(CharSequence, int, int)}, so the
+ * value never becomes a {@link String}. The parsers accept and reject
+ * exactly what {@link Integer#parseInt(String)} and friends do.</p>
+ *
+ * <p>The members are public so that generated binders, which live in the
+ * package of their configuration class, can reach them; applications do not
+ * need to use them.</p>
+ */
+public final class BinderSupport {
+    /**
+     * Built-in conversion of {@code int} and {@code Integer} values.
+     */
+    public static final IntPropertyValueParser INT = PrimitiveParsers.INT;
+    /**
+     * Built-in conversion of {@code long} and {@code Long} values.
+     */
+    public static final LongPropertyValueParser LONG = PrimitiveParsers.LONG;
+    /**
+     * Built-in conversion of {@code float} and {@code Float} values.
+     */
+    public static final FloatPropertyValueParser FLOAT = PrimitiveParsers.FLOAT;
+    /**
+     * Built-in conversion of {@code double} and {@code Double} values.
+     */
+    public static final DoublePropertyValueParser DOUBLE = PrimitiveParsers.DOUBLE;
+    /**
+     * Built-in conversion of {@code boolean} and {@code Boolean} values.
+     */
+    public static final BooleanPropertyValueParser BOOLEAN = PrimitiveParsers.BOOLEAN;
+
+    private BinderSupport() {
+    }
+
+    /**
+     * Whether the characters {@code [start, end)} of {@code text} are all
+     * whitespace, as {@link org.apache.commons.lang3.StringUtils#isBlank}
+     * decides for strings. Blank values leave their field unchanged.
+     *
+     * @param text  characters holding the value
+     * @param start index of the first character of the value
+     * @param end   index after the last character of the value
+     * @return whether the range is empty or whitespace only
+     */
+    public static boolean isBlank(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
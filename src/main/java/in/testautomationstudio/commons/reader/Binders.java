@@ -0,0 +1,87 @@
+package in.testautomationstudio.commons.reader;
+
+import java.util.Optional;
+
+/**
+ * Resolves the {@link ConfigurationBinder} used for a configuration class.
+ *
+ * <p>A binder generated at compile time is preferred; when none is found a
+ * binder is built at runtime according to the requested {@link BindingMode}.
+ * Every lookup result is kept per class in a {@link ClassValue}.</p>
+ */
+final class Binders {
+    private static final ClassValue<Optional<ConfigurationBinder<Object>>> GENERATED = new ClassValue<>() {
+        @Override
+        protected Optional<ConfigurationBinder<Object>> computeValue(Class<?> type) {
+            return Optional.ofNullable(generatedBinder(type));
+        }
+    };
+
+    private Binders() {
+    }
+
+    /**
+     * Return the binder for {@code type} using the default
+     * {@link BindingMode#METHOD_HANDLE} mode.
+     *
+     * @param type configuration class
+     * @return generated binder if present, otherwise the method handle plan
+     */
+    static ConfigurationBinder<Object> forClass(Class<?> type) {
+        return forClass(type, BindingMode.METHOD_HANDLE);
+    }
+
+    /**
+     * Return the binder for {@code type}.
+     *
+     * @param type configuration class
+     * @param mode strategy for classes without a generated binder
+     * @return generated binder if present, otherwise a runtime binder for {@code mode}
+     */
+    static ConfigurationBinder<Object> forClass(Class<?> type, BindingMode mode) {
+        Optional<ConfigurationBinder<Object>> generated = GENERATED.get(type);
+        return generated.isPresent() ? generated.get() : runtimeBinder(type, mode);
+    }
+
+    /**
+     * Return the binder built at runtime for {@code type}, ignoring any
+     * compile-time generated binder.
+     *
+     * @param type configuration class
+     * @param mode binding strategy
+     * @return runtime binder for {@code mode}
+     */
+    static ConfigurationBinder<Object> runtimeBinder(Class<?> type, BindingMode mode) {
+        return switch (mode) {
+            case REFLECTIVE -> BindingPlan.reflective(type);
+            case METHOD_HANDLE -> BindingPlan.of(type);
+            case HIDDEN_CLASS -> HiddenClassBinders.forClass(type);
+        };
+    }
+
+    /**
+     * Load and instantiate the compile-time generated binder of {@code type}.
+     *
+     * @param type configuration class
+     * @return binder instance, or {@code null} if no binder was generated
+     * @throws RuntimeException if the binder exists but cannot be instantiated
+     */
+    @SuppressWarnings("unchecked")
+    static ConfigurationBinder<Object> generatedBinder(Class<?> type) {
+        String binderName = ConfigurationBinder.binderClassName(type.getName());
+        Class<?> binderClass;
+        try {
+            binderClass = Class.forName(binderName, true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!ConfigurationBinder.class.isAssignableFrom(binderClass)) {
+            return null;
+        }
+        try {
+            return (ConfigurationBinder<Object>) binderClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new RuntimeException("Failed to instantiate generated ConfigurationBinder: " + binderName, e);
+        }
+    }
+}
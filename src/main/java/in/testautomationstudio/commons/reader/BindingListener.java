@@ -0,0 +1,192 @@
+package in.testautomationstudio.commons.reader;
+
+import java.lang.reflect.Field;
+
+/**
+ * Receives timed events from every phase of a {@link PropertiesReader} load,
+ * so slow configuration classes, files and parsers can be found in
+ * production.
+ *
+ * <p>A load goes through these phases, each reported once it completes,
+ * with its duration in nanoseconds as measured by {@link System#nanoTime()}:</p>
+ * <ol>
+ *   <li>{@link #pathResolved path resolution}: the reader's or the
+ *       {@link in.testautomationstudio.commons.annotation.Configuration}
+ *       path, with placeholders resolved;</li>
+ *   <li>{@link #cacheHit cache lookup} in the reader's
+ *       {@link in.testautomationstudio.commons.source.SourceCache}, when it
+ *       has one; on a {@link #cacheMiss miss}, or without a cache, the file
+ *       is then</li>
+ *   <li>{@link #sourceOpened opened} and read, or memory-mapped, and</li>
+ *   <li>{@link #sourceParsed parsed};</li>
+ *   <li>for every bound field, its value {@link #fieldParsed parsed} (unless
+ *       the raw string is assigned) and {@link #fieldWritten written}, as far
+ *       as the class's binder reports them (see below);</li>
+ *   <li>and finally the whole {@link #beanBound bean bound}.</li>
+ * </ol>
+ * <p>A phase that fails is reported to the matching {@code ...Failed}
+ * method instead, before the failure is thrown to the caller unchanged.</p>
+ *
+ * <h2>Cost</h2>
+ * <p>Readers use {@link #NOOP} unless another listener is passed to
+ * {@link PropertiesReader#PropertiesReader(String, BindingMode,
+ * in.testautomationstudio.commons.source.SourceCache, BindingListener)}.
+ * With {@code NOOP} the reader takes its uninstrumented path: no clock is
+ * read and no event is created. A listener never changes how a class is
+ * bound, so what is measured is what runs in production; it changes which
+ * field events are available:</p>
+ * <ul>
+ *   <li>classes bound by a runtime binding plan ({@link BindingMode#REFLECTIVE}
+ *       and {@link BindingMode#METHOD_HANDLE} without a generated binder)
+ *       report every field event, including {@link #fieldFailed};</li>
+ *   <li>classes bound by a binder generated at compile time or as a hidden
+ *       class report {@link #fieldParsed} for fields with a custom parser,
+ *       measured by the same wrapper that records
+ *       {@link in.testautomationstudio.commons.jfr.ConfigurationEvents#timed
+ *       slow parsers}; built-in conversions and writes are compiled into the
+ *       binder and not reported, and a failing field is thrown without a
+ *       {@link #fieldFailed} event.</li>
+ * </ul>
+ *
+ * <h2>Contract</h2>
+ * <p>Events are delivered synchronously on the thread performing the load,
+ * so a listener shared by readers or used with {@link ConfigurationLoader}
+ * must be thread-safe, and should return quickly. Every method has an empty
+ * default, so implementations override only what they need.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * BindingListener slowParsers = new BindingListener() {
+ *     @Override
+ *     public void fieldParsed(Field field, long nanos) {
+ *         if (nanos > 1_000_000) {
+ *             log.warn("{} took {} us to parse", field, nanos / 1_000);
+ *         }
+ *     }
+ * };
+ * ConfigurationReader<QAConfig> reader =
+ *         new PropertiesReader<>(null, BindingMode.METHOD_HANDLE, SourceCache.shared(), slowParsers);
+ * }</pre>
+ */
+public interface BindingListener {
+    /**
+     * Listener that ignores every event and lets readers skip instrumentation.
+     */
+    BindingListener NOOP = new BindingListener() {
+    };
+
+    /**
+     * The properties file path of {@code type} was resolved.
+     *
+     * @param type         configuration class
+     * @param resolvedPath path with placeholders resolved
+     * @param nanos        duration of the resolution
+     */
+    default void pathResolved(Class<?> type, String resolvedPath, long nanos) {
+    }
+
+    /**
+     * The properties file path of {@code type} could not be resolved.
+     *
+     * @param type    configuration class
+     * @param failure failure thrown to the caller
+     */
+    default void pathResolutionFailed(Class<?> type, Exception failure) {
+    }
+
+    /**
+     * The parsed file at {@code resolvedPath} was found in the source cache.
+     *
+     * @param resolvedPath resolved path of the file
+     */
+    default void cacheHit(String resolvedPath) {
+    }
+
+    /**
+     * The file at {@code resolvedPath} was not in the source cache and is
+     * read and parsed now.
+     *
+     * @param resolvedPath resolved path of the file
+     */
+    default void cacheMiss(String resolvedPath) {
+    }
+
+    /**
+     * The file at {@code resolvedPath} was opened and its bytes read, or
+     * memory-mapped for large files.
+     *
+     * @param resolvedPath resolved path of the file
+     * @param nanos        duration of opening and reading
+     */
+    default void sourceOpened(String resolvedPath, long nanos) {
+    }
+
+    /**
+     * The file at {@code resolvedPath} could not be opened or read.
+     *
+     * @param resolvedPath resolved path of the file
+     * @param failure      failure, usually a {@link java.io.FileNotFoundException};
+     *                     the caller receives it wrapped in a {@link RuntimeException}
+     */
+    default void openFailed(String resolvedPath, Exception failure) {
+    }
+
+    /**
+     * The bytes of the file at {@code resolvedPath} were parsed.
+     *
+     * @param resolvedPath resolved path of the file
+     * @param size         number of properties in the file
+     * @param nanos        duration of parsing
+     */
+    default void sourceParsed(String resolvedPath, int size, long nanos) {
+    }
+
+    /**
+     * The bytes of the file at {@code resolvedPath} could not be parsed.
+     *
+     * @param resolvedPath resolved path of the file
+     * @param failure      failure thrown to the caller
+     */
+    default void parseFailed(String resolvedPath, Exception failure) {
+    }
+
+    /**
+     * The value of {@code field} was converted by its parser: a custom
+     * {@link in.testautomationstudio.commons.parser.PropertyValueParser}
+     * (see {@link in.testautomationstudio.commons.annotation.PropertyKey#parser()}),
+     * a built-in parser or enum resolution.
+     *
+     * @param field bound field
+     * @param nanos duration of the conversion
+     */
+    default void fieldParsed(Field field, long nanos) {
+    }
+
+    /**
+     * The converted value was assigned to {@code field}.
+     *
+     * @param field bound field
+     * @param nanos duration of the write
+     */
+    default void fieldWritten(Field field, long nanos) {
+    }
+
+    /**
+     * The value of {@code field} could not be converted or assigned.
+     *
+     * @param field   bound field
+     * @param failure failure thrown to the caller
+     */
+    default void fieldFailed(Field field, Exception failure) {
+    }
+
+    /**
+     * Every field of a bean of {@code type} was bound.
+     *
+     * @param type  configuration class
+     * @param nanos duration of binding all fields, excluding path resolution
+     *              and loading the source
+     */
+    default void beanBound(Class<?> type, long nanos) {
+    }
+}
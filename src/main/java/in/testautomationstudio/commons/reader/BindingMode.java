@@ -0,0 +1,44 @@
+package in.testautomationstudio.commons.reader;
+
+/**
+ * Strategy used by {@link PropertiesReader} to bind configuration classes
+ * that have no compile-time generated {@link ConfigurationBinder}.
+ *
+ * <p>A binder generated by
+ * {@link in.testautomationstudio.commons.processor.ConfigurationBinderProcessor}
+ * is always preferred when present; the mode only decides what is built at
+ * runtime for the remaining classes. Whatever the mode, the binder is built
+ * once per class and reused.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * ConfigurationReader<QAConfig> reader = new PropertiesReader<>(null, BindingMode.HIDDEN_CLASS);
+ * reader.loadBean(new QAConfig());
+ * }</pre>
+ */
+public enum BindingMode {
+    /**
+     * Write fields with {@link java.lang.reflect.Field#set(Object, Object)}
+     * on fields opened once with {@code setAccessible(true)}.
+     */
+    REFLECTIVE,
+
+    /**
+     * Write fields through setter {@link java.lang.invoke.MethodHandle}s
+     * resolved once per field. This is the default.
+     */
+    METHOD_HANDLE,
+
+    /**
+     * Generate a binder class at runtime with
+     * {@link java.lang.invoke.MethodHandles.Lookup#defineHiddenClass(byte[], boolean,
+     * java.lang.invoke.MethodHandles.Lookup.ClassOption...)}. The binder is a
+     * nestmate of the configuration class: it stores into fields directly and
+     * calls the built-in parse methods directly, so the JIT can inline the
+     * whole bind. Classes this library cannot get full privilege access to
+     * (those in another module, including the unnamed module of another
+     * class loader), and classes with too many fields for one class file's
+     * constant pool, are bound as with {@link #METHOD_HANDLE}.
+     */
+    HIDDEN_CLASS
+}
@@ -0,0 +1,540 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.jfr.ConfigurationEvents;
+import in.testautomationstudio.commons.parser.BooleanPropertyValueParser;
+import in.testautomationstudio.commons.parser.DefaultPropertyValueParser;
+import in.testautomationstudio.commons.parser.DoublePropertyValueParser;
+import in.testautomationstudio.commons.parser.EnumLookup;
+import in.testautomationstudio.commons.parser.FloatPropertyValueParser;
+import in.testautomationstudio.commons.parser.IntPropertyValueParser;
+import in.testautomationstudio.commons.parser.LongPropertyValueParser;
+import in.testautomationstudio.commons.parser.ParserRegistry;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import in.testautomationstudio.commons.source.PropertySource;
+import in.testautomationstudio.commons.source.PropertyValueConsumer;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compiled, immutable description of how to bind a configuration class.
+ *
+ * <p>A plan is built once per class by scanning its declared fields for
+ * {@link PropertyKey} annotations and resolving, for each bindable field, the
+ * property key, the default value, the parser and the writer used to assign
+ * the converted value. Plans are held in a {@link ClassValue}, so the
+ * reflection scan runs at most once per class and {@link #bind} only walks a
+ * pre-built array.</p>
+ *
+ * <p>When a primitive field's parser implements the matching primitive
+ * specialization, such as
+ * {@link in.testautomationstudio.commons.parser.IntPropertyValueParser}, the
+ * conversion and the write are fused: method handle plans filter the setter
+ * through the {@code parseInt} handle, reflective plans call
+ * {@link Field#setInt(Object, int)} and its siblings. Binding such a field
+ * boxes nothing. Its value is moreover read with
+ * {@link PropertySource#consumeProperty}, so when the source keeps raw
+ * values the parser reads the characters of the file in place and no
+ * {@link String} is created either.</p>
+ *
+ * <p>Plans are the fallback {@link ConfigurationBinder} for classes without a
+ * compile-time generated binder. Instances are immutable and safe to share
+ * between threads.</p>
+ */
+final class BindingPlan implements ConfigurationBinder<Object> {
+    private static final ClassValue<BindingPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return compile(type, BindingPlan::writerFor, BindingPlan::assignerFor, BindingPlan::sliceAssignerFor);
+        }
+    };
+    private static final ClassValue<Integer> FIELD_COUNTS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return bindableFields(type).size();
+        }
+    };
+    private static final ClassValue<Map<String, Field>> FIELDS_BY_KEY = new ClassValue<>() {
+        @Override
+        protected Map<String, Field> computeValue(Class<?> type) {
+            Map<String, Field> fields = new HashMap<>();
+            for (Field field : bindableFields(type)) {
+                fields.putIfAbsent(field.getAnnotation(PropertyKey.class).key(), field);
+            }
+            return fields;
+        }
+    };
+    private static final ClassValue<BindingPlan> REFLECTIVE_PLANS = new ClassValue<>() {
+        @Override
+        protected BindingPlan computeValue(Class<?> type) {
+            return compile(type, BindingPlan::reflectiveWriterFor, BindingPlan::reflectiveAssignerFor,
+                    BindingPlan::reflectiveSliceAssignerFor);
+        }
+    };
+
+    private final FieldBinding[] bindings;
+
+    private BindingPlan(FieldBinding[] bindings) {
+        this.bindings = bindings;
+    }
+
+    /**
+     * Return the cached plan for {@code type}, compiling it on first use.
+     * Fields are written through setter {@link MethodHandle}s.
+     *
+     * @param type configuration class
+     * @return binding plan for the class
+     */
+    static BindingPlan of(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Return the cached plan for {@code type} whose fields are written with
+     * {@link Field#set(Object, Object)} on pre-opened fields.
+     *
+     * @param type configuration class
+     * @return reflective binding plan for the class
+     */
+    static BindingPlan reflective(Class<?> type) {
+        return REFLECTIVE_PLANS.get(type);
+    }
+
+    /**
+     * Assign every bindable field of {@code bean} from {@code source}.
+     *
+     * @param bean   instance of the class this plan was compiled for
+     * @param source loaded property values
+     */
+    @Override
+    public void bind(Object bean, PropertySource source) {
+        for (FieldBinding binding : bindings) {
+            binding.bind(bean, source);
+        }
+    }
+
+    /**
+     * Assign every bindable field of {@code bean} from {@code source},
+     * reporting the conversion and write of each field, and their failures,
+     * to {@code listener}.
+     *
+     * @param bean     instance of the class this plan was compiled for
+     * @param source   loaded property values
+     * @param listener receives per-field events
+     */
+    void bind(Object bean, PropertySource source, BindingListener listener) {
+        for (FieldBinding binding : bindings) {
+            binding.bind(bean, source, listener);
+        }
+    }
+
+    /**
+     * List the fields of {@code type} that take part in binding: declared,
+     * non-static, non-final and annotated with {@link PropertyKey}.
+     *
+     * @param type configuration class
+     * @return bindable fields in declaration order
+     */
+    static List<Field> bindableFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            // Ignore static and final fields
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                continue;
+            }
+            if (field.isAnnotationPresent(PropertyKey.class)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * @param type configuration class
+     * @return number of {@link #bindableFields(Class) bindable fields} of {@code type}
+     */
+    static int fieldCount(Class<?> type) {
+        return FIELD_COUNTS.get(type);
+    }
+
+    /**
+     * @param type configuration class
+     * @param key  property key
+     * @return the first {@link #bindableFields(Class) bindable field} of
+     * {@code type} read from {@code key}, or {@code null}
+     */
+    static Field fieldForKey(Class<?> type, String key) {
+        return FIELDS_BY_KEY.get(type).get(key);
+    }
+
+    private static BindingPlan compile(Class<?> type, Function<Field, FieldWriter> writers,
+                                       AssignerFactory assigners, SliceAssignerFactory sliceAssigners) {
+        List<FieldBinding> bindings = new ArrayList<>();
+        for (Field field : bindableFields(type)) {
+            PropertyKey annotation = field.getAnnotation(PropertyKey.class);
+            PropertyValueParser<?> parser = resolveParser(field);
+            FieldWriter writer = writers.apply(field);
+            SliceAssigner sliceAssigner = PrimitiveParsers.isSpecialized(parser, field.getType())
+                    ? sliceAssigners.create(field, parser) : null;
+            bindings.add(new FieldBinding(field, annotation.key(), annotation.defaultValue(),
+                    parser, writer, assigners.create(field, parser, writer), sliceAssigner));
+        }
+        return new BindingPlan(bindings.toArray(new FieldBinding[0]));
+    }
+
+    /**
+     * Resolve the parser for {@code field}: an explicitly declared custom
+     * parser first (shared through {@link ParserRegistry}), then a built-in
+     * parser for the field type, then enum resolution. {@code null} means the
+     * raw string is assigned as-is. Custom parsers are wrapped to record slow
+     * conversions with {@link ConfigurationEvents#timed}.
+     */
+    static PropertyValueParser<?> resolveParser(Field field) {
+        return resolveParser(field.getAnnotation(PropertyKey.class), field.getType());
+    }
+
+    /**
+     * Resolve the parser of a value of type {@code fieldType} read with
+     * {@code annotation}, as {@link #resolveParser(Field)} does for fields.
+     */
+    static PropertyValueParser<?> resolveParser(PropertyKey annotation, Class<?> fieldType) {
+        Class<? extends PropertyValueParser<?>> parserClass = annotation.parser();
+        if (!parserClass.equals(DefaultPropertyValueParser.class)) {
+            if (ParserRegistry.isStateful(parserClass)) {
+                // Stateful parsers are resolved again for every value
+                return ConfigurationEvents.timed(parserClass, annotation.key(),
+                        value -> ParserRegistry.getParser(parserClass).parse(value));
+            }
+            PropertyValueParser<?> parser = ParserRegistry.getParser(parserClass);
+            return ConfigurationEvents.timed(parserClass, annotation.key(), parser);
+        }
+        PropertyValueParser<?> parser = PropertiesReader.PARSERS.get(fieldType);
+        if (parser != null) {
+            return parser;
+        }
+        if (fieldType.isEnum()) {
+            return enumLookup(fieldType);
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static PropertyValueParser<?> enumLookup(Class<?> enumType) {
+        return EnumLookup.of((Class) enumType);
+    }
+
+    /**
+     * Create a writer for {@code field} backed by a setter {@link MethodHandle}.
+     * The handle is resolved once through a private lookup on the declaring
+     * class, so later writes neither re-check accessibility nor go through
+     * {@link Field#set(Object, Object)}.
+     *
+     * @param field non-static, non-final field
+     * @return writer assigning values to {@code field}
+     */
+    static FieldWriter writerFor(Field field) {
+        return new MethodHandleWriter(setter(field)
+                .asType(MethodType.methodType(void.class, Object.class, Object.class)));
+    }
+
+    private static FieldWriter reflectiveWriterFor(Field field) {
+        field.setAccessible(true);
+        return field::set;
+    }
+
+    private static MethodHandle setter(Field field) {
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                    .unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot access field: " + field, e);
+        }
+    }
+
+    /**
+     * Fuse a specialized parser with the setter of its primitive field into
+     * one {@code (Object, String)void} handle; fall back to parsing and then
+     * writing through {@code writer}.
+     */
+    private static FieldAssigner assignerFor(Field field, PropertyValueParser<?> parser, FieldWriter writer) {
+        Class<?> fieldType = field.getType();
+        if (!PrimitiveParsers.isSpecialized(parser, fieldType)) {
+            return genericAssigner(parser, writer);
+        }
+        MethodHandle setter = setter(field).asType(MethodType.methodType(void.class, Object.class, fieldType));
+        return new MethodHandleAssigner(
+                MethodHandles.filterArguments(setter, 1, PrimitiveParsers.parseHandle(parser, fieldType)));
+    }
+
+    /**
+     * Write the result of a specialized parser with the primitive setter of
+     * {@link Field}; {@code field} was made accessible by
+     * {@link #reflectiveWriterFor}.
+     */
+    private static FieldAssigner reflectiveAssignerFor(Field field, PropertyValueParser<?> parser,
+                                                       FieldWriter writer) {
+        Class<?> fieldType = field.getType();
+        if (!PrimitiveParsers.isSpecialized(parser, fieldType)) {
+            return genericAssigner(parser, writer);
+        }
+        if (fieldType == int.class) {
+            IntPropertyValueParser intParser = (IntPropertyValueParser) parser;
+            return (target, value) -> field.setInt(target, intParser.parseInt(value));
+        } else if (fieldType == long.class) {
+            LongPropertyValueParser longParser = (LongPropertyValueParser) parser;
+            return (target, value) -> field.setLong(target, longParser.parseLong(value));
+        } else if (fieldType == float.class) {
+            FloatPropertyValueParser floatParser = (FloatPropertyValueParser) parser;
+            return (target, value) -> field.setFloat(target, floatParser.parseFloat(value));
+        } else if (fieldType == double.class) {
+            DoublePropertyValueParser doubleParser = (DoublePropertyValueParser) parser;
+            return (target, value) -> field.setDouble(target, doubleParser.parseDouble(value));
+        }
+        BooleanPropertyValueParser booleanParser = (BooleanPropertyValueParser) parser;
+        return (target, value) -> field.setBoolean(target, booleanParser.parseBoolean(value));
+    }
+
+    /**
+     * Fuse the range-reading method of a specialized parser with the setter
+     * of its primitive field into one {@code (Object, CharSequence, int, int)void}
+     * handle.
+     */
+    private static SliceAssigner sliceAssignerFor(Field field, PropertyValueParser<?> parser) {
+        Class<?> fieldType = field.getType();
+        MethodHandle setter = setter(field).asType(MethodType.methodType(void.class, Object.class, fieldType));
+        return new MethodHandleSliceAssigner(
+                MethodHandles.collectArguments(setter, 1, PrimitiveParsers.sliceHandle(parser, fieldType)));
+    }
+
+    private static SliceAssigner reflectiveSliceAssignerFor(Field field, PropertyValueParser<?> parser) {
+        Class<?> fieldType = field.getType();
+        if (fieldType == int.class) {
+            IntPropertyValueParser intParser = (IntPropertyValueParser) parser;
+            return (target, text, start, end) -> field.setInt(target, intParser.parseInt(text, start, end));
+        } else if (fieldType == long.class) {
+            LongPropertyValueParser longParser = (LongPropertyValueParser) parser;
+            return (target, text, start, end) -> field.setLong(target, longParser.parseLong(text, start, end));
+        } else if (fieldType == float.class) {
+            FloatPropertyValueParser floatParser = (FloatPropertyValueParser) parser;
+            return (target, text, start, end) -> field.setFloat(target, floatParser.parseFloat(text, start, end));
+        } else if (fieldType == double.class) {
+            DoublePropertyValueParser doubleParser = (DoublePropertyValueParser) parser;
+            return (target, text, start, end) -> field.setDouble(target, doubleParser.parseDouble(text, start, end));
+        }
+        BooleanPropertyValueParser booleanParser = (BooleanPropertyValueParser) parser;
+        return (target, text, start, end) -> field.setBoolean(target, booleanParser.parseBoolean(text, start, end));
+    }
+
+    private static FieldAssigner genericAssigner(PropertyValueParser<?> parser, FieldWriter writer) {
+        if (parser == null) {
+            return writer::write;
+        }
+        return (target, value) -> writer.write(target, parser.parse(value));
+    }
+
+    /**
+     * Assigns an already converted value to a field of a target instance.
+     */
+    @FunctionalInterface
+    interface FieldWriter {
+        void write(Object target, Object value) throws Throwable;
+    }
+
+    /**
+     * Converts a raw property value and assigns it to a field of a target
+     * instance.
+     */
+    @FunctionalInterface
+    interface FieldAssigner {
+        void assign(Object target, String value) throws Throwable;
+    }
+
+    /**
+     * Creates the {@link FieldAssigner} of a field from its resolved parser
+     * and writer.
+     */
+    @FunctionalInterface
+    private interface AssignerFactory {
+        FieldAssigner create(Field field, PropertyValueParser<?> parser, FieldWriter writer);
+    }
+
+    /**
+     * Converts a property value held by a range of characters and assigns it
+     * to a primitive field of a target instance.
+     */
+    @FunctionalInterface
+    interface SliceAssigner {
+        void assign(Object target, CharSequence text, int start, int end) throws Throwable;
+    }
+
+    /**
+     * Creates the {@link SliceAssigner} of a primitive field whose parser is
+     * specialized for its type.
+     */
+    @FunctionalInterface
+    private interface SliceAssignerFactory {
+        SliceAssigner create(Field field, PropertyValueParser<?> parser);
+    }
+
+    /**
+     * {@link SliceAssigner} invoking a setter handle whose value argument is
+     * collected from a range parse handle.
+     */
+    private static final class MethodHandleSliceAssigner implements SliceAssigner {
+        private final MethodHandle assigner;
+
+        private MethodHandleSliceAssigner(MethodHandle assigner) {
+            this.assigner = assigner;
+        }
+
+        @Override
+        public void assign(Object target, CharSequence text, int start, int end) throws Throwable {
+            assigner.invokeExact(target, text, start, end);
+        }
+    }
+
+    /**
+     * {@link FieldAssigner} invoking a setter handle whose value argument is
+     * filtered through a primitive parse handle, adapted to
+     * {@code (Object, String)void}.
+     */
+    private static final class MethodHandleAssigner implements FieldAssigner {
+        private final MethodHandle assigner;
+
+        private MethodHandleAssigner(MethodHandle assigner) {
+            this.assigner = assigner;
+        }
+
+        @Override
+        public void assign(Object target, String value) throws Throwable {
+            assigner.invokeExact(target, value);
+        }
+    }
+
+    /**
+     * {@link FieldWriter} invoking a setter handle adapted to
+     * {@code (Object, Object)void}.
+     */
+    private static final class MethodHandleWriter implements FieldWriter {
+        private final MethodHandle setter;
+
+        private MethodHandleWriter(MethodHandle setter) {
+            this.setter = setter;
+        }
+
+        @Override
+        public void write(Object target, Object value) throws Throwable {
+            setter.invokeExact(target, value);
+        }
+    }
+
+    /**
+     * One bindable field of a plan: where to read the value from, how to
+     * convert it and how to store it. Fields with a {@link SliceAssigner}
+     * consume their value as a range, with the binding itself as the
+     * {@link PropertyValueConsumer}.
+     */
+    static final class FieldBinding implements PropertyValueConsumer {
+        private final Field field;
+        private final String key;
+        private final String defaultValue;
+        private final PropertyValueParser<?> parser;
+        private final FieldWriter writer;
+        private final FieldAssigner assigner;
+        private final SliceAssigner sliceAssigner;
+
+        FieldBinding(Field field, String key, String defaultValue, PropertyValueParser<?> parser,
+                     FieldWriter writer, FieldAssigner assigner, SliceAssigner sliceAssigner) {
+            this.field = field;
+            this.key = key;
+            this.defaultValue = defaultValue;
+            this.parser = parser;
+            this.writer = writer;
+            this.assigner = assigner;
+            this.sliceAssigner = sliceAssigner;
+        }
+
+        void bind(Object bean, PropertySource source) {
+            String value;
+            if (sliceAssigner != null) {
+                if (source.consumeProperty(key, bean, this)) {
+                    return;
+                }
+                value = defaultValue;
+            } else {
+                value = source.getProperty(key, defaultValue);
+            }
+            // If the value is not provided then do not set the field
+            if (value == null || StringUtils.isBlank(value)) {
+                return;
+            }
+            try {
+                assigner.assign(bean, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void accept(Object target, CharSequence text, int start, int end) {
+            if (BinderSupport.isBlank(text, start, end)) {
+                return;
+            }
+            try {
+                sliceAssigner.assign(target, text, start, end);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        void bind(Object bean, PropertySource source, BindingListener listener) {
+            String value = source.getProperty(key, defaultValue);
+            if (value == null || StringUtils.isBlank(value)) {
+                return;
+            }
+            Object parsedValue = value;
+            if (parser != null) {
+                long start = System.nanoTime();
+                try {
+                    parsedValue = parser.parse(value);
+                } catch (RuntimeException e) {
+                    listener.fieldFailed(field, e);
+                    throw e;
+                }
+                listener.fieldParsed(field, System.nanoTime() - start);
+            }
+            long start = System.nanoTime();
+            try {
+                write(bean, parsedValue);
+            } catch (RuntimeException e) {
+                listener.fieldFailed(field, e);
+                throw e;
+            }
+            listener.fieldWritten(field, System.nanoTime() - start);
+        }
+
+        private void write(Object bean, Object parsedValue) {
+            try {
+                writer.write(bean, parsedValue);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
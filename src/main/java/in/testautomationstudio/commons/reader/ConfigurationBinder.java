@@ -0,0 +1,62 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.source.PropertySource;
+
+/**
+ * Assigns values from a {@link PropertySource} to the annotated fields of one
+ * configuration class.
+ *
+ * <p>{@link PropertiesReader} obtains a binder per configuration class and
+ * reuses it for every bind of that class. Binders come from two places:</p>
+ * <ul>
+ *   <li>Generated at compile time by
+ *       {@link in.testautomationstudio.commons.processor.ConfigurationBinderProcessor}.
+ *       The generated class is named after the configuration class with the
+ *       {@value #SUFFIX} suffix (see {@link #binderClassName(String)}), lives
+ *       in the same package and reads, parses and assigns every field with
+ *       straight-line code.</li>
+ *   <li>Built at runtime from the class's fields through reflection when no
+ *       generated binder is present.</li>
+ * </ul>
+ *
+ * <h2>Contract</h2>
+ * <ul>
+ *   <li>Implementations must have a public no-argument constructor when they
+ *       are meant to be discovered by name.</li>
+ *   <li>Implementations must be stateless (or thread-safe): one instance is
+ *       shared by all readers and threads binding the class.</li>
+ *   <li>Fields whose value is missing or blank must be left unchanged.</li>
+ * </ul>
+ *
+ * @param <T> type of the configuration bean
+ */
+public interface ConfigurationBinder<T> {
+    /**
+     * Suffix appended to the configuration class name to form the name of its
+     * generated binder.
+     */
+    String SUFFIX = "Binder";
+
+    /**
+     * Populate {@code bean} from {@code source}.
+     *
+     * @param bean   non-null bean whose annotated fields will be populated
+     * @param source values to bind
+     */
+    void bind(T bean, PropertySource source);
+
+    /**
+     * Compute the binary name of the generated binder for a configuration
+     * class. Nested classes are flattened, so {@code com.acme.Outer$Inner}
+     * maps to {@code com.acme.Outer_InnerBinder}.
+     *
+     * @param binaryName binary name of the configuration class
+     * @return binary name of its generated binder
+     */
+    static String binderClassName(String binaryName) {
+        int lastDot = binaryName.lastIndexOf('.');
+        return binaryName.substring(0, lastDot + 1)
+                + binaryName.substring(lastDot + 1).replace('$', '_')
+                + SUFFIX;
+    }
+}
@@ -0,0 +1,294 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.source.PropertySource;
+import in.testautomationstudio.commons.util.PlaceholderResolver;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Runtime view of the {@link in.testautomationstudio.commons.annotation.Configuration}
+ * classes recorded at build time by
+ * {@link in.testautomationstudio.commons.processor.ConfigurationIndexProcessor}.
+ *
+ * <p>The index files of every jar and classes directory are read with
+ * {@link ClassLoader#getResources(String)}; nothing is scanned. The index can
+ * then be used to load every configuration class and interface up front, or
+ * to check that every configuration file exists and defines every required
+ * key before anything is bound.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * ConfigurationIndex index = ConfigurationIndex.load();
+ * List<String> problems = index.validate(new PropertiesReader<>());
+ * if (!problems.isEmpty()) {
+ *     throw new IllegalStateException(String.join("\n", problems));
+ * }
+ * Map<Class<?>, Object> configs = index.preload(new ConfigurationLoader());
+ * }</pre>
+ */
+public final class ConfigurationIndex {
+    /**
+     * Resource path of the index files.
+     */
+    public static final String LOCATION = "META-INF/properties-reader/configurations.index";
+
+    private final ClassLoader classLoader;
+    private final List<Entry> entries;
+
+    private ConfigurationIndex(ClassLoader classLoader, List<Entry> entries) {
+        this.classLoader = classLoader;
+        this.entries = List.copyOf(entries);
+    }
+
+    /**
+     * Read the index files visible to the class loader of this library.
+     *
+     * @return the merged index
+     * @throws UncheckedIOException if an index file cannot be read
+     */
+    public static ConfigurationIndex load() {
+        return load(ConfigurationIndex.class.getClassLoader());
+    }
+
+    /**
+     * Read the index files visible to {@code classLoader}.
+     *
+     * @param classLoader class loader the index files and classes are loaded with
+     * @return the merged index; a class listed by several files appears once
+     * @throws UncheckedIOException if an index file cannot be read
+     */
+    public static ConfigurationIndex load(ClassLoader classLoader) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (InputStream input = resource.openStream()) {
+                    for (Entry entry : parse(input)) {
+                        entries.putIfAbsent(entry.className(), entry);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + LOCATION, e);
+        }
+        return new ConfigurationIndex(classLoader, new ArrayList<>(entries.values()));
+    }
+
+    /**
+     * @return the indexed configuration classes, in index order
+     */
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    /**
+     * @param filter entries to keep
+     * @return an index with the entries accepted by {@code filter}
+     */
+    public ConfigurationIndex filter(Predicate<? super Entry> filter) {
+        return new ConfigurationIndex(classLoader, entries.stream().filter(filter).toList());
+    }
+
+    /**
+     * Load every indexed class with {@code loader}: {@link Kind#BEAN bean}
+     * classes are instantiated and bound concurrently, then records and
+     * other {@link Kind#CONSTRUCTOR constructor-bound} classes are created
+     * with {@link PropertiesReader#read(Class)} and
+     * {@link Kind#PROXY interfaces} implemented with
+     * {@link PropertiesReader#loadProxy(Class)} of the loader's reader, so
+     * files they share with beans come from its source cache.
+     *
+     * @param loader loader that binds the classes concurrently
+     * @return map from each class to its bound or created instance, or
+     * proxy, in index order
+     * @throws RuntimeException combining every failure, including classes
+     *                          that cannot be loaded, as suppressed exceptions
+     */
+    public Map<Class<?>, Object> preload(ConfigurationLoader loader) {
+        Map<Class<?>, Kind> types = new LinkedHashMap<>();
+        List<Throwable> failures = new ArrayList<>();
+        for (Entry entry : entries) {
+            try {
+                types.put(Class.forName(entry.className(), false, classLoader), entry.kind());
+            } catch (ClassNotFoundException | LinkageError e) {
+                failures.add(new RuntimeException("Failed to load indexed configuration class: " + entry.className(), e));
+            }
+        }
+        List<Class<?>> beanTypes = new ArrayList<>();
+        types.forEach((type, kind) -> {
+            if (kind == Kind.BEAN) {
+                beanTypes.add(type);
+            }
+        });
+        Map<Class<?>, Object> beans = Map.of();
+        try {
+            beans = loader.loadClasses(beanTypes);
+        } catch (RuntimeException e) {
+            if (e.getSuppressed().length == 0) {
+                throw e;
+            }
+            failures.addAll(List.of(e.getSuppressed()));
+        }
+        Map<Class<?>, Object> configurations = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, Kind> type : types.entrySet()) {
+            if (type.getValue() == Kind.BEAN) {
+                configurations.put(type.getKey(), beans.get(type.getKey()));
+                continue;
+            }
+            try {
+                configurations.put(type.getKey(), type.getValue() == Kind.PROXY
+                        ? loader.reader().loadProxy(type.getKey())
+                        : loader.reader().read(type.getKey()));
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        if (!failures.isEmpty()) {
+            RuntimeException combined = new RuntimeException("Failed to load " + failures.size()
+                    + " configuration(s); see suppressed exceptions");
+            failures.forEach(combined::addSuppressed);
+            throw combined;
+        }
+        return Collections.unmodifiableMap(configurations);
+    }
+
+    /**
+     * Check every indexed class without loading it: its file path must
+     * resolve, its file must be readable, and each of its required keys
+     * (those without a default value) must be present.
+     *
+     * <p>Files are read through {@code reader}, and so through its source
+     * cache; a path set on the reader overrides the indexed paths.</p>
+     *
+     * @param reader reader whose path and source cache are used
+     * @return one message per problem found, empty when everything is valid
+     */
+    public List<String> validate(PropertiesReader<?> reader) {
+        List<String> problems = new ArrayList<>();
+        for (Entry entry : entries) {
+            PropertySource source;
+            try {
+                String path = reader.filePath() != null ? reader.filePath() : entry.filePath();
+                source = reader.source(PlaceholderResolver.resolvePlaceholders(path));
+            } catch (RuntimeException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                problems.add(entry.className() + ": " + cause.getMessage());
+                continue;
+            }
+            for (Key key : entry.keys()) {
+                if (key.required() && source.getProperty(key.name()) == null) {
+                    problems.add(entry.className() + ": missing required key '" + key.name() + "'");
+                }
+            }
+        }
+        return problems;
+    }
+
+    private static List<Entry> parse(InputStream input) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String className = null;
+        String filePath = null;
+        Kind kind = null;
+        List<Key> keys = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\t", -1);
+            if (fields[0].equals("class") && (fields.length == 3 || fields.length == 4)) {
+                if (className != null) {
+                    entries.add(new Entry(className, filePath, kind, keys));
+                }
+                // Indexes written before kinds were recorded list beans only
+                kind = fields.length == 4 ? Kind.of(fields[3]) : Kind.BEAN;
+                className = kind != null ? fields[1] : null;
+                filePath = fields[2];
+                keys = new ArrayList<>();
+            } else if (fields[0].equals("key") && fields.length == 3 && className != null) {
+                keys.add(new Key(fields[1], fields[2].equals("required")));
+            }
+        }
+        if (className != null) {
+            entries.add(new Entry(className, filePath, kind, keys));
+        }
+        return entries;
+    }
+
+    /**
+     * An indexed configuration class.
+     *
+     * @param className binary name of the class
+     * @param filePath  {@code filePath} template of its
+     *                  {@link in.testautomationstudio.commons.annotation.Configuration}
+     *                  annotation, placeholders unresolved
+     * @param kind      how the class is loaded
+     * @param keys      keys of its {@link in.testautomationstudio.commons.annotation.PropertyKey}
+     *                  fields, constructor parameters or getters, by kind
+     */
+    public record Entry(String className, String filePath, Kind kind, List<Key> keys) {
+        public Entry {
+            keys = List.copyOf(keys);
+        }
+    }
+
+    /**
+     * How {@link #preload(ConfigurationLoader)} loads an indexed class.
+     */
+    public enum Kind {
+        /**
+         * A class instantiated through its no-argument constructor and bound
+         * with {@link PropertiesReader#loadBean(Object)}.
+         */
+        BEAN,
+        /**
+         * A record, or a class with a constructor whose parameters all carry
+         * {@link in.testautomationstudio.commons.annotation.PropertyKey},
+         * created with {@link PropertiesReader#read(Class)}.
+         */
+        CONSTRUCTOR,
+        /**
+         * An interface implemented with {@link PropertiesReader#loadProxy(Class)}.
+         */
+        PROXY;
+
+        /**
+         * @return the kind written as {@code name} in an index file, or
+         * {@code null} if it is unknown, for example written by a newer
+         * version
+         */
+        private static Kind of(String name) {
+            for (Kind kind : values()) {
+                if (kind.name().equalsIgnoreCase(name)) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A key bound by an indexed class.
+     *
+     * @param name     property key
+     * @param required whether the key has no default value, nor, for a
+     *                 getter, a {@code default} method body
+     */
+    public record Key(String name, boolean required) {
+    }
+}
@@ -0,0 +1,166 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.source.PropertySource;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Loads many configuration beans at once, reading their sources concurrently
+ * on virtual threads.
+ *
+ * <p>Beans are grouped by the resolved path of their properties file, as
+ * {@link PropertiesReader#loadBeans(java.util.Collection)} does. Every
+ * distinct file is then read and parsed on its own virtual thread, once, and
+ * the beans of its group are bound from it on the same thread. The calling
+ * thread waits until every group has finished.</p>
+ *
+ * <h2>Failures</h2>
+ * <p>A failure does not stop the other groups. Once all of them have
+ * finished, the failures (unresolvable paths, missing or unreadable files,
+ * conversion errors, classes without a usable no-argument constructor) are
+ * combined into one {@link RuntimeException}, each attached as a suppressed
+ * exception. Beans of groups that succeeded stay bound.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * ConfigurationLoader loader = new ConfigurationLoader();
+ * Map<Class<?>, Object> configs = loader.loadClasses(List.of(GridConfig.class, BrowserConfig.class, ReportConfig.class));
+ * GridConfig grid = (GridConfig) configs.get(GridConfig.class);
+ *
+ * loader.loadBeans(List.of(serviceConfig, browserConfig));
+ * }</pre>
+ */
+public final class ConfigurationLoader {
+    private final PropertiesReader<Object> reader;
+
+    /**
+     * Create a loader that binds with a default {@link PropertiesReader}.
+     */
+    public ConfigurationLoader() {
+        this(new PropertiesReader<>());
+    }
+
+    /**
+     * Create a loader that binds with {@code reader}, and so with its path,
+     * binding mode and source cache.
+     *
+     * @param reader reader used to resolve, read and bind every bean
+     */
+    public ConfigurationLoader(PropertiesReader<Object> reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return the reader every bean is resolved, read and bound with
+     */
+    PropertiesReader<Object> reader() {
+        return reader;
+    }
+
+    /**
+     * Instantiate every class of {@code types} through its no-argument
+     * constructor and bind the instances concurrently.
+     *
+     * @param types configuration classes
+     * @return unmodifiable map from each class to its bound instance, in
+     * iteration order of {@code types}
+     * @throws RuntimeException combining every failure as suppressed exceptions
+     */
+    public Map<Class<?>, Object> loadClasses(Collection<? extends Class<?>> types) {
+        Map<Class<?>, Object> beans = new LinkedHashMap<>();
+        List<RuntimeException> failures = new ArrayList<>();
+        for (Class<?> type : types) {
+            try {
+                beans.put(type, newInstance(type));
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        load(beans.values(), failures);
+        return Collections.unmodifiableMap(beans);
+    }
+
+    /**
+     * Bind every bean of {@code beans} concurrently.
+     *
+     * @param beans configuration beans
+     * @throws RuntimeException combining every failure as suppressed exceptions
+     */
+    public void loadBeans(Collection<?> beans) {
+        load(beans, new ArrayList<>());
+    }
+
+    private void load(Collection<?> beans, List<RuntimeException> failures) {
+        Map<String, List<Object>> beansByPath = new LinkedHashMap<>();
+        for (Object bean : beans) {
+            try {
+                beansByPath.computeIfAbsent(reader.resolveFilePath(bean.getClass()), path -> new ArrayList<>()).add(bean);
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        List<Future<List<RuntimeException>>> results = new ArrayList<>(beansByPath.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, List<Object>> group : beansByPath.entrySet()) {
+                results.add(executor.submit(() -> bindGroup(group.getKey(), group.getValue())));
+            }
+        }
+        for (Future<List<RuntimeException>> result : results) {
+            try {
+                failures.addAll(result.get());
+            } catch (ExecutionException e) {
+                failures.add(new RuntimeException(e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.add(new RuntimeException(e));
+            }
+        }
+        if (!failures.isEmpty()) {
+            RuntimeException combined = new RuntimeException("Failed to load " + failures.size()
+                    + " configuration(s); see suppressed exceptions");
+            failures.forEach(combined::addSuppressed);
+            throw combined;
+        }
+    }
+
+    /**
+     * @return the failures of reading {@code resolvedPath} or binding any of {@code beans}
+     */
+    private List<RuntimeException> bindGroup(String resolvedPath, List<Object> beans) {
+        PropertySource source;
+        try {
+            source = reader.source(resolvedPath);
+        } catch (RuntimeException e) {
+            return List.of(e);
+        }
+        List<RuntimeException> failures = new ArrayList<>();
+        for (Object bean : beans) {
+            try {
+                reader.bind(bean, source);
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+        return failures;
+    }
+
+    private static Object newInstance(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new RuntimeException("Failed to instantiate configuration class: " + type, e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import in.testautomationstudio.commons.source.PropertySource;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Creates lazy implementations of configuration interfaces, see
+ * {@link PropertiesReader#loadProxy(Class)}.
+ *
+ * <p>For an interface {@code I} whose abstract methods are getters annotated
+ * with {@link PropertyKey}, the keys, defaults and parsers of all getters are
+ * resolved once and kept in a {@link ClassValue}, like a
+ * {@link BindingPlan}. Each proxy then holds its {@link PropertySource} and
+ * one slot per getter: the first call of a getter reads and parses its value
+ * and stores it, later calls return the stored value. Getters that are never
+ * called cost nothing beyond their empty slot.</p>
+ *
+ * <p>A getter whose value is missing or blank returns the result of its
+ * {@code default} method body when it has one, which is not stored, and
+ * otherwise {@code null}, or zero or {@code false} for primitives. Proxies
+ * are thread-safe: concurrent first calls may each parse the value, and all
+ * of them return an equal result.</p>
+ */
+final class ConfigurationProxies {
+    private static final ClassValue<ProxyModel> MODELS = new ClassValue<>() {
+        @Override
+        protected ProxyModel computeValue(Class<?> type) {
+            return ProxyModel.compile(type);
+        }
+    };
+
+    /**
+     * Marks a value that was missing or blank, so it is not read again.
+     */
+    private static final Object ABSENT = new Object();
+
+    private ConfigurationProxies() {
+    }
+
+    /**
+     * Compile the getters of {@code type} unless they already are, so that an
+     * invalid interface is reported before its file is read.
+     *
+     * @param type configuration interface
+     * @throws IllegalArgumentException if {@code type} is not an interface or
+     *                                  has an abstract method that is not an
+     *                                  annotated getter
+     */
+    static void validate(Class<?> type) {
+        MODELS.get(type);
+    }
+
+    /**
+     * @param type   configuration interface
+     * @param source values returned by the proxy's getters
+     * @param <I>    interface type
+     * @return lazy implementation of {@code type} reading {@code source}
+     * @throws IllegalArgumentException if {@code type} is not an interface or
+     *                                  has an abstract method that is not an
+     *                                  annotated getter
+     */
+    static <I> I create(Class<I> type, PropertySource source) {
+        ProxyModel model = MODELS.get(type);
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new LazyValues(model, source)));
+    }
+
+    /**
+     * Getters of one configuration interface, indexed by method.
+     */
+    private static final class ProxyModel {
+        private final Class<?> type;
+        private final Map<Method, Integer> indexes;
+        private final Getter[] getters;
+
+        private ProxyModel(Class<?> type, Map<Method, Integer> indexes, Getter[] getters) {
+            this.type = type;
+            this.indexes = indexes;
+            this.getters = getters;
+        }
+
+        private static ProxyModel compile(Class<?> type) {
+            if (!type.isInterface()) {
+                throw new IllegalArgumentException("Not an interface: " + type.getName());
+            }
+            Map<Method, Integer> indexes = new HashMap<>();
+            List<Getter> getters = new ArrayList<>();
+            for (Method method : type.getMethods()) {
+                PropertyKey annotation = method.getAnnotation(PropertyKey.class);
+                if (annotation == null) {
+                    if (Modifier.isAbstract(method.getModifiers())) {
+                        throw new IllegalArgumentException("Method without @PropertyKey: " + method);
+                    }
+                    continue;
+                }
+                if (method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+                    throw new IllegalArgumentException("@PropertyKey method is not a getter: " + method);
+                }
+                indexes.put(method, getters.size());
+                getters.add(new Getter(method.getReturnType(), annotation,
+                        BindingPlan.resolveParser(annotation, method.getReturnType())));
+            }
+            return new ProxyModel(type, indexes, getters.toArray(Getter[]::new));
+        }
+    }
+
+    /**
+     * Key, default value and parser of one getter.
+     */
+    private static final class Getter {
+        private final String key;
+        private final String defaultValue;
+        private final PropertyValueParser<?> parser;
+        private final Object absentValue;
+
+        private Getter(Class<?> returnType, PropertyKey annotation, PropertyValueParser<?> parser) {
+            this.key = annotation.key();
+            this.defaultValue = annotation.defaultValue();
+            this.parser = parser;
+            // null for references, the boxed zero or false for primitives
+            this.absentValue = returnType.isPrimitive() ? Array.get(Array.newInstance(returnType, 1), 0) : null;
+        }
+
+        /**
+         * @return the parsed value, or {@link #ABSENT} if the value is missing
+         * or blank
+         */
+        private Object read(PropertySource source) {
+            String value = source.getProperty(key, defaultValue);
+            if (value == null || StringUtils.isBlank(value)) {
+                return ABSENT;
+            }
+            return parser == null ? value : parser.parse(value);
+        }
+    }
+
+    /**
+     * Handler of one proxy: the source and the values read so far.
+     */
+    private static final class LazyValues implements InvocationHandler {
+        private final ProxyModel model;
+        private final PropertySource source;
+        private final AtomicReferenceArray<Object> values;
+
+        private LazyValues(ProxyModel model, PropertySource source) {
+            this.model = model;
+            this.source = source;
+            this.values = new AtomicReferenceArray<>(model.getters.length);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Integer index = model.indexes.get(method);
+            if (index == null) {
+                return objectMethod(proxy, method, args);
+            }
+            Object value = values.get(index);
+            if (value == null) {
+                value = model.getters[index].read(source);
+                values.lazySet(index, value);
+            }
+            if (value != ABSENT) {
+                return value;
+            }
+            return method.isDefault()
+                    ? InvocationHandler.invokeDefault(proxy, method, args)
+                    : model.getters[index].absentValue;
+        }
+
+        private Object objectMethod(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> method.getParameterCount() == 1 ? proxy == args[0] : invokeDefault(proxy, method, args);
+                case "hashCode" -> method.getParameterCount() == 0 ? System.identityHashCode(proxy) : invokeDefault(proxy, method, args);
+                case "toString" -> method.getParameterCount() == 0
+                        ? model.type.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy))
+                        : invokeDefault(proxy, method, args);
+                default -> invokeDefault(proxy, method, args);
+            };
+        }
+
+        private static Object invokeDefault(Object proxy, Method method, Object[] args) throws Throwable {
+            return InvocationHandler.invokeDefault(proxy, method, args);
+        }
+    }
+}
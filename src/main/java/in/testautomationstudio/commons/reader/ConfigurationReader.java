@@ -1,5 +1,7 @@
 package in.testautomationstudio.commons.reader;
 
+import java.util.Collection;
+
 /**
  * Simple contract for a configuration binder that can populate a target bean
  * from an external configuration source (for example, a properties file).
@@ -45,4 +47,24 @@ public interface ConfigurationReader<T> {
      * @param bean non-null bean whose annotated fields will be populated
      */
     void loadBean(T bean);
+
+    /**
+     * Load configuration into every bean of {@code beans}.
+     *
+     * <p>The default implementation calls {@link #loadBean(Object)} for each
+     * bean in iteration order. Implementations that read external sources
+     * should override it to read each distinct source once for the whole
+     * batch.</p>
+     *
+     * <pre>{@code
+     * reader.loadBeans(List.of(serviceConfig, browserConfig, reportConfig));
+     * }</pre>
+     *
+     * @param beans non-null beans whose annotated fields will be populated
+     */
+    default void loadBeans(Collection<? extends T> beans) {
+        for (T bean : beans) {
+            loadBean(bean);
+        }
+    }
 }
@@ -0,0 +1,211 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import in.testautomationstudio.commons.source.PropertySource;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled description of how to create an immutable configuration object
+ * through its constructor, see {@link PropertiesReader#read(Class)}.
+ *
+ * <p>For a record the constructor is the canonical one, and each component
+ * is read with the {@link PropertyKey} declared on the component, which the
+ * compiler copies to the record's field, or on the matching parameter of an
+ * explicit canonical constructor. For any other class it is the single
+ * constructor whose parameters all carry {@link PropertyKey}. Keys, defaults
+ * and parsers are resolved once per class and held in a {@link ClassValue};
+ * the constructor is invoked through a spreading {@link MethodHandle}.</p>
+ *
+ * <p>Since every value is passed to the constructor, all of them are read
+ * and converted when the object is created. A missing or blank value is
+ * passed as {@code null}, or zero or {@code false} for primitives, so the
+ * constructor may substitute its own defaults.</p>
+ */
+final class ConstructorBinding {
+    private static final ClassValue<ConstructorBinding> BINDINGS = new ClassValue<>() {
+        @Override
+        protected ConstructorBinding computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    /**
+     * {@code (Object[])Object} handle of the constructor.
+     */
+    private final MethodHandle constructor;
+    private final Argument[] arguments;
+
+    private ConstructorBinding(MethodHandle constructor, Argument[] arguments) {
+        this.constructor = constructor;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Return the cached binding of {@code type}, compiling it on first use.
+     *
+     * @param type record or class with an annotated constructor
+     * @return constructor binding of {@code type}
+     * @throws IllegalArgumentException if {@code type} is an abstract class or
+     *                                  interface, a record with a component
+     *                                  without {@link PropertyKey}, or a class
+     *                                  without exactly one constructor whose
+     *                                  parameters are all annotated
+     */
+    static ConstructorBinding of(Class<?> type) {
+        return BINDINGS.get(type);
+    }
+
+    /**
+     * Read and convert every argument from {@code source} and invoke the
+     * constructor with them.
+     *
+     * @param type   class this binding was compiled for
+     * @param source loaded property values
+     * @param <R>    type of the created object
+     * @return new instance of {@code type}
+     * @throws RuntimeException wrapping a checked exception thrown by the
+     *                          constructor; unchecked exceptions of parsers and
+     *                          the constructor propagate as they are
+     */
+    <R> R create(Class<R> type, PropertySource source) {
+        Object[] values = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            values[i] = arguments[i].read(source);
+        }
+        try {
+            return type.cast((Object) constructor.invokeExact(values));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException("Cannot create " + type.getName(), e);
+        }
+    }
+
+    private static ConstructorBinding compile(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException("Cannot instantiate: " + type.getName());
+        }
+        Constructor<?> constructor;
+        PropertyKey[] annotations;
+        if (type.isRecord()) {
+            RecordComponent[] components = type.getRecordComponents();
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+            }
+            constructor = canonicalConstructor(type, types);
+            annotations = new PropertyKey[components.length];
+            Parameter[] parameters = constructor.getParameters();
+            for (int i = 0; i < components.length; i++) {
+                annotations[i] = componentKey(type, components[i], parameters[i]);
+            }
+        } else {
+            constructor = annotatedConstructor(type);
+            Parameter[] parameters = constructor.getParameters();
+            annotations = new PropertyKey[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                annotations[i] = parameters[i].getAnnotation(PropertyKey.class);
+            }
+        }
+        Class<?>[] parameterTypes = constructor.getParameterTypes();
+        Argument[] arguments = new Argument[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = new Argument(parameterTypes[i], annotations[i],
+                    BindingPlan.resolveParser(annotations[i], parameterTypes[i]));
+        }
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.privateLookupIn(type, MethodHandles.lookup()).unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot access constructor: " + constructor, e);
+        }
+        return new ConstructorBinding(handle.asSpreader(Object[].class, parameterTypes.length)
+                .asType(MethodType.methodType(Object.class, Object[].class)), arguments);
+    }
+
+    private static Constructor<?> canonicalConstructor(Class<?> type, Class<?>[] componentTypes) {
+        try {
+            return type.getDeclaredConstructor(componentTypes);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("Record without canonical constructor: " + type.getName(), e);
+        }
+    }
+
+    private static PropertyKey componentKey(Class<?> type, RecordComponent component, Parameter parameter) {
+        PropertyKey annotation = parameter.getAnnotation(PropertyKey.class);
+        if (annotation != null) {
+            return annotation;
+        }
+        try {
+            annotation = type.getDeclaredField(component.getName()).getAnnotation(PropertyKey.class);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Record component without field: " + component, e);
+        }
+        if (annotation == null) {
+            throw new IllegalArgumentException("Record component without @PropertyKey: "
+                    + type.getName() + "." + component.getName());
+        }
+        return annotation;
+    }
+
+    private static Constructor<?> annotatedConstructor(Class<?> type) {
+        List<Constructor<?>> candidates = new ArrayList<>();
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (constructor.getParameterCount() > 0 && allAnnotated(constructor.getParameters())) {
+                candidates.add(constructor);
+            }
+        }
+        if (candidates.size() != 1) {
+            throw new IllegalArgumentException((candidates.isEmpty() ? "No" : "More than one")
+                    + " constructor with @PropertyKey on every parameter: " + type.getName());
+        }
+        return candidates.get(0);
+    }
+
+    private static boolean allAnnotated(Parameter[] parameters) {
+        for (Parameter parameter : parameters) {
+            if (!parameter.isAnnotationPresent(PropertyKey.class)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Key, default value and parser of one constructor parameter.
+     */
+    private static final class Argument {
+        private final String key;
+        private final String defaultValue;
+        private final PropertyValueParser<?> parser;
+        private final Object absentValue;
+
+        private Argument(Class<?> type, PropertyKey annotation, PropertyValueParser<?> parser) {
+            this.key = annotation.key();
+            this.defaultValue = annotation.defaultValue();
+            this.parser = parser;
+            // A null argument would fail the primitive parameter's unboxing
+            this.absentValue = type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+        }
+
+        private Object read(PropertySource source) {
+            String value = source.getProperty(key, defaultValue);
+            if (value == null || StringUtils.isBlank(value)) {
+                return absentValue;
+            }
+            return parser == null ? value : parser.parse(value);
+        }
+    }
+}
@@ -0,0 +1,726 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import in.testautomationstudio.commons.source.PropertySource;
+import in.testautomationstudio.commons.source.PropertyValueConsumer;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Generates {@link ConfigurationBinder}s at runtime as hidden classes.
+ *
+ * <p>For a configuration class {@code C} this emits the bytecode of a final
+ * class implementing {@code ConfigurationBinder}, defines it with
+ * {@link MethodHandles.Lookup#defineHiddenClass} as a nestmate of {@code C}
+ * and instantiates it once. For every bindable field the generated code:</p>
+ * <ol>
+ *   <li>reads the value with {@link PropertySource#getProperty(String, String)},
+ *       or, for a primitive field whose parser implements the primitive
+ *       specialization, hands it as a range of the loaded file to a consumer
+ *       with {@link PropertySource#consumeProperty}, falling back to the
+ *       default value when the key is absent,</li>
+ *   <li>skips the field when the value is blank,</li>
+ *   <li>converts it by calling {@code Integer.parseInt} and friends directly
+ *       for built-in types, or the resolved {@link PropertyValueParser} for
+ *       enums and custom parsers; a custom parser implementing the primitive
+ *       specialization of a primitive field, such as
+ *       {@link in.testautomationstudio.commons.parser.IntPropertyValueParser},
+ *       is called through its {@code parseInt} method, so nothing is boxed,</li>
+ *   <li>and stores it with a plain {@code putfield}, private fields
+ *       included.</li>
+ * </ol>
+ *
+ * <p>The consumers are further instances of the binder class itself, which
+ * also implements {@link PropertyValueConsumer}: each holds the index of its
+ * field, and its {@code accept} method switches on that index to parse the
+ * range with the parser's range overload, such as
+ * {@link in.testautomationstudio.commons.parser.IntPropertyValueParser#parseInt(CharSequence, int, int)}
+ * ({@link BinderSupport} for built-in types), and {@code putfield} the
+ * result. The value therefore never becomes a {@link String}.</p>
+ *
+ * <p>Fields are split into chunks of {@value #FIELDS_PER_METHOD} per method so
+ * very large classes stay below the JVM's method size limit. Binders are
+ * cached per class in a {@link ClassValue}.</p>
+ *
+ * <p>Defining a nestmate requires full privilege access to the configuration
+ * class, which a private lookup only grants within the same module. Classes
+ * in other modules (including the unnamed module of another class loader)
+ * are bound with the method handle {@link BindingPlan} instead.</p>
+ *
+ * <p>The constant pool of a class file is indexed with 16 bits. A class with
+ * so many fields that the binder would need more than
+ * {@value #MAX_CONSTANT_COUNT} constants (roughly ten thousand fields,
+ * depending on their types and parsers) is bound with the
+ * {@link BindingPlan} as well.</p>
+ */
+final class HiddenClassBinders {
+    private static final ClassValue<ConfigurationBinder<Object>> BINDERS = new ClassValue<>() {
+        @Override
+        protected ConfigurationBinder<Object> computeValue(Class<?> type) {
+            return define(type);
+        }
+    };
+
+    private static final int FIELDS_PER_METHOD = 500;
+    private static final int CLASS_FILE_VERSION = 55;
+    /**
+     * Largest {@code constant_pool_count}; the pool holds entries 1 to 65534.
+     */
+    private static final int MAX_CONSTANT_COUNT = 0xFFFF;
+    private static final String BINDER_SUFFIX = "$$HiddenBinder";
+    private static final String PARSERS_FIELD = "parsers";
+    private static final String PARSERS_DESCRIPTOR = "[" + descriptor(PropertyValueParser.class);
+    private static final String CONSUMERS_FIELD = "consumers";
+    private static final String CONSUMERS_DESCRIPTOR = "[" + descriptor(PropertyValueConsumer.class);
+    private static final String INDEX_FIELD = "index";
+    private static final String CONSTRUCTOR_DESCRIPTOR = "(" + PARSERS_DESCRIPTOR + CONSUMERS_DESCRIPTOR + "I)V";
+
+    /**
+     * Static conversion for each built-in type: owner, parse method and
+     * descriptor, and the boxing method for wrapper types.
+     */
+    private static final Map<Class<?>, String[]> BUILT_IN_CONVERSIONS = new HashMap<>();
+
+    static {
+        BUILT_IN_CONVERSIONS.put(int.class, new String[]{"java/lang/Integer", "parseInt", "(Ljava/lang/String;)I", null});
+        BUILT_IN_CONVERSIONS.put(Integer.class, new String[]{"java/lang/Integer", "parseInt", "(Ljava/lang/String;)I", "(I)Ljava/lang/Integer;"});
+        BUILT_IN_CONVERSIONS.put(long.class, new String[]{"java/lang/Long", "parseLong", "(Ljava/lang/String;)J", null});
+        BUILT_IN_CONVERSIONS.put(Long.class, new String[]{"java/lang/Long", "parseLong", "(Ljava/lang/String;)J", "(J)Ljava/lang/Long;"});
+        BUILT_IN_CONVERSIONS.put(float.class, new String[]{"java/lang/Float", "parseFloat", "(Ljava/lang/String;)F", null});
+        BUILT_IN_CONVERSIONS.put(Float.class, new String[]{"java/lang/Float", "parseFloat", "(Ljava/lang/String;)F", "(F)Ljava/lang/Float;"});
+        BUILT_IN_CONVERSIONS.put(double.class, new String[]{"java/lang/Double", "parseDouble", "(Ljava/lang/String;)D", null});
+        BUILT_IN_CONVERSIONS.put(Double.class, new String[]{"java/lang/Double", "parseDouble", "(Ljava/lang/String;)D", "(D)Ljava/lang/Double;"});
+        BUILT_IN_CONVERSIONS.put(boolean.class, new String[]{"java/lang/Boolean", "parseBoolean", "(Ljava/lang/String;)Z", null});
+        BUILT_IN_CONVERSIONS.put(Boolean.class, new String[]{"java/lang/Boolean", "parseBoolean", "(Ljava/lang/String;)Z", "(Z)Ljava/lang/Boolean;"});
+    }
+
+    private HiddenClassBinders() {
+    }
+
+    /**
+     * Return the hidden-class binder for {@code type}, generating it on first
+     * use.
+     *
+     * @param type configuration class
+     * @return generated binder
+     * @throws RuntimeException if the class cannot be defined
+     */
+    static ConfigurationBinder<Object> forClass(Class<?> type) {
+        return BINDERS.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConfigurationBinder<Object> define(Class<?> type) {
+        MethodHandles.Lookup hostLookup;
+        try {
+            hostLookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot access configuration class: " + type.getName(), e);
+        }
+        if (!hostLookup.hasFullPrivilegeAccess()) {
+            // Defining a nestmate needs full privilege access, which is not granted across modules
+            return BindingPlan.of(type);
+        }
+        List<PropertyValueParser<?>> parsers = new ArrayList<>();
+        List<FieldModel> fields = new ArrayList<>();
+        List<FieldModel> sliceFields = new ArrayList<>();
+        for (Field field : BindingPlan.bindableFields(type)) {
+            FieldModel model = new FieldModel(field, parsers, sliceFields);
+            fields.add(model);
+        }
+        byte[] bytes;
+        try {
+            bytes = generate(type, fields, sliceFields);
+        } catch (ConstantPoolOverflowException e) {
+            return BindingPlan.of(type);
+        }
+        try {
+            MethodHandles.Lookup lookup = hostLookup
+                    .defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            MethodHandle constructor = lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class,
+                    PropertyValueParser[].class, PropertyValueConsumer[].class, int.class));
+            PropertyValueParser<?>[] parserArray = parsers.toArray(new PropertyValueParser<?>[0]);
+            PropertyValueConsumer[] consumers = new PropertyValueConsumer[sliceFields.size()];
+            for (int i = 0; i < consumers.length; i++) {
+                consumers[i] = (PropertyValueConsumer) constructor.invoke(parserArray, (PropertyValueConsumer[]) null, i);
+            }
+            return (ConfigurationBinder<Object>) constructor.invoke(parserArray, consumers, -1);
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to define hidden ConfigurationBinder for " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Emit the class file of the binder, which also serves as the consumer of
+     * every field in {@code sliceFields}.
+     */
+    private static byte[] generate(Class<?> type, List<FieldModel> fields, List<FieldModel> sliceFields) {
+        String targetName = internalName(type);
+        ClassFile classFile = new ClassFile(targetName + BINDER_SUFFIX);
+
+        // <init>(PropertyValueParser[], PropertyValueConsumer[], int):
+        // super(); this.parsers = parsers; this.consumers = consumers; this.index = index;
+        Code init = new Code(classFile, false);
+        init.op(0x2a).op(0xb7).u2(classFile.methodRef("java/lang/Object", "<init>", "()V"))
+                .op(0x2a).op(0x2b).op(0xb5).u2(classFile.fieldRef(classFile.name, PARSERS_FIELD, PARSERS_DESCRIPTOR))
+                .op(0x2a).op(0x2c).op(0xb5).u2(classFile.fieldRef(classFile.name, CONSUMERS_FIELD, CONSUMERS_DESCRIPTOR))
+                .op(0x2a).op(0x1d).op(0xb5).u2(classFile.fieldRef(classFile.name, INDEX_FIELD, "I"))
+                .op(0xb1);
+        classFile.method(0x0001, "<init>", CONSTRUCTOR_DESCRIPTOR, init, 2, 4);
+
+        // bind(Object, PropertySource): bindN((C) bean, source) for every chunk
+        String chunkDescriptor = "(" + descriptor(type) + descriptor(PropertySource.class) + ")V";
+        Code bind = new Code(classFile, false);
+        for (int chunk = 0; chunk * FIELDS_PER_METHOD < Math.max(fields.size(), 1); chunk++) {
+            bind.op(0x2a).op(0x2b).op(0xc0).u2(classFile.classRef(targetName)).op(0x2c)
+                    .op(0xb7).u2(classFile.methodRef(classFile.name, "bind" + chunk, chunkDescriptor));
+
+            // String value = null; gives the value local its type before the first branch target
+            Code code = new Code(classFile, true);
+            code.op(0x01).op(0x4e);
+            int end = Math.min(fields.size(), (chunk + 1) * FIELDS_PER_METHOD);
+            for (int i = chunk * FIELDS_PER_METHOD; i < end; i++) {
+                appendField(classFile, code, targetName, fields.get(i));
+            }
+            code.op(0xb1);
+            classFile.method(0x0002, "bind" + chunk, chunkDescriptor, code, 6, 4);
+        }
+        bind.op(0xb1);
+        classFile.method(0x0001, "bind",
+                "(Ljava/lang/Object;" + descriptor(PropertySource.class) + ")V", bind, 3, 3);
+
+        appendAccept(classFile, targetName, sliceFields);
+        return classFile.toByteArray();
+    }
+
+    /**
+     * Locals in chunk methods: 0 = this, 1 = bean, 2 = source, 3 = value.
+     */
+    private static void appendField(ClassFile classFile, Code code, String targetName, FieldModel field) {
+        int branch;
+        if (field.consumerIndex >= 0) {
+            // if (!source.consumeProperty(key, bean, consumers[consumerIndex])) value = defaultValue; else skip
+            code.op(0x2c)
+                    .op(0x13).u2(classFile.string(field.annotation.key()))
+                    .op(0x2b)
+                    .op(0x2a).op(0xb4).u2(classFile.fieldRef(classFile.name, CONSUMERS_FIELD, CONSUMERS_DESCRIPTOR))
+                    .pushInt(field.consumerIndex).op(0x32)
+                    .op(0xb9).u2(classFile.interfaceMethodRef(internalName(PropertySource.class), "consumeProperty",
+                            "(Ljava/lang/String;Ljava/lang/Object;" + descriptor(PropertyValueConsumer.class) + ")Z"))
+                    .op(4).op(0);
+            if (StringUtils.isBlank(field.annotation.defaultValue())) {
+                code.op(0x57);
+                return;
+            }
+            branch = code.length();
+            code.op(0x9a).u2(0);
+            code.op(0x13).u2(classFile.string(field.annotation.defaultValue())).op(0x4e);
+        } else {
+            // String value = source.getProperty(key, defaultValue);
+            code.op(0x2c)
+                    .op(0x13).u2(classFile.string(field.annotation.key()))
+                    .op(0x13).u2(classFile.string(field.annotation.defaultValue()))
+                    .op(0xb9).u2(classFile.interfaceMethodRef(internalName(PropertySource.class), "getProperty",
+                            "(Ljava/lang/String;Ljava/lang/String;)Ljava/lang/String;")).op(3).op(0)
+                    .op(0x4e);
+            // if (StringUtils.isBlank(value)) skip
+            code.op(0x2d)
+                    .op(0xb8).u2(classFile.methodRef(internalName(StringUtils.class), "isBlank", "(Ljava/lang/CharSequence;)Z"));
+            branch = code.length();
+            code.op(0x9a).u2(0);
+        }
+        code.op(0x2b);
+
+        Class<?> fieldType = field.type;
+        if (field.builtIn) {
+            String[] conversion = BUILT_IN_CONVERSIONS.get(fieldType);
+            code.op(0x2d).op(0xb8).u2(classFile.methodRef(conversion[0], conversion[1], conversion[2]));
+            if (conversion[3] != null) {
+                code.op(0xb8).u2(classFile.methodRef(conversion[0], "valueOf", conversion[3]));
+            }
+        } else if (field.parserIndex >= 0) {
+            code.op(0x2a).op(0xb4).u2(classFile.fieldRef(classFile.name, PARSERS_FIELD, PARSERS_DESCRIPTOR));
+            code.pushInt(field.parserIndex).op(0x32);
+            if (PrimitiveParsers.isSpecialized(field.parser, fieldType)) {
+                // ((IntPropertyValueParser) parsers[index]).parseInt(value)
+                String specialization = internalName(PrimitiveParsers.specialization(fieldType));
+                code.op(0xc0).u2(classFile.classRef(specialization)).op(0x2d)
+                        .op(0xb9).u2(classFile.interfaceMethodRef(specialization, PrimitiveParsers.methodName(fieldType),
+                                "(Ljava/lang/String;)" + descriptor(fieldType))).op(2).op(0);
+            } else {
+                code.op(0x2d)
+                        .op(0xb9).u2(classFile.interfaceMethodRef(internalName(PropertyValueParser.class), "parse",
+                                "(Ljava/lang/String;)Ljava/lang/Object;")).op(2).op(0);
+                checkcast(classFile, code, fieldType);
+            }
+        } else {
+            code.op(0x2d);
+            checkcast(classFile, code, fieldType);
+        }
+        code.op(0xb5).u2(classFile.fieldRef(targetName, field.name, descriptor(fieldType)));
+
+        // Every branch target has the same locals: this, bean, source, value
+        code.patchBranch(branch, code.length());
+        code.frame(code.length());
+    }
+
+    /**
+     * Emit {@code accept(Object, CharSequence, int, int)}, which skips blank
+     * values and dispatches on {@code index} to {@code acceptN} methods of
+     * {@value #FIELDS_PER_METHOD} fields each. Locals in all of them: 0 =
+     * this, 1 = bean, 2 = text, 3 = start, 4 = end.
+     */
+    private static void appendAccept(ClassFile classFile, String targetName, List<FieldModel> sliceFields) {
+        String descriptor = "(Ljava/lang/Object;Ljava/lang/CharSequence;II)V";
+        int indexField = classFile.fieldRef(classFile.name, INDEX_FIELD, "I");
+        Code accept = new Code(classFile, false);
+        if (sliceFields.isEmpty()) {
+            accept.op(0xb1);
+            classFile.method(0x0001, "accept", descriptor, accept, 0, 5);
+            return;
+        }
+        // if (BinderSupport.isBlank(text, start, end)) return;
+        accept.op(0x2c).op(0x1d).op(0x15).op(4)
+                .op(0xb8).u2(classFile.methodRef(internalName(BinderSupport.class), "isBlank",
+                        "(Ljava/lang/CharSequence;II)Z"));
+        int blank = accept.length();
+        accept.op(0x99).u2(0).op(0xb1);
+        accept.patchBranch(blank, accept.length());
+        accept.frame(accept.length());
+
+        // switch (index / FIELDS_PER_METHOD) { case n: acceptN(bean, text, start, end); }
+        int chunks = (sliceFields.size() + FIELDS_PER_METHOD - 1) / FIELDS_PER_METHOD;
+        accept.op(0x2a).op(0xb4).u2(indexField).pushInt(FIELDS_PER_METHOD).op(0x6c);
+        int chunkSwitch = accept.tableSwitch(0, chunks - 1);
+        accept.patchSwitch(chunkSwitch, -1, accept.length());
+        accept.frame(accept.length());
+        accept.op(0xb1);
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            accept.patchSwitch(chunkSwitch, chunk, accept.length());
+            accept.frame(accept.length());
+            accept.op(0x2a).op(0x2b).op(0x2c).op(0x1d).op(0x15).op(4)
+                    .op(0xb7).u2(classFile.methodRef(classFile.name, "accept" + chunk, descriptor))
+                    .op(0xb1);
+
+            // switch (index) { case i: ((C) bean).field = parser.parseX(text, start, end); }
+            Code code = new Code(classFile, false);
+            int first = chunk * FIELDS_PER_METHOD;
+            int last = Math.min(sliceFields.size(), first + FIELDS_PER_METHOD) - 1;
+            code.op(0x2a).op(0xb4).u2(indexField);
+            int fieldSwitch = code.tableSwitch(first, last);
+            code.patchSwitch(fieldSwitch, -1, code.length());
+            code.frame(code.length());
+            code.op(0xb1);
+            for (int i = first; i <= last; i++) {
+                code.patchSwitch(fieldSwitch, i - first, code.length());
+                code.frame(code.length());
+                appendSliceAssignment(classFile, code, targetName, sliceFields.get(i));
+            }
+            classFile.method(0x0002, "accept" + chunk, descriptor, code, 6, 5);
+        }
+        classFile.method(0x0001, "accept", descriptor, accept, 5, 5);
+    }
+
+    private static void appendSliceAssignment(ClassFile classFile, Code code, String targetName, FieldModel field) {
+        Class<?> fieldType = field.type;
+        String specialization = internalName(PrimitiveParsers.specialization(fieldType));
+        code.op(0x2b).op(0xc0).u2(classFile.classRef(targetName));
+        if (field.builtIn) {
+            code.op(0xb2).u2(classFile.fieldRef(internalName(BinderSupport.class),
+                    fieldType.getName().toUpperCase(Locale.ROOT), "L" + specialization + ";"));
+        } else {
+            code.op(0x2a).op(0xb4).u2(classFile.fieldRef(classFile.name, PARSERS_FIELD, PARSERS_DESCRIPTOR))
+                    .pushInt(field.parserIndex).op(0x32)
+                    .op(0xc0).u2(classFile.classRef(specialization));
+        }
+        code.op(0x2c).op(0x1d).op(0x15).op(4)
+                .op(0xb9).u2(classFile.interfaceMethodRef(specialization, PrimitiveParsers.methodName(fieldType),
+                        "(Ljava/lang/CharSequence;II)" + descriptor(fieldType))).op(4).op(0)
+                .op(0xb5).u2(classFile.fieldRef(targetName, field.name, descriptor(fieldType)))
+                .op(0xb1);
+    }
+
+    /**
+     * Cast the value on the stack to {@code type}, unboxing primitives.
+     */
+    private static void checkcast(ClassFile classFile, Code code, Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapper = internalName(MethodType.methodType(type).wrap().returnType());
+            code.op(0xc0).u2(classFile.classRef(wrapper))
+                    .op(0xb6).u2(classFile.methodRef(wrapper, type.getName() + "Value", "()" + descriptor(type)));
+        } else if (type != Object.class) {
+            code.op(0xc0).u2(classFile.classRef(type.isArray() ? descriptor(type) : internalName(type)));
+        }
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Class<?> type) {
+        return type.describeConstable().orElseThrow().descriptorString();
+    }
+
+    /**
+     * What the emitter needs to know about one bindable field.
+     */
+    private static final class FieldModel {
+        private final String name;
+        private final Class<?> type;
+        private final PropertyKey annotation;
+        private final PropertyValueParser<?> parser;
+        /**
+         * Whether the conversion is the built-in one of {@link #type}, called
+         * statically.
+         */
+        private final boolean builtIn;
+        /**
+         * Index in {@code parsers} of a parser that is not built in, or -1.
+         */
+        private final int parserIndex;
+        /**
+         * Index in {@code consumers} of a primitive field read as a range, or -1.
+         */
+        private final int consumerIndex;
+
+        /**
+         * Resolve the conversion of {@code field}, registering its parser in
+         * {@code parsers} and the field in {@code sliceFields} as needed.
+         */
+        private FieldModel(Field field, List<PropertyValueParser<?>> parsers, List<FieldModel> sliceFields) {
+            this.name = field.getName();
+            this.type = field.getType();
+            this.annotation = field.getAnnotation(PropertyKey.class);
+            this.parser = BindingPlan.resolveParser(field);
+            this.builtIn = parser != null && parser == PropertiesReader.PARSERS.get(type)
+                    && BUILT_IN_CONVERSIONS.containsKey(type);
+            if (parser != null && !builtIn) {
+                parserIndex = parsers.size();
+                parsers.add(parser);
+            } else {
+                parserIndex = -1;
+            }
+            if (type.isPrimitive() && PrimitiveParsers.isSpecialized(parser, type)) {
+                consumerIndex = sliceFields.size();
+                sliceFields.add(this);
+            } else {
+                consumerIndex = -1;
+            }
+        }
+    }
+
+    /**
+     * Minimal class file writer: constant pool, the fields holding the
+     * parsers, consumers and consumer index, and the methods added through
+     * {@link #method}.
+     */
+    private static final class ClassFile {
+        private final String name;
+        private final ByteArrayOutputStream constants = new ByteArrayOutputStream();
+        private final DataOutputStream constantPool = new DataOutputStream(constants);
+        private final Map<String, Integer> constantIndexes = new HashMap<>();
+        private final ByteArrayOutputStream methodBytes = new ByteArrayOutputStream();
+        private final DataOutputStream methods = new DataOutputStream(methodBytes);
+        private int constantCount = 1;
+        private int methodCount;
+
+        private ClassFile(String name) {
+            this.name = name;
+        }
+
+        int utf8(String value) {
+            return constant("U" + value, out -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int nameIndex = utf8(internalName);
+            return constant("C" + internalName, out -> {
+                out.writeByte(7);
+                out.writeShort(nameIndex);
+            });
+        }
+
+        int string(String value) {
+            int valueIndex = utf8(value);
+            return constant("S" + value, out -> {
+                out.writeByte(8);
+                out.writeShort(valueIndex);
+            });
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(9, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(10, owner, name, descriptor);
+        }
+
+        int interfaceMethodRef(String owner, String name, String descriptor) {
+            return memberRef(11, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int ownerIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = constant("N" + name + ' ' + descriptor, out -> {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return constant(tag + owner + '.' + name + ' ' + descriptor, out -> {
+                out.writeByte(tag);
+                out.writeShort(ownerIndex);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        private int constant(String key, ConstantWriter writer) {
+            Integer index = constantIndexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            if (constantCount == MAX_CONSTANT_COUNT) {
+                throw new ConstantPoolOverflowException();
+            }
+            try {
+                writer.write(constantPool);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            constantIndexes.put(key, constantCount);
+            return constantCount++;
+        }
+
+        void method(int access, String name, String descriptor, Code code, int maxStack, int maxLocals) {
+            try {
+                int nameIndex = utf8(name);
+                int descriptorIndex = utf8(descriptor);
+                int codeIndex = utf8("Code");
+                byte[] frames = code.stackMapTable();
+                int stackMapIndex = frames == null ? 0 : utf8("StackMapTable");
+                methods.writeShort(access);
+                methods.writeShort(nameIndex);
+                methods.writeShort(descriptorIndex);
+                methods.writeShort(1);
+                methods.writeShort(codeIndex);
+                methods.writeInt(12 + code.length() + (frames == null ? 0 : 6 + frames.length));
+                methods.writeShort(maxStack);
+                methods.writeShort(maxLocals);
+                methods.writeInt(code.length());
+                methods.write(code.bytes(), 0, code.length());
+                methods.writeShort(0);
+                if (frames == null) {
+                    methods.writeShort(0);
+                } else {
+                    methods.writeShort(1);
+                    methods.writeShort(stackMapIndex);
+                    methods.writeInt(frames.length);
+                    methods.write(frames);
+                }
+                methodCount++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        byte[] toByteArray() {
+            try {
+                int thisIndex = classRef(name);
+                int superIndex = classRef("java/lang/Object");
+                int binderIndex = classRef(internalName(ConfigurationBinder.class));
+                int consumerIndex = classRef(internalName(PropertyValueConsumer.class));
+                int[] fields = {
+                        utf8(PARSERS_FIELD), utf8(PARSERS_DESCRIPTOR),
+                        utf8(CONSUMERS_FIELD), utf8(CONSUMERS_DESCRIPTOR),
+                        utf8(INDEX_FIELD), utf8("I")};
+
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bytes);
+                out.writeInt(0xCAFEBABE);
+                out.writeShort(0);
+                out.writeShort(CLASS_FILE_VERSION);
+                out.writeShort(constantCount);
+                constantPool.flush();
+                constants.writeTo(out);
+                out.writeShort(0x0030); // ACC_FINAL | ACC_SUPER
+                out.writeShort(thisIndex);
+                out.writeShort(superIndex);
+                out.writeShort(2);
+                out.writeShort(binderIndex);
+                out.writeShort(consumerIndex);
+                out.writeShort(fields.length / 2);
+                for (int i = 0; i < fields.length; i += 2) {
+                    out.writeShort(0x0012); // ACC_PRIVATE | ACC_FINAL
+                    out.writeShort(fields[i]);
+                    out.writeShort(fields[i + 1]);
+                    out.writeShort(0);
+                }
+                out.writeShort(methodCount);
+                methods.flush();
+                methodBytes.writeTo(out);
+                out.writeShort(0);
+                return bytes.toByteArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConstantWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * Bytecode buffer of one method plus the offsets of its branch targets.
+     * All targets of a method share its locals, so the stack map is a same
+     * frame per target; in {@code bind} chunks, which add the
+     * {@code String value} local, the first one is an append frame instead.
+     */
+    private static final class Code {
+        private final ClassFile classFile;
+        private final boolean appendsValue;
+        private final List<Integer> frameOffsets = new ArrayList<>();
+        private byte[] bytes = new byte[256];
+        private int length;
+
+        private Code(ClassFile classFile, boolean appendsValue) {
+            this.classFile = classFile;
+            this.appendsValue = appendsValue;
+        }
+
+        Code op(int opcode) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = (byte) opcode;
+            return this;
+        }
+
+        Code u2(int value) {
+            return op(value >>> 8).op(value);
+        }
+
+        Code pushInt(int value) {
+            if (value <= 5) {
+                return op(0x03 + value);
+            }
+            if (value <= Byte.MAX_VALUE) {
+                return op(0x10).op(value);
+            }
+            return op(0x11).u2(value);
+        }
+
+        Code u4(int value) {
+            return u2(value >>> 16).u2(value);
+        }
+
+        /**
+         * Emit a {@code tableswitch} over {@code [low, high]} whose targets
+         * are set with {@link #patchSwitch}.
+         *
+         * @return offset of the instruction
+         */
+        int tableSwitch(int low, int high) {
+            int offset = length;
+            op(0xaa);
+            while (length % 4 != 0) {
+                op(0);
+            }
+            u4(0).u4(low).u4(high);
+            for (int i = low; i <= high; i++) {
+                u4(0);
+            }
+            return offset;
+        }
+
+        /**
+         * @param switchOffset offset of a {@link #tableSwitch}
+         * @param slot         case number from 0, or -1 for the default
+         * @param target       offset of the target
+         */
+        void patchSwitch(int switchOffset, int slot, int target) {
+            int position = ((switchOffset + 4) & ~3) + (slot < 0 ? 0 : 12 + 4 * slot);
+            int delta = target - switchOffset;
+            bytes[position] = (byte) (delta >>> 24);
+            bytes[position + 1] = (byte) (delta >>> 16);
+            bytes[position + 2] = (byte) (delta >>> 8);
+            bytes[position + 3] = (byte) delta;
+        }
+
+        void patchBranch(int branchOffset, int target) {
+            int delta = target - branchOffset;
+            bytes[branchOffset + 1] = (byte) (delta >>> 8);
+            bytes[branchOffset + 2] = (byte) delta;
+        }
+
+        void frame(int offset) {
+            frameOffsets.add(offset);
+        }
+
+        int length() {
+            return length;
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+        byte[] stackMapTable() throws IOException {
+            if (frameOffsets.isEmpty()) {
+                return null;
+            }
+            ByteArrayOutputStream frames = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(frames);
+            out.writeShort(frameOffsets.size());
+            int previous = -1;
+            for (int offset : frameOffsets) {
+                int delta = offset - previous - 1;
+                if (previous == -1 && appendsValue) {
+                    // append_frame adding the String local
+                    out.writeByte(252);
+                    out.writeShort(delta);
+                    out.writeByte(7);
+                    out.writeShort(classFile.classRef("java/lang/String"));
+                } else if (delta < 64) {
+                    out.writeByte(delta);
+                } else {
+                    out.writeByte(251);
+                    out.writeShort(delta);
+                }
+                previous = offset;
+            }
+            return frames.toByteArray();
+        }
+    }
+
+    /**
+     * Thrown by {@link ClassFile} when a binder needs more constants than a
+     * class file can index.
+     */
+    private static final class ConstantPoolOverflowException extends RuntimeException {
+        private ConstantPoolOverflowException() {
+            super("Constant pool exceeds " + (MAX_CONSTANT_COUNT - 1) + " entries", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.parser.BooleanPropertyValueParser;
+import in.testautomationstudio.commons.parser.DoublePropertyValueParser;
+import in.testautomationstudio.commons.parser.FloatPropertyValueParser;
+import in.testautomationstudio.commons.parser.IntPropertyValueParser;
+import in.testautomationstudio.commons.parser.LongPropertyValueParser;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Map;
+
+/**
+ * The primitive specializations of {@link PropertyValueParser}, by primitive
+ * type, and the built-in parsers implementing them. A field whose type is one
+ * of these primitives and whose parser implements the matching specialization
+ * is bound without boxing.
+ *
+ * <p>The built-in parsers also read ranges of a {@link CharSequence} in
+ * place: {@code int} and {@code long} through the JDK's
+ * {@link Integer#parseInt(CharSequence, int, int, int)} and
+ * {@link Long#parseLong(CharSequence, int, int, int)}, {@code boolean} by
+ * comparing characters, and {@code float} and {@code double} with an exact
+ * fast path for plain decimals of up to 7 and 15 significant digits. Other
+ * floating-point inputs (more digits, large exponents, hexadecimal,
+ * {@code NaN}, suffixes, surrounding whitespace) are copied into a string
+ * and handed to {@link Float#parseFloat(String)} or
+ * {@link Double#parseDouble(String)}, so every built-in parser accepts and
+ * rejects exactly what the JDK method does. The fast path also serves whole
+ * strings: unlike the JDK methods it allocates nothing.</p>
+ */
+final class PrimitiveParsers {
+    static final IntPropertyValueParser INT = new IntPropertyValueParser() {
+        @Override
+        public int parseInt(String value) {
+            return Integer.parseInt(value);
+        }
+
+        @Override
+        public int parseInt(CharSequence text, int start, int end) {
+            return Integer.parseInt(text, start, end, 10);
+        }
+    };
+    static final LongPropertyValueParser LONG = new LongPropertyValueParser() {
+        @Override
+        public long parseLong(String value) {
+            return Long.parseLong(value);
+        }
+
+        @Override
+        public long parseLong(CharSequence text, int start, int end) {
+            return Long.parseLong(text, start, end, 10);
+        }
+    };
+    static final FloatPropertyValueParser FLOAT = new FloatPropertyValueParser() {
+        @Override
+        public float parseFloat(String value) {
+            return PrimitiveParsers.parseFloat(value, 0, value.length());
+        }
+
+        @Override
+        public float parseFloat(CharSequence text, int start, int end) {
+            return PrimitiveParsers.parseFloat(text, start, end);
+        }
+    };
+    static final DoublePropertyValueParser DOUBLE = new DoublePropertyValueParser() {
+        @Override
+        public double parseDouble(String value) {
+            return PrimitiveParsers.parseDouble(value, 0, value.length());
+        }
+
+        @Override
+        public double parseDouble(CharSequence text, int start, int end) {
+            return PrimitiveParsers.parseDouble(text, start, end);
+        }
+    };
+    static final BooleanPropertyValueParser BOOLEAN = new BooleanPropertyValueParser() {
+        @Override
+        public boolean parseBoolean(String value) {
+            return Boolean.parseBoolean(value);
+        }
+
+        @Override
+        public boolean parseBoolean(CharSequence text, int start, int end) {
+            return PrimitiveParsers.parseBoolean(text, start, end);
+        }
+    };
+
+    /**
+     * Significant digits below which a decimal mantissa is exact in a
+     * {@code float} (10^7 &lt; 2^24) and a {@code double} (10^15 &lt; 2^53).
+     */
+    private static final int FLOAT_DIGITS = 7;
+    private static final int DOUBLE_DIGITS = 15;
+    private static final float[] FLOAT_POWERS = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+    private static final double[] DOUBLE_POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /**
+     * Result of {@link #parseDecimal} when the fast path does not apply.
+     */
+    private static final long NOT_FAST = Long.MIN_VALUE;
+
+    private static final Map<Class<?>, Class<?>> SPECIALIZATIONS = Map.of(
+            int.class, IntPropertyValueParser.class,
+            long.class, LongPropertyValueParser.class,
+            float.class, FloatPropertyValueParser.class,
+            double.class, DoublePropertyValueParser.class,
+            boolean.class, BooleanPropertyValueParser.class);
+
+    private PrimitiveParsers() {
+    }
+
+    /**
+     * @param parser    resolved parser, or {@code null}
+     * @param fieldType type of the bound field
+     * @return whether {@code parser} is the specialization for {@code fieldType}
+     */
+    static boolean isSpecialized(PropertyValueParser<?> parser, Class<?> fieldType) {
+        Class<?> specialization = SPECIALIZATIONS.get(fieldType);
+        return specialization != null && specialization.isInstance(parser);
+    }
+
+    /**
+     * @param primitiveType primitive field type
+     * @return the specialized parser interface for {@code primitiveType}
+     */
+    static Class<?> specialization(Class<?> primitiveType) {
+        return SPECIALIZATIONS.get(primitiveType);
+    }
+
+    /**
+     * @param primitiveType primitive field type
+     * @return name of the specialized parse method, for example {@code parseInt}
+     */
+    static String methodName(Class<?> primitiveType) {
+        String name = primitiveType.getName();
+        return "parse" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Resolve the specialized parse method of {@code parser} as a handle of
+     * type {@code (String)fieldType}.
+     *
+     * @param parser    parser for which {@link #isSpecialized} holds
+     * @param fieldType primitive field type
+     * @return handle bound to {@code parser}
+     */
+    static MethodHandle parseHandle(PropertyValueParser<?> parser, Class<?> fieldType) {
+        return specializedHandle(parser, fieldType, MethodType.methodType(fieldType, String.class));
+    }
+
+    /**
+     * Resolve the range-reading parse method of {@code parser} as a handle of
+     * type {@code (CharSequence, int, int)fieldType}.
+     *
+     * @param parser    parser for which {@link #isSpecialized} holds
+     * @param fieldType primitive field type
+     * @return handle bound to {@code parser}
+     */
+    static MethodHandle sliceHandle(PropertyValueParser<?> parser, Class<?> fieldType) {
+        return specializedHandle(parser, fieldType,
+                MethodType.methodType(fieldType, CharSequence.class, int.class, int.class));
+    }
+
+    private static MethodHandle specializedHandle(PropertyValueParser<?> parser, Class<?> fieldType, MethodType type) {
+        try {
+            return MethodHandles.publicLookup()
+                    .findVirtual(specialization(fieldType), methodName(fieldType), type)
+                    .bindTo(parser);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return {@link Boolean#parseBoolean(String)} of the characters
+     * {@code [start, end)} of {@code text}
+     */
+    static boolean parseBoolean(CharSequence text, int start, int end) {
+        if (end - start != 4) {
+            return false;
+        }
+        for (int i = 0; i < 4; i++) {
+            if (Character.toLowerCase(text.charAt(start + i)) != "true".charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@link Double#parseDouble(String)} of the characters
+     * {@code [start, end)} of {@code text}
+     */
+    static double parseDouble(CharSequence text, int start, int end) {
+        long decimal = parseDecimal(text, start, end, DOUBLE_DIGITS, DOUBLE_POWERS.length - 1);
+        if (decimal == NOT_FAST) {
+            return Double.parseDouble(text.subSequence(start, end).toString());
+        }
+        // Both the mantissa and the power of ten are exact, so one division
+        // or multiplication rounds correctly
+        int exponent = exponent(decimal);
+        double value = mantissa(decimal);
+        value = exponent < 0 ? value / DOUBLE_POWERS[-exponent] : value * DOUBLE_POWERS[exponent];
+        return negative(decimal) ? -value : value;
+    }
+
+    /**
+     * @return {@link Float#parseFloat(String)} of the characters
+     * {@code [start, end)} of {@code text}
+     */
+    static float parseFloat(CharSequence text, int start, int end) {
+        long decimal = parseDecimal(text, start, end, FLOAT_DIGITS, FLOAT_POWERS.length - 1);
+        if (decimal == NOT_FAST) {
+            return Float.parseFloat(text.subSequence(start, end).toString());
+        }
+        int exponent = exponent(decimal);
+        float value = mantissa(decimal);
+        value = exponent < 0 ? value / FLOAT_POWERS[-exponent] : value * FLOAT_POWERS[exponent];
+        return negative(decimal) ? -value : value;
+    }
+
+    /**
+     * Parse {@code [+-]?digits[.digits][(e|E)[+-]?digits]} with at most
+     * {@code maxDigits} significant digits and a decimal exponent of at most
+     * {@code maxExponent} in magnitude.
+     *
+     * @return the sign, mantissa and exponent packed into a {@code long}
+     * (bit 63 clear: sign in bit 62, exponent + 512 in bits 52 to 61,
+     * mantissa in bits 0 to 51), or {@link #NOT_FAST}
+     */
+    private static long parseDecimal(CharSequence text, int start, int end, int maxDigits, int maxExponent) {
+        int pos = start;
+        boolean negative = false;
+        if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+            negative = text.charAt(pos) == '-';
+            pos++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean anyDigit = false;
+        boolean fraction = false;
+        for (; pos < end; pos++) {
+            char c = text.charAt(pos);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                break;
+            }
+            anyDigit = true;
+            if (mantissa != 0 || c != '0') {
+                if (++digits > maxDigits) {
+                    return NOT_FAST;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+            }
+            if (fraction) {
+                exponent--;
+            }
+        }
+        if (!anyDigit) {
+            return NOT_FAST;
+        }
+        if (pos < end && (text.charAt(pos) == 'e' || text.charAt(pos) == 'E')) {
+            pos++;
+            boolean negativeExponent = false;
+            if (pos < end && (text.charAt(pos) == '-' || text.charAt(pos) == '+')) {
+                negativeExponent = text.charAt(pos) == '-';
+                pos++;
+            }
+            int explicit = 0;
+            int exponentStart = pos;
+            for (; pos < end; pos++) {
+                char c = text.charAt(pos);
+                if (c < '0' || c > '9' || explicit > 1000) {
+                    break;
+                }
+                explicit = explicit * 10 + (c - '0');
+            }
+            if (pos == exponentStart || pos != end) {
+                return NOT_FAST;
+            }
+            exponent += negativeExponent ? -explicit : explicit;
+        }
+        if (pos != end) {
+            return NOT_FAST;
+        }
+        if (mantissa == 0) {
+            exponent = 0;
+        } else if (exponent < -maxExponent || exponent > maxExponent) {
+            return NOT_FAST;
+        }
+        return (negative ? 1L << 62 : 0) | ((long) (exponent + 512) << 52) | mantissa;
+    }
+
+    private static boolean negative(long decimal) {
+        return (decimal & (1L << 62)) != 0;
+    }
+
+    private static int exponent(long decimal) {
+        return (int) ((decimal >>> 52) & 0x3FF) - 512;
+    }
+
+    private static long mantissa(long decimal) {
+        return decimal & ((1L << 52) - 1);
+    }
+}
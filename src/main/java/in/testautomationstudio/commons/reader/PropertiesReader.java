@@ -2,25 +2,36 @@ package in.testautomationstudio.commons.reader;
 
 import in.testautomationstudio.commons.annotation.Configuration;
 import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.jfr.BindEvent;
+import in.testautomationstudio.commons.jfr.ConfigurationEvents;
+import in.testautomationstudio.commons.jfr.SourceLoadEvent;
 import in.testautomationstudio.commons.parser.DefaultPropertyValueParser;
 import in.testautomationstudio.commons.parser.PropertyValueParser;
+import in.testautomationstudio.commons.source.ImmutablePropertySource;
+import in.testautomationstudio.commons.source.PropertySource;
+import in.testautomationstudio.commons.source.PropertySources;
+import in.testautomationstudio.commons.source.SourceCache;
 import in.testautomationstudio.commons.util.PlaceholderResolver;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Properties;
+import java.util.Objects;
 
 /**
  * Reflection-based implementation of {@link ConfigurationReader} that binds
- * property values from a classpath resource (properties file) into a target
- * bean's fields.
+ * property values from a properties file, on the classpath or the file
+ * system, into a target bean's fields.
  *
  * <p>Behavior overview:</p>
  * <ul>
@@ -31,33 +42,110 @@ import java.util.Properties;
  *       {@link PlaceholderResolver#resolvePlaceholders(String)} (supporting
  *       environment variables or other placeholders as implemented by that
  *       utility).</li>
- *   <li>Load the properties file from the runtime classpath using the
- *       {@link ClassLoader#getResourceAsStream(String)} mechanism. If the
- *       resource is missing a {@link FileNotFoundException} is thrown.</li>
+ *   <li>Load the properties file with {@link PropertySources}: from the
+ *       file system through a {@link java.nio.channels.FileChannel} when the
+ *       resolved path starts with {@code file:}, otherwise from the runtime
+ *       classpath using the {@link ClassLoader#getResourceAsStream(String)}
+ *       mechanism. Its bytes are parsed with
+ *       {@link in.testautomationstudio.commons.source.PropertiesTokenizer},
+ *       which follows the {@link java.util.Properties#load(java.io.InputStream)}
+ *       grammar, into an
+ *       {@link ImmutablePropertySource}.
+ *       If the file is missing a {@link FileNotFoundException} is thrown.</li>
+ *   <li>If the bean's class is annotated with
+ *       {@link Configuration#interpolate()}, resolve {@code ${KEY}}
+ *       placeholders in the loaded values against the other keys of the
+ *       file, system properties and environment variables; see
+ *       {@link ImmutablePropertySource#interpolated()}.</li>
  *   <li>For each non-static, non-final declared field on the bean annotated
  *       with {@link PropertyKey}, determine the property key and default
  *       value from the annotation, pick an appropriate parser and assign the
  *       converted value to the field.</li>
  * </ul>
  *
+ * <p>The field scan, annotation reads and parser resolution happen once per
+ * class: the result is kept as an immutable binding plan in a
+ * {@link ClassValue} and reused by every subsequent {@link #loadBean(Object)}
+ * call for that class, from any reader instance.</p>
+ *
+ * <h2>Generated binders</h2>
+ * <p>When the
+ * {@link in.testautomationstudio.commons.processor.ConfigurationBinderProcessor}
+ * annotation processor runs during compilation, it emits a
+ * {@link ConfigurationBinder} for every class with {@link PropertyKey} fields.
+ * The reader looks the generated binder up by name (see
+ * {@link ConfigurationBinder#binderClassName(String)}) and uses it instead of
+ * reflection. Classes compiled without the processor use a binder built at
+ * runtime according to the reader's {@link BindingMode}: reflective field
+ * writes, setter method handles (the default) or a binder class generated at
+ * runtime as a hidden class.</p>
+ *
+ * <h2>Thread safety</h2>
+ * <p>Readers are immutable: the file path, binding mode and source cache are
+ * fixed at construction and {@link #loadBean(Object)} resolves the path of
+ * each call into local state. One reader can therefore be shared by any
+ * number of threads and reused across configuration classes with different
+ * {@link Configuration} paths. Binders and cached sources are immutable and
+ * published through {@link ClassValue} and {@link SourceCache}, so concurrent
+ * loads take no locks once a class and its file have been seen. Concurrent
+ * loads into the <em>same</em> bean instance are not coordinated.</p>
+ *
+ * <h2>Source cache</h2>
+ * <p>Parsed properties files are kept in a {@link SourceCache} keyed by the
+ * resolved path and the class loader, {@link SourceCache#shared()} unless
+ * another cache is passed to
+ * {@link #PropertiesReader(String, BindingMode, SourceCache)}. Binding many
+ * beans from the same file therefore reads and parses it once; later loads
+ * cost a cache lookup. A file changed at runtime is only read again after it
+ * is invalidated in the cache.</p>
+ *
+ * <h2>Instrumentation</h2>
+ * <p>A {@link BindingListener} passed to
+ * {@link #PropertiesReader(String, BindingMode, SourceCache, BindingListener)}
+ * receives timed events for path resolution, cache hits and misses, opening
+ * and parsing files, converting and writing each field, and binding each
+ * bean, as well as their failures. Beans are bound by the same binder with
+ * or without a listener, which determines the per-field events available;
+ * see {@link BindingListener}. Without one the reader uses
+ * {@link BindingListener#NOOP} and is not instrumented at all.</p>
+ *
+ * <p>Independently of listeners, source loads and binds are recorded as
+ * JDK Flight Recorder events while a recording is running; see
+ * {@link ConfigurationEvents}.</p>
+ *
  * <h2>Parsing and conversion rules</h2>
  * <ul>
  *   <li>The reader maintains a small built-in map of parsers for common types
- *       (int, Integer, float, Float, double, Double, boolean, Boolean).
- *       These are used automatically when the field's type matches.</li>
+ *       (int, Integer, long, Long, float, Float, double, Double, boolean,
+ *       Boolean). These are used automatically when the field's type
+ *       matches. They implement the primitive specializations of
+ *       {@link PropertyValueParser}, such as
+ *       {@link in.testautomationstudio.commons.parser.IntPropertyValueParser},
+ *       so primitive fields are converted and written without boxing; custom
+ *       parsers implementing a specialization get the same treatment. Runtime
+ *       binders hand such fields their value as a range of the loaded file,
+ *       so plain numeric and boolean values never become strings.</li>
  *   <li>If the {@link PropertyKey#parser()} element declares a custom
  *       {@link PropertyValueParser} (one other than
- *       {@link DefaultPropertyValueParser}), the reader will instantiate it via
- *       a no-argument constructor and use it to parse the property value.</li>
- *   <li>If no parser is specified and the field is an enum, the reader will
- *       resolve the enum constant using {@link Enum#valueOf(Class, String)}.
+ *       {@link DefaultPropertyValueParser}), the reader obtains it from
+ *       {@link in.testautomationstudio.commons.parser.ParserRegistry}, which
+ *       instantiates each parser class once via its no-argument constructor
+ *       and shares the instance, and uses it to parse the property value.
+ *       Parsers annotated with
+ *       {@link in.testautomationstudio.commons.annotation.StatefulParser} are
+ *       instantiated for every value instead.</li>
+ *   <li>If no parser is specified and the field is an enum, the reader
+ *       resolves the constant through the enum's shared
+ *       {@link in.testautomationstudio.commons.parser.EnumLookup}, which
+ *       accepts its name, ignoring case, or an
+ *       {@link in.testautomationstudio.commons.annotation.EnumAlias}.</li>
  *   <li>Otherwise the raw string value is assigned directly (suitable for
  *       {@link String} fields or for downstream conversion).</li>
  *   <li>If the resolved property value is {@code null} or blank (as defined
  *       by {@link org.apache.commons.lang3.StringUtils#isBlank(CharSequence)}),
  *       the reader will not modify the field (the existing value remains).
  *       Note: the annotation's {@code defaultValue} is supplied to
- *       {@link java.util.Properties#getProperty(String, String)} which means a
+ *       {@link PropertySource#getProperty(String, String)} which means a
  *       non-empty default will be used when the property is absent.</li>
  * </ul>
  *
@@ -68,7 +156,9 @@ import java.util.Properties;
  *   <li>Failure to instantiate a custom parser: the reader throws a
  *       {@link RuntimeException} with details about the parser class and cause.</li>
  *   <li>Reflection errors when writing fields are wrapped in a
- *       {@link RuntimeException}.</li>
+ *       {@link RuntimeException}. Fields are written through setter
+ *       {@link java.lang.invoke.MethodHandle}s resolved once per field, so a
+ *       value of the wrong type surfaces as a {@link ClassCastException}.</li>
  * </ul>
  *
  * <h2>Examples</h2>
@@ -123,37 +213,99 @@ import java.util.Properties;
  * @param <T> type of the configuration bean handled by this reader
  */
 public class PropertiesReader<T> implements ConfigurationReader<T> {
-    private static final Map<Class<?>, PropertyValueParser<?>> PARSERS = new HashMap<>();
+    static final Map<Class<?>, PropertyValueParser<?>> PARSERS = new HashMap<>();
+
+    private static final ClassValue<Boolean> INTERPOLATES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            Configuration configuration = type.getAnnotation(Configuration.class);
+            return configuration != null && configuration.interpolate();
+        }
+    };
 
     static {
-        PARSERS.put(int.class, (PropertyValueParser<Integer>) Integer::parseInt);
-        PARSERS.put(Integer.class, (PropertyValueParser<Integer>) Integer::parseInt);
-        PARSERS.put(float.class, (PropertyValueParser<Float>) Float::parseFloat);
-        PARSERS.put(Float.class, (PropertyValueParser<Float>) Float::parseFloat);
-        PARSERS.put(double.class, (PropertyValueParser<Double>) Double::parseDouble);
-        PARSERS.put(Double.class, (PropertyValueParser<Double>) Double::parseDouble);
-        PARSERS.put(boolean.class, (PropertyValueParser<Boolean>) Boolean::parseBoolean);
-        PARSERS.put(Boolean.class, (PropertyValueParser<Boolean>) Boolean::parseBoolean);
+        PARSERS.put(int.class, PrimitiveParsers.INT);
+        PARSERS.put(Integer.class, PrimitiveParsers.INT);
+        PARSERS.put(long.class, PrimitiveParsers.LONG);
+        PARSERS.put(Long.class, PrimitiveParsers.LONG);
+        PARSERS.put(float.class, PrimitiveParsers.FLOAT);
+        PARSERS.put(Float.class, PrimitiveParsers.FLOAT);
+        PARSERS.put(double.class, PrimitiveParsers.DOUBLE);
+        PARSERS.put(Double.class, PrimitiveParsers.DOUBLE);
+        PARSERS.put(boolean.class, PrimitiveParsers.BOOLEAN);
+        PARSERS.put(Boolean.class, PrimitiveParsers.BOOLEAN);
     }
 
-    private String filePath;
+    private final String filePath;
+    private final BindingMode bindingMode;
+    private final SourceCache sourceCache;
+    private final BindingListener listener;
 
     /**
      * Create an empty reader that will attempt to discover the properties
      * file via the {@link Configuration} annotation on the target bean's class.
      */
     public PropertiesReader() {
+        this(null, BindingMode.METHOD_HANDLE);
     }
 
     /**
      * Create a reader that uses the supplied {@code filePath} when loading
      * properties. This path is treated as a classpath resource and will be
-     * resolved via the active {@link ClassLoader}.
+     * resolved via the active {@link ClassLoader}, unless it starts with
+     * {@code file:}, in which case it names a file on the file system.
      *
-     * @param filePath path to the properties resource (relative to the classpath)
+     * @param filePath path to the properties resource (relative to the classpath, or {@code file:} path)
      */
     public PropertiesReader(String filePath) {
+        this(filePath, BindingMode.METHOD_HANDLE);
+    }
+
+    /**
+     * Create a reader that uses the supplied {@code filePath} and binds
+     * classes without a compile-time generated binder with
+     * {@code bindingMode}.
+     *
+     * @param filePath    path to the properties resource (relative to the classpath, or {@code file:} path),
+     *                    or {@code null} to use the {@link Configuration} annotation
+     * @param bindingMode strategy for classes without a generated binder
+     */
+    public PropertiesReader(String filePath, BindingMode bindingMode) {
+        this(filePath, bindingMode, SourceCache.shared());
+    }
+
+    /**
+     * Create a reader that uses the supplied {@code filePath}, binding mode
+     * and source cache.
+     *
+     * @param filePath    path to the properties resource (relative to the classpath, or {@code file:} path),
+     *                    or {@code null} to use the {@link Configuration} annotation
+     * @param bindingMode strategy for classes without a generated binder
+     * @param sourceCache cache of parsed properties files, or {@code null} to
+     *                    read and parse the file on every load
+     */
+    public PropertiesReader(String filePath, BindingMode bindingMode, SourceCache sourceCache) {
+        this(filePath, bindingMode, sourceCache, BindingListener.NOOP);
+    }
+
+    /**
+     * Create a reader that uses the supplied {@code filePath}, binding mode
+     * and source cache, and reports every load to {@code listener}.
+     *
+     * @param filePath    path to the properties resource (relative to the classpath, or {@code file:} path),
+     *                    or {@code null} to use the {@link Configuration} annotation
+     * @param bindingMode strategy for classes without a generated binder
+     * @param sourceCache cache of parsed properties files, or {@code null} to
+     *                    read and parse the file on every load
+     * @param listener    receives timed events of every load phase, or
+     *                    {@link BindingListener#NOOP}
+     */
+    public PropertiesReader(String filePath, BindingMode bindingMode, SourceCache sourceCache,
+                            BindingListener listener) {
         this.filePath = filePath;
+        this.bindingMode = bindingMode;
+        this.sourceCache = sourceCache;
+        this.listener = Objects.requireNonNull(listener, "listener");
     }
 
     /**
@@ -169,13 +321,18 @@ public class PropertiesReader<T> implements ConfigurationReader<T> {
      *       a null/empty path which may result in an error.)</li>
      *   <li>Resolve placeholders in the file path via
      *       {@link PlaceholderResolver#resolvePlaceholders(String)}.</li>
-     *   <li>Load the resolved resource from the classpath. A missing resource
-     *       results in a {@link FileNotFoundException} wrapped by a
-     *       {@link RuntimeException}.</li>
-     *   <li>Iterate declared instance fields on the target bean; for fields
-     *       annotated with {@link PropertyKey}, obtain the property value (or
-     *       the annotation's default) and delegate to {@link #setFieldValue}
-     *       for conversion and assignment.</li>
+     *   <li>Load the resolved file from the classpath or the file system, or
+     *       take it from the reader's {@link SourceCache} when it was parsed
+     *       before. A missing file results in a {@link FileNotFoundException}
+     *       wrapped by a {@link RuntimeException}.</li>
+     *   <li>Run the {@link ConfigurationBinder} of the target class: for
+     *       every field annotated with {@link PropertyKey}, obtain the property
+     *       value (or the annotation's default), convert it and assign it to
+     *       the field. A binder generated at compile time is used when
+     *       present; otherwise a binding plan is compiled from the class's
+     *       declared fields on first use. Either way the binder is cached, so
+     *       repeated loads of the same class do not scan its fields or
+     *       annotations again.</li>
      * </ol>
      *
      * @param bean non-null instance whose annotated fields are to be populated
@@ -183,107 +340,313 @@ public class PropertiesReader<T> implements ConfigurationReader<T> {
      */
     @Override
     public void loadBean(T bean) {
-        Class<?> cls = bean.getClass();
-        if (this.filePath == null && cls.isAnnotationPresent(Configuration.class)) {
-            this.filePath = cls.getAnnotation(Configuration.class).filePath();
-        }
-        // Interpolate variables in filePath
-        this.filePath = PlaceholderResolver.resolvePlaceholders(this.filePath);
+        bind(bean, source(resolveFilePath(bean.getClass())));
+    }
 
-        ClassLoader classLoader = PropertiesReader.class.getClassLoader();
-        try (InputStream systemResource = classLoader.getResourceAsStream(filePath)) {
-            if (systemResource == null) {
-                throw new FileNotFoundException("File not found on classpath: " + this.filePath);
-            }
-            Properties properties = new Properties();
-            properties.load(systemResource);
-            for (Field field : cls.getDeclaredFields()) {
-                // Ignore static and final fields
-                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
-                    continue;
-                }
-                if (field.isAnnotationPresent(PropertyKey.class)) {
-                    PropertyKey annotation = field.getAnnotation(PropertyKey.class);
-                    String key = annotation.key();
-                    String defaultValue = annotation.defaultValue();
-                    Class<? extends PropertyValueParser<?>> parserClass = annotation.parser();
-                    PropertyValueParser<?> customParser = null;
-                    if (!parserClass.equals(DefaultPropertyValueParser.class)) {
-                        try {
-                            customParser = parserClass.getDeclaredConstructor().newInstance();
-                        } catch (Exception e) {
-                            throw new RuntimeException("Failed to instantiate custom PropertyValueParser: " + parserClass, e);
-                        }
-                    }
-                    setFieldValue(field, bean, properties.getProperty(key, defaultValue), customParser);
-                }
+    /**
+     * Populate every bean of {@code beans}, reading each distinct properties
+     * file once.
+     *
+     * <p>Beans are grouped by the resolved path of their file (the reader's
+     * path, or each class's {@link Configuration} path). Each file is then
+     * loaded, or taken from the source cache, once, and every bean of its
+     * group is bound from that single in-memory source. Groups are bound in
+     * the order their first bean appears in {@code beans}, and beans within a
+     * group in iteration order.</p>
+     *
+     * @param beans non-null beans whose annotated fields are to be populated
+     * @throws RuntimeException wrapping IO or reflection failures; beans of
+     *                          groups bound before the failure stay populated
+     */
+    @Override
+    public void loadBeans(Collection<? extends T> beans) {
+        Map<String, List<T>> beansByPath = new LinkedHashMap<>();
+        for (T bean : beans) {
+            beansByPath.computeIfAbsent(resolveFilePath(bean.getClass()), path -> new ArrayList<>()).add(bean);
+        }
+        for (Map.Entry<String, List<T>> group : beansByPath.entrySet()) {
+            PropertySource source = source(group.getKey());
+            for (T bean : group.getValue()) {
+                bind(bean, source);
             }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
     }
 
     /**
-     * Convert the raw {@code value} and set it on the {@code target} bean's
-     * {@code field}.
+     * Create an immutable configuration object of type {@code type} through
+     * its constructor.
      *
-     * <p>Conversion strategy:</p>
-     * <ol>
-     *   <li>If {@code customParser} is provided, use it to parse the string.
-     *       Any exception thrown by the parser will propagate as a
-     *       {@link RuntimeException} from the calling method.</li>
-     *   <li>Otherwise, if a built-in parser exists for the field type (see
-     *       {@code PARSERS}), use it.</li>
-     *   <li>If the field is an enum type, resolve the enum constant by name.
-     *   <li>For all other types, assign the raw string value directly (this is
-     *       appropriate for {@link String} fields).</li>
-     * </ol>
+     * <p>Records are created with their canonical constructor, each component
+     * annotated with {@link PropertyKey}; other classes with the single
+     * constructor whose parameters all carry it. Every value is read from
+     * the resolved file, converted with the same parsers as field binding
+     * and passed to the constructor; missing or blank values are passed as
+     * {@code null}, or zero or {@code false} for primitives. The object's
+     * fields can thus be {@code final}, which {@link #loadBean(Object)}
+     * cannot assign, and the object can be shared between threads without
+     * further synchronization.</p>
+     *
+     * <pre>{@code
+     * @Configuration(filePath = "qa-configurations.properties")
+     * public record QAConfig(@PropertyKey(key = "service.url") String serviceUrl,
+     *                        @PropertyKey(key = "service.timeout", defaultValue = "30") int timeout) {
+     * }
+     *
+     * QAConfig config = new PropertiesReader<>().read(QAConfig.class);
+     * }</pre>
+     *
+     * <p>The reader's {@link BindingMode} and {@link BindingListener} do not
+     * apply to constructor binding.</p>
+     *
+     * @param type record, or class with an annotated constructor
+     * @param <R>  type of the configuration object
+     * @return new instance of {@code type}
+     * @throws IllegalArgumentException if {@code type} has no constructor to
+     *                                  bind, see above
+     * @throws RuntimeException         wrapping the failure to read the source
+     *                                  or a checked constructor exception
+     */
+    public <R> R read(Class<R> type) {
+        ConstructorBinding binding = ConstructorBinding.of(type);
+        PropertySource source = source(resolveFilePath(type));
+        if (INTERPOLATES.get(type) && source instanceof ImmutablePropertySource immutable) {
+            source = immutable.interpolated();
+        }
+        return binding.create(type, source);
+    }
+
+    /**
+     * Create a lazy implementation of the configuration interface
+     * {@code type}.
+     *
+     * <p>Every abstract method of {@code type} must be a getter annotated with
+     * {@link PropertyKey}. The properties file is resolved and loaded, or
+     * taken from the source cache, when the proxy is created; a getter reads
+     * and parses its value only when it is first called, using the same
+     * parsers as field binding, and returns the stored result afterwards.
+     * Values of getters that are never called are never parsed. A getter
+     * whose value is missing or blank runs its {@code default} method body if
+     * it has one, and otherwise returns {@code null}, or zero or
+     * {@code false} for primitives.</p>
+     *
+     * <pre>{@code
+     * @Configuration(filePath = "qa-configurations.properties")
+     * public interface QAConfig {
+     *     @PropertyKey(key = "service.url")
+     *     String serviceUrl();
      *
-     * <p>Note: this method will not modify the field when {@code value} is
-     * {@code null} or blank according to {@link StringUtils#isBlank}.</p>
+     *     @PropertyKey(key = "service.timeout")
+     *     default int timeout() {
+     *         return 30;
+     *     }
+     * }
      *
-     * @param field the field to be set (must be non-static, non-final)
-     * @param target the bean instance whose field value is modified
-     * @param value the raw value obtained from the properties file (may be null)
-     * @param customParser optional parser to convert the string value
-     * @throws RuntimeException wrapping reflection errors
+     * QAConfig config = new PropertiesReader<>().loadProxy(QAConfig.class);
+     * }</pre>
+     *
+     * <p>Proxies are thread-safe. Parse failures surface from the getter that
+     * first reads the value, not from this method. The reader's
+     * {@link BindingMode} and {@link BindingListener} do not apply to
+     * getters.</p>
+     *
+     * @param type configuration interface
+     * @param <I>  interface type
+     * @return proxy implementing {@code type}
+     * @throws IllegalArgumentException if {@code type} is not an interface or
+     *                                  declares an abstract method that is not
+     *                                  an annotated getter
+     * @throws RuntimeException         wrapping the failure to read the source
      */
-    private void setFieldValue(Field field, T target, Object value, PropertyValueParser<?> customParser) {
-        // If the value is not provided then do not set the field
-        if (value == null || StringUtils.isBlank((String) value)) {
-            return;
+    public <I> I loadProxy(Class<I> type) {
+        ConfigurationProxies.validate(type);
+        PropertySource source = source(resolveFilePath(type));
+        if (INTERPOLATES.get(type) && source instanceof ImmutablePropertySource immutable) {
+            source = immutable.interpolated();
+        }
+        return ConfigurationProxies.create(type, source);
+    }
+
+    /**
+     * Bind {@code bean} from a freshly read copy of its file, replacing the
+     * source cached for that file.
+     */
+    void reloadBean(T bean) {
+        Class<?> cls = bean.getClass();
+        String resolvedPath = resolveFilePath(cls);
+        if (sourceCache != null) {
+            sourceCache.invalidate(resolvedPath, PropertiesReader.class.getClassLoader());
+        }
+        bind(bean, source(resolvedPath));
+    }
+
+    /**
+     * @return the file on the default file system that beans of {@code cls}
+     * are loaded from, or {@code null} if the source is not such a file (for
+     * example a resource inside a jar) or does not exist
+     */
+    Path sourceFile(Class<?> cls) {
+        String resolvedPath = resolveFilePath(cls);
+        Path file = PropertySources.file(resolvedPath);
+        if (file != null) {
+            return file;
+        }
+        if (resolvedPath.startsWith(PropertySources.CLASSPATH_PREFIX)) {
+            resolvedPath = resolvedPath.substring(PropertySources.CLASSPATH_PREFIX.length());
+        }
+        URL url = PropertiesReader.class.getClassLoader().getResource(resolvedPath);
+        if (url == null || !"file".equals(url.getProtocol())) {
+            return null;
         }
         try {
-            Class<?> fieldType = field.getType();
-            Object parsedValue;
-            if (customParser != null) {
-                parsedValue = customParser.parse((String) value);
+            return Path.of(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Run the binder of {@code bean}'s class against {@code source}.
+     */
+    void bind(T bean, PropertySource source) {
+        Class<?> cls = bean.getClass();
+        if (INTERPOLATES.get(cls) && source instanceof ImmutablePropertySource immutable) {
+            source = immutable.interpolated();
+        }
+        BindEvent event = ConfigurationEvents.beginBind();
+        ConfigurationBinder<Object> binder = Binders.forClass(cls, bindingMode);
+        if (listener == BindingListener.NOOP) {
+            binder.bind(bean, source);
+        } else {
+            long start = System.nanoTime();
+            if (binder instanceof BindingPlan plan) {
+                plan.bind(bean, source, listener);
             } else {
-                PropertyValueParser<?> parser = PARSERS.get(fieldType);
-                if (parser != null) {
-                    parsedValue = parser.parse((String) value);
-                } else if (fieldType.isEnum()) {
-                    parsedValue = createEnumInstance(fieldType, (String) value);
-                } else {
-                    parsedValue = value;
-                }
+                bindObserved(cls, binder, bean, source);
+            }
+            listener.beanBound(cls, System.nanoTime() - start);
+        }
+        if (event != null) {
+            ConfigurationEvents.commit(event, cls, BindingPlan.fieldCount(cls));
+        }
+    }
+
+    /**
+     * Run a generated or hidden-class binder, which cannot time its fields,
+     * reporting the conversions of its {@link ConfigurationEvents#timed timed}
+     * custom parsers as {@link BindingListener#fieldParsed} events.
+     */
+    private void bindObserved(Class<?> cls, ConfigurationBinder<Object> binder, T bean, PropertySource source) {
+        ConfigurationEvents.ParseObserver previous = ConfigurationEvents.observeParses((parserClass, key, nanos) -> {
+            Field field = BindingPlan.fieldForKey(cls, key);
+            if (field != null) {
+                listener.fieldParsed(field, nanos);
+            }
+        });
+        try {
+            binder.bind(bean, source);
+        } finally {
+            ConfigurationEvents.observeParses(previous);
+        }
+    }
+
+    /**
+     * @return the source at {@code resolvedPath}, from the cache when present
+     * @throws RuntimeException wrapping the failure to read the source
+     */
+    PropertySource source(String resolvedPath) {
+        ClassLoader classLoader = PropertiesReader.class.getClassLoader();
+        try {
+            if (listener == BindingListener.NOOP) {
+                return sourceCache == null
+                        ? load(resolvedPath, classLoader)
+                        : sourceCache.get(resolvedPath, classLoader, this::load);
+            }
+            if (sourceCache == null) {
+                return load(resolvedPath, classLoader);
             }
-            FieldUtils.writeField(field, target, parsedValue, true);
-        } catch (IllegalAccessException e) {
+            boolean[] missed = new boolean[1];
+            PropertySource source = sourceCache.get(resolvedPath, classLoader, (path, loader) -> {
+                missed[0] = true;
+                listener.cacheMiss(path);
+                return load(path, loader);
+            });
+            if (!missed[0]) {
+                listener.cacheHit(resolvedPath);
+            }
+            return source;
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * Create an enum instance of the supplied {@code enumType} by name.
-     *
-     * @param enumType enum class object
-     * @param name name of the enum constant
-     * @param <U> enum type parameter
-     * @return enum constant of type {@code U}
+     * Read and parse the source at {@code resolvedPath}, reporting both steps
+     * to the listener and the whole load to the Flight Recorder.
+     */
+    private ImmutablePropertySource load(String resolvedPath, ClassLoader classLoader) throws IOException {
+        SourceLoadEvent event = ConfigurationEvents.beginSourceLoad();
+        if (listener == BindingListener.NOOP) {
+            ByteBuffer bytes = PropertySources.read(resolvedPath, classLoader);
+            ImmutablePropertySource source = PropertySources.parse(bytes);
+            ConfigurationEvents.commit(event, resolvedPath, bytes.remaining(), source.size());
+            return source;
+        }
+        long start = System.nanoTime();
+        ByteBuffer bytes;
+        try {
+            bytes = PropertySources.read(resolvedPath, classLoader);
+        } catch (IOException | RuntimeException e) {
+            listener.openFailed(resolvedPath, e);
+            throw e;
+        }
+        long opened = System.nanoTime();
+        listener.sourceOpened(resolvedPath, opened - start);
+        ImmutablePropertySource source;
+        try {
+            source = PropertySources.parse(bytes);
+        } catch (RuntimeException e) {
+            listener.parseFailed(resolvedPath, e);
+            throw e;
+        }
+        listener.sourceParsed(resolvedPath, source.size(), System.nanoTime() - opened);
+        ConfigurationEvents.commit(event, resolvedPath, bytes.remaining(), source.size());
+        return source;
+    }
+
+    /**
+     * @return the path given to the constructor, or {@code null}
      */
-    @SuppressWarnings("unchecked")
-    private <U extends Enum<U>> U createEnumInstance(Class<?> enumType, String name) {
-        return Enum.valueOf((Class<U>) enumType, name);
+    String filePath() {
+        return filePath;
+    }
+
+    /**
+     * @return the reader's path, or the {@link Configuration} path of
+     * {@code cls}, with placeholders resolved
+     */
+    String resolveFilePath(Class<?> cls) {
+        if (listener == BindingListener.NOOP) {
+            return resolvePath(cls);
+        }
+        long start = System.nanoTime();
+        String resolvedPath;
+        try {
+            resolvedPath = resolvePath(cls);
+        } catch (RuntimeException e) {
+            listener.pathResolutionFailed(cls, e);
+            throw e;
+        }
+        listener.pathResolved(cls, resolvedPath, System.nanoTime() - start);
+        return resolvedPath;
     }
+
+    private String resolvePath(Class<?> cls) {
+        String path = filePath;
+        if (path == null && cls.isAnnotationPresent(Configuration.class)) {
+            path = cls.getAnnotation(Configuration.class).filePath();
+        }
+        // Interpolate variables in filePath
+        return PlaceholderResolver.resolvePlaceholders(path);
+    }
+
 }
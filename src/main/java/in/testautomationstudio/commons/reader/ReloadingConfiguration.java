@@ -0,0 +1,268 @@
+package in.testautomationstudio.commons.reader;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Hot-reloading holder of a configuration bean.
+ *
+ * <p>Every load binds a <em>new</em> bean instance and then publishes it with
+ * a single atomic reference update, so {@link #get()} never blocks and never
+ * returns a partially bound bean: callers see either the previous snapshot or
+ * the new one, complete. Beans handed out earlier are never modified.</p>
+ *
+ * <h2>Watching</h2>
+ * <p>When the bean's properties file is a file on the default file system
+ * (a {@code file:} location, or a classpath resource served from a directory
+ * rather than a jar), its directory is
+ * watched with a {@link WatchService}. Creating, modifying or replacing the
+ * file triggers a reload on a background daemon thread once the file has
+ * seen no further change for a quiet period ({@link #DEFAULT_QUIET_PERIOD}
+ * unless configured): the cached source is invalidated, the file is read and
+ * parsed again, a new bean is bound and published. A reload that fails (for
+ * example because the file holds an invalid value) keeps the previous
+ * snapshot and is reported to the error handler; the next change triggers
+ * another attempt. Sources that cannot be watched can still be refreshed
+ * with {@link #reload()}.</p>
+ *
+ * <p>The quiet period lets a writer that truncates and rewrites the file in
+ * place, as editors and {@link java.nio.file.Files#writeString} do, finish
+ * before the file is read. It cannot detect a writer that pauses for longer
+ * than the period, and a file read while it is truncated binds successfully:
+ * missing keys are not an error, so the new snapshot would hold the beans'
+ * initial values. Write the new content to a temporary file in the same
+ * directory and move it over the watched file atomically when every reload
+ * must see a complete file.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * try (ReloadingConfiguration<GridConfig> config =
+ *          ReloadingConfiguration.watch(new PropertiesReader<>(), GridConfig::new)) {
+ *     GridConfig current = config.get(); // always a fully bound snapshot
+ * }
+ * }</pre>
+ *
+ * @param <T> type of the configuration bean
+ */
+public final class ReloadingConfiguration<T> implements AutoCloseable {
+    /**
+     * Time a watched file must go without changes before it is reloaded,
+     * unless another period is passed to
+     * {@link #watch(PropertiesReader, Supplier, Consumer, Duration)}.
+     */
+    public static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(250);
+
+    private static final System.Logger LOGGER = System.getLogger(ReloadingConfiguration.class.getName());
+
+    private final PropertiesReader<T> reader;
+    private final Supplier<? extends T> factory;
+    private final Consumer<? super RuntimeException> errorHandler;
+    private final long quietPeriodNanos;
+    private final AtomicReference<T> snapshot = new AtomicReference<>();
+    private final WatchService watchService;
+    private volatile boolean closed;
+
+    private ReloadingConfiguration(PropertiesReader<T> reader, Supplier<? extends T> factory,
+                                   Consumer<? super RuntimeException> errorHandler, Duration quietPeriod) {
+        this.reader = reader;
+        this.factory = factory;
+        this.errorHandler = errorHandler;
+        this.quietPeriodNanos = quietPeriod.toNanos();
+        T bean = factory.get();
+        reader.loadBean(bean);
+        snapshot.set(bean);
+        this.watchService = watch(reader.sourceFile(bean.getClass()));
+    }
+
+    /**
+     * Load a first snapshot and watch its file, logging failed reloads as
+     * warnings through the {@link System.Logger} named after this class.
+     *
+     * @param reader  reader binding every snapshot
+     * @param factory creates an empty bean for every snapshot
+     * @param <T>     type of the configuration bean
+     * @return holder of the current snapshot
+     * @throws RuntimeException if the first snapshot cannot be loaded
+     */
+    public static <T> ReloadingConfiguration<T> watch(PropertiesReader<T> reader, Supplier<? extends T> factory) {
+        return watch(reader, factory, ReloadingConfiguration::logFailedReload);
+    }
+
+    /**
+     * Load a first snapshot and watch its file.
+     *
+     * @param reader       reader binding every snapshot
+     * @param factory      creates an empty bean for every snapshot
+     * @param errorHandler receives failures of background reloads
+     * @param <T>          type of the configuration bean
+     * @return holder of the current snapshot
+     * @throws RuntimeException if the first snapshot cannot be loaded
+     */
+    public static <T> ReloadingConfiguration<T> watch(PropertiesReader<T> reader, Supplier<? extends T> factory,
+                                                      Consumer<? super RuntimeException> errorHandler) {
+        return watch(reader, factory, errorHandler, DEFAULT_QUIET_PERIOD);
+    }
+
+    /**
+     * Load a first snapshot and watch its file, reloading it once it has not
+     * changed for {@code quietPeriod}.
+     *
+     * @param reader       reader binding every snapshot
+     * @param factory      creates an empty bean for every snapshot
+     * @param errorHandler receives failures of background reloads
+     * @param quietPeriod  time without changes to the file before it is
+     *                     reloaded; zero reloads on the first change
+     * @param <T>          type of the configuration bean
+     * @return holder of the current snapshot
+     * @throws IllegalArgumentException if {@code quietPeriod} is negative
+     * @throws RuntimeException         if the first snapshot cannot be loaded
+     */
+    public static <T> ReloadingConfiguration<T> watch(PropertiesReader<T> reader, Supplier<? extends T> factory,
+                                                      Consumer<? super RuntimeException> errorHandler,
+                                                      Duration quietPeriod) {
+        if (quietPeriod.isNegative()) {
+            throw new IllegalArgumentException("quietPeriod must not be negative: " + quietPeriod);
+        }
+        return new ReloadingConfiguration<>(Objects.requireNonNull(reader, "reader"),
+                Objects.requireNonNull(factory, "factory"), Objects.requireNonNull(errorHandler, "errorHandler"),
+                quietPeriod);
+    }
+
+    /**
+     * @return the current, fully bound snapshot; never blocks
+     */
+    public T get() {
+        return snapshot.get();
+    }
+
+    /**
+     * @return whether changes to the source file are picked up automatically,
+     * which stops when this configuration is {@link #close() closed}
+     */
+    public boolean isWatching() {
+        return watchService != null && !closed;
+    }
+
+    /**
+     * Read the source again, bind a new bean and publish it. Reloads are
+     * serialized with each other; {@link #get()} is never blocked by them.
+     *
+     * @return the new snapshot
+     * @throws RuntimeException if reading or binding fails; the previous
+     *                          snapshot stays current
+     */
+    public synchronized T reload() {
+        T bean = factory.get();
+        reader.reloadBean(bean);
+        snapshot.set(bean);
+        return bean;
+    }
+
+    /**
+     * Stop watching the source file. The current snapshot stays available.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private WatchService watch(Path file) {
+        if (file == null) {
+            return null;
+        }
+        // A bare relative path such as file:app.properties has no parent of its own
+        file = file.toAbsolutePath();
+        if (file.getParent() == null) {
+            return null;
+        }
+        Path fileName = file.getFileName();
+        WatchService service;
+        try {
+            service = file.getFileSystem().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            return null;
+        }
+        try {
+            file.getParent().register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            try {
+                service.close();
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            return null;
+        }
+        Thread.ofPlatform()
+                .daemon()
+                .name("configuration-reload-" + fileName)
+                .start(() -> watchLoop(service, fileName));
+        return service;
+    }
+
+    private void watchLoop(WatchService service, Path fileName) {
+        try {
+            while (true) {
+                if (!changed(service.take(), fileName)) {
+                    continue;
+                }
+                // Let the writer finish: every further change of the file restarts the quiet period
+                long deadline = System.nanoTime() + quietPeriodNanos;
+                for (long remaining = quietPeriodNanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+                    WatchKey key = service.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (key == null) {
+                        break;
+                    }
+                    if (changed(key, fileName)) {
+                        deadline = System.nanoTime() + quietPeriodNanos;
+                    }
+                }
+                try {
+                    reload();
+                } catch (RuntimeException e) {
+                    errorHandler.accept(e);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Closed: stop watching
+        }
+    }
+
+    /**
+     * Consume the events of {@code key} and re-arm it.
+     *
+     * @return whether one of the events concerns {@code fileName}, or events
+     * were lost
+     */
+    private static boolean changed(WatchKey key, Path fileName) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+        }
+        key.reset();
+        return changed;
+    }
+
+    private static void logFailedReload(RuntimeException e) {
+        LOGGER.log(System.Logger.Level.WARNING, "Reloading configuration failed; keeping the previous snapshot", e);
+    }
+}
@@ -0,0 +1,373 @@
+package in.testautomationstudio.commons.source;
+
+import in.testautomationstudio.commons.util.PlaceholderContext;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable {@link PropertySource} backed by an open-addressing hash table.
+ *
+ * <p>Once loading finishes, the parsed keys and values are frozen into three
+ * parallel arrays: keys, values and the keys' spread hash codes. Lookups
+ * probe the arrays linearly, compare the stored hash before calling
+ * {@link String#equals(Object)}, and take no locks. There are no entry
+ * objects, so a loaded file retains little more than its strings and three
+ * arrays at most four times as long as the number of keys.</p>
+ *
+ * <h2>Raw values</h2>
+ * <p>Sources loaded by {@link PropertySources} keep the values of lines
+ * without escapes as length-prefixed ranges of one shared ISO 8859-1 byte
+ * array, located by a fourth array of offsets. Such a value becomes a
+ * {@link String} the first time {@link #getProperty(String)} returns it, and
+ * the string is kept for later calls. {@link #consumeProperty(String, Object, PropertyValueConsumer)}
+ * hands out the range itself, so a numeric value bound through it is never
+ * turned into a string. Like {@link String#hashCode()}, materializing races
+ * benignly: concurrent readers may each build an equal string.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * ImmutablePropertySource.Builder builder = ImmutablePropertySource.builder();
+ * PropertiesTokenizer.tokenize(bytes, builder::put);
+ * PropertySource source = builder.build();
+ * }</pre>
+ */
+public final class ImmutablePropertySource implements PropertySource {
+    private static final ImmutablePropertySource EMPTY =
+            new ImmutablePropertySource(new String[1], new String[1], new int[1], 0, null, null);
+
+    private final String[] keys;
+    private final String[] values;
+    private final int[] hashes;
+    private final int size;
+    private final Latin1Text text;
+    private final int[] valueOffsets;
+    private volatile PropertySource interpolated;
+
+    private ImmutablePropertySource(String[] keys, String[] values, int[] hashes, int size,
+                                    byte[] text, int[] valueOffsets) {
+        this.keys = keys;
+        this.values = values;
+        this.hashes = hashes;
+        this.size = size;
+        this.text = text == null ? null : new Latin1Text(text);
+        this.valueOffsets = valueOffsets;
+    }
+
+    /**
+     * @return a builder collecting key/value pairs in load order
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Freeze a copy of {@code values}.
+     *
+     * @param values property values keyed by property name
+     * @return immutable source with the same entries
+     */
+    public static ImmutablePropertySource copyOf(Map<String, String> values) {
+        Builder builder = new Builder();
+        values.forEach(builder::put);
+        return builder.build();
+    }
+
+    @Override
+    public String getProperty(String key) {
+        int index = indexOf(key);
+        return index < 0 ? null : value(index);
+    }
+
+    @Override
+    public boolean consumeProperty(String key, Object target, PropertyValueConsumer consumer) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return false;
+        }
+        String value = values[index];
+        if (value != null) {
+            consumer.accept(target, value, 0, value.length());
+        } else {
+            int start = text.valueStart(valueOffsets[index]);
+            consumer.accept(target, text, start, start + text.valueLength(valueOffsets[index]));
+        }
+        return true;
+    }
+
+    /**
+     * @return number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Pass every key and value to {@code action}, in table order.
+     *
+     * @param action receives each key and value
+     */
+    public void forEach(BiConsumer<String, String> action) {
+        for (int index = 0; index < keys.length; index++) {
+            if (keys[index] != null) {
+                action.accept(keys[index], value(index));
+            }
+        }
+    }
+
+    /**
+     * Return a view of this source in which {@code ${KEY}} placeholders in
+     * values are replaced, resolving each key to the value of that key in
+     * this source, or else to a system property or environment variable.
+     *
+     * <p>Values may reference values that contain placeholders themselves,
+     * in any order, but not in a cycle. Each value is resolved the first time
+     * its key is looked up, and the view is kept, so each value is resolved
+     * once per loaded source rather than once per bind. A value that cannot
+     * be resolved fails only the lookups of its key and of the keys
+     * referencing it. Classes opt in with
+     * {@link in.testautomationstudio.commons.annotation.Configuration#interpolate()}.</p>
+     *
+     * <pre>{@code
+     * # host=grid.example.com
+     * # port=4444
+     * # grid.url=http://${host}:${port}/wd/hub
+     * source.interpolated().getProperty("grid.url"); // http://grid.example.com:4444/wd/hub
+     * }</pre>
+     *
+     * @return this source if no value contains a placeholder, otherwise the
+     * view resolving placeholders on lookup
+     */
+    public PropertySource interpolated() {
+        PropertySource view = interpolated;
+        if (view == null) {
+            // Racing callers build equal views
+            view = InterpolatedPropertySource.of(this, PlaceholderContext.live());
+            interpolated = view;
+        }
+        return view;
+    }
+
+    /**
+     * Like {@link #interpolated()}, but resolve keys that are not in this
+     * source through {@code context} and do not keep the result.
+     *
+     * @param context lookup of system properties and environment variables
+     * @return this source if no value contains a placeholder, otherwise the
+     * view resolving placeholders on lookup
+     */
+    public PropertySource interpolated(PlaceholderContext context) {
+        return InterpolatedPropertySource.of(this, context);
+    }
+
+    /**
+     * Pass every key whose value may contain a placeholder to {@code action}. Raw
+     * values are scanned in place, so the others are not materialized.
+     */
+    void forEachPlaceholderValue(BiConsumer<String, String> action) {
+        for (int index = 0; index < keys.length; index++) {
+            if (keys[index] == null) {
+                continue;
+            }
+            String value = values[index];
+            if (value != null ? value.contains("${") : text.containsPlaceholder(valueOffsets[index])) {
+                action.accept(keys[index], value(index));
+            }
+        }
+    }
+
+    private int indexOf(String key) {
+        int hash = spread(key.hashCode());
+        int mask = keys.length - 1;
+        for (int index = hash & mask; ; index = (index + 1) & mask) {
+            String candidate = keys[index];
+            if (candidate == null) {
+                return -1;
+            }
+            if (hashes[index] == hash && (candidate == key || candidate.equals(key))) {
+                return index;
+            }
+        }
+    }
+
+    private String value(int index) {
+        String value = values[index];
+        if (value == null) {
+            value = text.toString(text.valueStart(valueOffsets[index]), text.valueLength(valueOffsets[index]));
+            values[index] = value;
+        }
+        return value;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Read-only view of ISO 8859-1 bytes as characters. Raw values are stored
+     * in it one after the other, each preceded by its length in 7-bit groups,
+     * low group first, with the high bit set on all but the last.
+     */
+    private static final class Latin1Text implements CharSequence {
+        private final byte[] bytes;
+
+        private Latin1Text(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return bytes.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString(start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return toString(0, bytes.length);
+        }
+
+        private String toString(int offset, int length) {
+            return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        }
+
+        private int valueLength(int offset) {
+            int length = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte group = bytes[offset++];
+                length |= (group & 0x7F) << shift;
+                if (group >= 0) {
+                    return length;
+                }
+            }
+        }
+
+        private boolean containsPlaceholder(int offset) {
+            int start = valueStart(offset);
+            int end = start + valueLength(offset) - 1;
+            for (int i = start; i < end; i++) {
+                if (bytes[i] == '$' && bytes[i + 1] == '{') {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int valueStart(int offset) {
+            while (bytes[offset++] < 0) {
+                // Skip the length prefix
+            }
+            return offset;
+        }
+    }
+
+    /**
+     * Collects key/value pairs and freezes them into an
+     * {@link ImmutablePropertySource}. When a key is put more than once, the
+     * last value wins, as with {@link java.util.Properties}. Not thread-safe.
+     */
+    public static final class Builder {
+        private final List<String> keys = new ArrayList<>();
+        private final List<String> values = new ArrayList<>();
+        private byte[] text = new byte[0];
+        private int textLength;
+
+        private Builder() {
+        }
+
+        /**
+         * Add a key/value pair.
+         *
+         * @param key   property key
+         * @param value property value
+         * @return this builder
+         */
+        public Builder put(String key, String value) {
+            keys.add(Objects.requireNonNull(key, "key"));
+            values.add(Objects.requireNonNull(value, "value"));
+            return this;
+        }
+
+        /**
+         * Add a key whose value is copied, as raw ISO 8859-1 bytes, from
+         * {@code input[start, end)} and materialized on first read.
+         */
+        void putRaw(String key, ByteBuffer input, int start, int end) {
+            int length = end - start;
+            if (length == 0) {
+                put(key, "");
+                return;
+            }
+            // At most five length bytes
+            if (textLength + length + 5 > text.length) {
+                text = Arrays.copyOf(text, Math.max(textLength + length + 5, Math.max(text.length * 2, 1024)));
+            }
+            for (int rest = length; ; rest >>>= 7) {
+                if (rest < 0x80) {
+                    text[textLength++] = (byte) rest;
+                    break;
+                }
+                text[textLength++] = (byte) (rest | 0x80);
+            }
+            input.get(start, text, textLength, length);
+            textLength += length;
+            keys.add(Objects.requireNonNull(key, "key"));
+            values.add(null);
+        }
+
+        /**
+         * @return immutable source with the entries added so far
+         */
+        public ImmutablePropertySource build() {
+            if (keys.isEmpty()) {
+                return EMPTY;
+            }
+            // Power-of-two table with a load factor of at most one half
+            int capacity = Integer.highestOneBit(Math.max(keys.size() * 2 - 1, 1)) << 1;
+            String[] tableKeys = new String[capacity];
+            String[] tableValues = new String[capacity];
+            int[] tableHashes = new int[capacity];
+            Latin1Text rawText = textLength == 0 ? null : new Latin1Text(text);
+            int[] tableOffsets = rawText == null ? null : new int[capacity];
+            // Raw values follow each other in the text in insertion order
+            int nextRaw = 0;
+            int mask = capacity - 1;
+            int size = 0;
+            for (int i = 0; i < keys.size(); i++) {
+                String key = keys.get(i);
+                int hash = spread(key.hashCode());
+                int index = hash & mask;
+                while (tableKeys[index] != null
+                        && (tableHashes[index] != hash || !tableKeys[index].equals(key))) {
+                    index = (index + 1) & mask;
+                }
+                if (tableKeys[index] == null) {
+                    tableKeys[index] = key;
+                    tableHashes[index] = hash;
+                    size++;
+                }
+                tableValues[index] = values.get(i);
+                if (tableValues[index] == null) {
+                    tableOffsets[index] = nextRaw;
+                    nextRaw = rawText.valueStart(nextRaw) + rawText.valueLength(nextRaw);
+                }
+            }
+            return new ImmutablePropertySource(tableKeys, tableValues, tableHashes, size,
+                    rawText == null ? null : Arrays.copyOf(text, textLength), tableOffsets);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package in.testautomationstudio.commons.source;
+
+import in.testautomationstudio.commons.util.PlaceholderContext;
+import in.testautomationstudio.commons.util.PlaceholderTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * View of an {@link ImmutablePropertySource} whose {@code ${KEY}}
+ * placeholders are resolved, see {@link ImmutablePropertySource#interpolated()}.
+ *
+ * <p>Values containing a placeholder are parsed when the view is created but
+ * resolved on demand, the first time their key is looked up: the values form
+ * a graph whose edges are references between keys of the source, which is
+ * walked depth-first from the requested key so that each value is resolved
+ * after the values it references, and a reference back to a value still
+ * being resolved is reported as a cycle. Every value resolved on the way is
+ * kept, and so is every failure, so a key is resolved at most once per view
+ * and a key that cannot be resolved fails each of its lookups with the same
+ * message, while the other keys of the source stay usable. Values without
+ * placeholders, including raw ranges, are served by the original source.</p>
+ */
+final class InterpolatedPropertySource implements PropertySource {
+    private final ImmutablePropertySource source;
+    private final Map<String, PlaceholderTemplate> templates;
+    private final PlaceholderContext context;
+    /**
+     * Resolved value, or {@link Failure}, of each template key looked up so
+     * far, directly or through a reference.
+     */
+    private final Map<String, Object> results = new ConcurrentHashMap<>();
+    /**
+     * Keys looked up in the context, each looked up once per view.
+     */
+    private final Map<String, String> external = new HashMap<>();
+
+    private InterpolatedPropertySource(ImmutablePropertySource source, Map<String, PlaceholderTemplate> templates,
+                                       PlaceholderContext context) {
+        this.source = source;
+        this.templates = templates;
+        this.context = context;
+    }
+
+    /**
+     * @return {@code source} itself if none of its values contains a
+     * placeholder, otherwise a view resolving placeholders on lookup
+     */
+    static PropertySource of(ImmutablePropertySource source, PlaceholderContext context) {
+        Map<String, PlaceholderTemplate> templates = new HashMap<>();
+        source.forEachPlaceholderValue((key, value) -> {
+            PlaceholderTemplate template = PlaceholderTemplate.parse(value);
+            if (!template.keys().isEmpty()) {
+                templates.put(key, template);
+            }
+        });
+        if (templates.isEmpty()) {
+            return source;
+        }
+        return new InterpolatedPropertySource(source, templates, context);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value of {@code key} references,
+     *                                  directly or indirectly, a cycle or a key
+     *                                  that is neither in the source nor in the
+     *                                  context
+     */
+    @Override
+    public String getProperty(String key) {
+        String value = resolved(key);
+        return value != null ? value : source.getProperty(key);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value of {@code key} cannot be
+     *                                  resolved, as for {@link #getProperty(String)}
+     */
+    @Override
+    public boolean consumeProperty(String key, Object target, PropertyValueConsumer consumer) {
+        String value = resolved(key);
+        if (value == null) {
+            return source.consumeProperty(key, target, consumer);
+        }
+        consumer.accept(target, value, 0, value.length());
+        return true;
+    }
+
+    /**
+     * @return the resolved value of {@code key}, or {@code null} if its value
+     * contains no placeholder
+     */
+    private String resolved(String key) {
+        Object result = results.get(key);
+        if (result == null) {
+            if (!templates.containsKey(key)) {
+                return null;
+            }
+            result = resolve(key);
+        }
+        if (result instanceof Failure failure) {
+            throw new IllegalArgumentException(failure.message());
+        }
+        return (String) result;
+    }
+
+    /**
+     * Resolve {@code root} and the values it depends on, recording a failure
+     * for {@code root} and every key on the way to the value that failed.
+     * Serialized, since it happens at most once per key.
+     */
+    private synchronized Object resolve(String root) {
+        Object result = results.get(root);
+        if (result != null) {
+            return result;
+        }
+        Deque<String> path = new ArrayDeque<>();
+        Set<String> inProgress = new HashSet<>();
+        path.push(root);
+        inProgress.add(root);
+        try {
+            while (!path.isEmpty()) {
+                String key = path.peek();
+                String pending = pendingReference(key, path, inProgress);
+                if (pending != null) {
+                    path.push(pending);
+                    inProgress.add(pending);
+                    continue;
+                }
+                results.put(key, templates.get(key).resolve(reference -> valueOf(reference, key)));
+                path.pop();
+                inProgress.remove(key);
+            }
+        } catch (IllegalArgumentException e) {
+            Failure failure = new Failure(e.getMessage());
+            for (String key : path) {
+                results.put(key, failure);
+            }
+        }
+        return results.get(root);
+    }
+
+    /**
+     * @return the first key referenced by the value of {@code key} that
+     * still has to be resolved, or {@code null} if there is none
+     */
+    private String pendingReference(String key, Deque<String> path, Set<String> inProgress) {
+        for (String reference : templates.get(key).keys()) {
+            if (!templates.containsKey(reference) || results.containsKey(reference)) {
+                continue;
+            }
+            if (inProgress.contains(reference)) {
+                throw new IllegalArgumentException("Cyclic placeholder reference: " + cycle(path, reference));
+            }
+            return reference;
+        }
+        return null;
+    }
+
+    private String valueOf(String reference, String key) {
+        Object result = results.get(reference);
+        if (result instanceof Failure failure) {
+            throw new IllegalArgumentException(failure.message());
+        }
+        if (result != null) {
+            return (String) result;
+        }
+        String value = source.getProperty(reference);
+        if (value != null) {
+            return value;
+        }
+        value = external.computeIfAbsent(reference, context::lookup);
+        if (value == null) {
+            throw new IllegalArgumentException("No property, environment variable or system property found for"
+                    + " placeholder: " + reference + " in value of: " + key);
+        }
+        return value;
+    }
+
+    private static String cycle(Deque<String> path, String reference) {
+        List<String> keys = new ArrayList<>();
+        for (Iterator<String> iterator = path.descendingIterator(); iterator.hasNext(); ) {
+            String key = iterator.next();
+            if (!keys.isEmpty() || key.equals(reference)) {
+                keys.add(key);
+            }
+        }
+        keys.add(reference);
+        return String.join(" -> ", keys);
+    }
+
+    /**
+     * Message of a value that could not be resolved.
+     */
+    private record Failure(String message) {
+    }
+}
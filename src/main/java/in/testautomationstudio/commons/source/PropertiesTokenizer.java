@@ -0,0 +1,350 @@
+package in.testautomationstudio.commons.source;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+/**
+ * Streaming tokenizer for the {@code .properties} format, reading ISO 8859-1
+ * bytes straight from a {@code byte[]} or {@link ByteBuffer}.
+ *
+ * <p>The grammar is the one of {@link java.util.Properties#load(java.io.InputStream)}:</p>
+ * <ul>
+ *   <li>lines end with {@code \n}, {@code \r} or {@code \r\n}; leading
+ *       whitespace (space, tab, form feed) is ignored and blank lines are
+ *       skipped;</li>
+ *   <li>lines whose first non-whitespace character is {@code #} or
+ *       {@code !} are comments;</li>
+ *   <li>a line ending in an odd number of backslashes continues on the next
+ *       line, whose leading whitespace is dropped;</li>
+ *   <li>the key ends at the first unescaped {@code =}, {@code :} or
+ *       whitespace; whitespace around the separator (and one {@code =} or
+ *       {@code :} after whitespace) is skipped and the rest of the line is
+ *       the value, trailing whitespace included;</li>
+ *   <li>{@code \t}, {@code \n}, {@code \r}, {@code \f} and {@code \}{@code uXXXX}
+ *       escapes are decoded; a backslash before any other character yields
+ *       that character.</li>
+ * </ul>
+ *
+ * <h2>Allocation</h2>
+ * <p>Lines without a backslash, which is nearly all of them in practice, are
+ * split on the raw bytes and each key and value becomes one {@link String}
+ * copied directly from the input (Latin-1 bytes map one-to-one onto compact
+ * strings). Only lines with escapes or continuations are assembled and
+ * decoded in a reusable {@code char[]} scratch buffer. No line objects,
+ * readers or hash table entries are created. {@link PropertySources} goes
+ * one step further and receives the values of such lines as byte ranges of
+ * the input, so they only become strings when they are read as strings.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * Map<String, String> values = new HashMap<>();
+ * PropertiesTokenizer.tokenize(Files.readAllBytes(path), values::put);
+ * }</pre>
+ */
+public final class PropertiesTokenizer {
+    private final ByteBuffer buffer;
+    private final byte[] array;
+    private final int offset;
+    private final int limit;
+    private byte[] bytes = new byte[0];
+    private char[] line = new char[128];
+
+    private PropertiesTokenizer(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.array = buffer.hasArray() ? buffer.array() : null;
+        this.offset = buffer.hasArray() ? buffer.arrayOffset() : 0;
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Tokenize {@code input} and pass every key/value pair, in file order, to
+     * {@code handler}.
+     *
+     * @param input   ISO 8859-1 encoded properties
+     * @param handler receives each key and value
+     * @throws IllegalArgumentException if the input contains a malformed
+     *                                  {@code \}{@code uXXXX} escape
+     */
+    public static void tokenize(byte[] input, BiConsumer<String, String> handler) {
+        tokenize(ByteBuffer.wrap(input), handler);
+    }
+
+    /**
+     * Tokenize the remaining bytes of {@code input} and pass every key/value
+     * pair, in file order, to {@code handler}. The buffer's position is not
+     * changed.
+     *
+     * @param input   ISO 8859-1 encoded properties, heap or direct
+     * @param handler receives each key and value
+     * @throws IllegalArgumentException if the input contains a malformed
+     *                                  {@code \}{@code uXXXX} escape
+     */
+    public static void tokenize(ByteBuffer input, BiConsumer<String, String> handler) {
+        PropertiesTokenizer tokenizer = new PropertiesTokenizer(input);
+        tokenizer.run(input.position(), new Handler() {
+            @Override
+            public void accept(String key, String value) {
+                handler.accept(key, value);
+            }
+
+            @Override
+            public void acceptRaw(String key, ByteBuffer input, int start, int end) {
+                handler.accept(key, tokenizer.string(start, end));
+            }
+        });
+    }
+
+    /**
+     * Tokenize the remaining bytes of {@code input}, passing the values of
+     * lines without escapes or continuations as raw byte ranges.
+     *
+     * @param input   ISO 8859-1 encoded properties, heap or direct
+     * @param handler receives each key and value
+     */
+    static void tokenize(ByteBuffer input, Handler handler) {
+        new PropertiesTokenizer(input).run(input.position(), handler);
+    }
+
+    private void run(int position, Handler handler) {
+        int pos = position;
+        while (pos < limit) {
+            int c = byteAt(pos);
+            if (isWhitespace(c) || c == '\n' || c == '\r') {
+                pos++;
+            } else if (c == '#' || c == '!') {
+                pos = endOfLine(pos);
+            } else {
+                int end = pos;
+                boolean escaped = false;
+                while (end < limit && (c = byteAt(end)) != '\n' && c != '\r') {
+                    escaped |= c == '\\';
+                    end++;
+                }
+                if (escaped) {
+                    pos = logicalLine(pos, handler);
+                } else {
+                    simpleLine(pos, end, handler);
+                    pos = end;
+                }
+            }
+        }
+    }
+
+    /**
+     * Split a line without backslashes on the raw bytes.
+     */
+    private void simpleLine(int start, int end, Handler handler) {
+        int keyEnd = start;
+        int valueStart = end;
+        boolean hasSeparator = false;
+        while (keyEnd < end) {
+            int c = byteAt(keyEnd);
+            if (c == '=' || c == ':') {
+                valueStart = keyEnd + 1;
+                hasSeparator = true;
+                break;
+            }
+            if (isWhitespace(c)) {
+                valueStart = keyEnd + 1;
+                break;
+            }
+            keyEnd++;
+        }
+        while (valueStart < end) {
+            int c = byteAt(valueStart);
+            if (!isWhitespace(c)) {
+                if (hasSeparator || (c != '=' && c != ':')) {
+                    break;
+                }
+                hasSeparator = true;
+            }
+            valueStart++;
+        }
+        handler.acceptRaw(string(start, keyEnd), buffer, valueStart, end);
+    }
+
+    /**
+     * Assemble the logical line starting at {@code start} into the scratch
+     * buffer, joining continuation lines, then split and decode it.
+     *
+     * @return position after the logical line
+     */
+    private int logicalLine(int start, Handler handler) {
+        int pos = start;
+        int length = 0;
+        boolean precedingBackslash = false;
+        boolean skipWhitespace = false;
+        boolean appendedLineBegin = false;
+        while (pos < limit) {
+            char c = (char) byteAt(pos++);
+            if (skipWhitespace) {
+                if (isWhitespace(c) || (!appendedLineBegin && (c == '\r' || c == '\n'))) {
+                    continue;
+                }
+                skipWhitespace = false;
+                appendedLineBegin = false;
+            }
+            if (length == 0 && (c == '#' || c == '!')) {
+                // A continuation collapsed the line to nothing; this is a new comment line
+                pos = endOfLine(pos);
+                skipWhitespace = true;
+                continue;
+            }
+            if (c != '\n' && c != '\r') {
+                if (length == line.length) {
+                    char[] grown = new char[length * 2];
+                    System.arraycopy(line, 0, grown, 0, length);
+                    line = grown;
+                }
+                line[length++] = c;
+                precedingBackslash = c == '\\' && !precedingBackslash;
+            } else if (length == 0) {
+                skipWhitespace = true;
+            } else if (pos == limit) {
+                // Like LineReader, a line ending the input is kept even if only a continuation backslash made it
+                split(precedingBackslash ? length - 1 : length, handler);
+                return pos;
+            } else if (precedingBackslash) {
+                length--;
+                precedingBackslash = false;
+                skipWhitespace = true;
+                appendedLineBegin = true;
+                if (c == '\r' && pos < limit && byteAt(pos) == '\n') {
+                    pos++;
+                }
+            } else {
+                split(length, handler);
+                return pos;
+            }
+        }
+        if (length > 0) {
+            // A trailing backslash is dropped, possibly leaving an empty key and value
+            split(precedingBackslash ? length - 1 : length, handler);
+        }
+        return pos;
+    }
+
+    private void split(int length, Handler handler) {
+        int keyEnd = 0;
+        int valueStart = length;
+        boolean hasSeparator = false;
+        boolean precedingBackslash = false;
+        while (keyEnd < length) {
+            char c = line[keyEnd];
+            if ((c == '=' || c == ':') && !precedingBackslash) {
+                valueStart = keyEnd + 1;
+                hasSeparator = true;
+                break;
+            }
+            if (isWhitespace(c) && !precedingBackslash) {
+                valueStart = keyEnd + 1;
+                break;
+            }
+            precedingBackslash = c == '\\' && !precedingBackslash;
+            keyEnd++;
+        }
+        while (valueStart < length) {
+            char c = line[valueStart];
+            if (!isWhitespace(c)) {
+                if (hasSeparator || (c != '=' && c != ':')) {
+                    break;
+                }
+                hasSeparator = true;
+            }
+            valueStart++;
+        }
+        String key = decode(0, keyEnd);
+        String value = decode(valueStart, length);
+        handler.accept(key, value);
+    }
+
+    /**
+     * Decode escapes of {@code line[start, end)} in place; the decoded text
+     * is never longer than the encoded one.
+     */
+    private String decode(int start, int end) {
+        int in = start;
+        int out = start;
+        while (in < end) {
+            char c = line[in++];
+            if (c == '\\' && in < end) {
+                c = line[in++];
+                if (c == 'u') {
+                    if (in + 4 > end) {
+                        throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                    }
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(line[in++], 16);
+                        if (digit < 0) {
+                            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+                        }
+                        value = (value << 4) | digit;
+                    }
+                    c = (char) value;
+                } else if (c == 't') {
+                    c = '\t';
+                } else if (c == 'r') {
+                    c = '\r';
+                } else if (c == 'n') {
+                    c = '\n';
+                } else if (c == 'f') {
+                    c = '\f';
+                }
+            }
+            line[out++] = c;
+        }
+        return new String(line, start, out - start);
+    }
+
+    private int endOfLine(int pos) {
+        while (pos < limit) {
+            int c = byteAt(pos);
+            if (c == '\n' || c == '\r') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private int byteAt(int pos) {
+        return (array != null ? array[offset + pos] : buffer.get(pos)) & 0xFF;
+    }
+
+    private String string(int start, int end) {
+        int length = end - start;
+        if (length == 0) {
+            return "";
+        }
+        if (array != null) {
+            return new String(array, offset + start, length, StandardCharsets.ISO_8859_1);
+        }
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, 128)];
+        }
+        buffer.get(start, bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    /**
+     * Receives the key/value pairs of a tokenized input.
+     */
+    interface Handler {
+        /**
+         * A pair whose value was decoded from escapes or continuation lines.
+         */
+        void accept(String key, String value);
+
+        /**
+         * A pair whose value is the ISO 8859-1 bytes {@code [start, end)} of
+         * {@code input}, absolute indices, taken as they are.
+         */
+        void acceptRaw(String key, ByteBuffer input, int start, int end);
+    }
+}
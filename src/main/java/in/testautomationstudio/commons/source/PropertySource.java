@@ -0,0 +1,96 @@
+package in.testautomationstudio.commons.source;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Read-only view of loaded property values, keyed by property name.
+ *
+ * <p>A {@code PropertySource} is what binders read from once a properties
+ * resource has been loaded. It deliberately exposes nothing but key lookup so
+ * that binders (including generated ones) do not depend on how the values
+ * were parsed or stored.</p>
+ *
+ * <h2>Contract</h2>
+ * <ul>
+ *   <li>{@link #getProperty(String)} returns {@code null} for keys that are
+ *       not present.</li>
+ *   <li>Implementations handed to binders must not change while a bind is in
+ *       progress.</li>
+ * </ul>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * Properties properties = new Properties();
+ * properties.load(inputStream);
+ * PropertySource source = PropertySource.of(properties);
+ * String url = source.getProperty("service.url", "http://localhost:8080");
+ * }</pre>
+ */
+@FunctionalInterface
+public interface PropertySource {
+    /**
+     * Look up the value of {@code key}.
+     *
+     * @param key property key
+     * @return the value, or {@code null} if the key is not present
+     */
+    String getProperty(String key);
+
+    /**
+     * Look up the value of {@code key}, falling back to {@code defaultValue}
+     * when the key is not present.
+     *
+     * @param key          property key
+     * @param defaultValue value returned when {@code key} is absent
+     * @return the value, or {@code defaultValue} if the key is not present
+     */
+    default String getProperty(String key, String defaultValue) {
+        String value = getProperty(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Pass the value of {@code key} to {@code consumer} as a range of
+     * characters, without necessarily creating a {@link String} for it.
+     *
+     * <p>The default passes the whole of {@link #getProperty(String)}.
+     * {@link ImmutablePropertySource} passes the raw range of the loaded file
+     * for values that had no escapes, so numeric parsers that read
+     * characters in place convert them without any allocation.</p>
+     *
+     * @param key      property key
+     * @param target   object handed to {@code consumer}
+     * @param consumer receives the value; not called when the key is absent
+     * @return whether {@code key} is present
+     */
+    default boolean consumeProperty(String key, Object target, PropertyValueConsumer consumer) {
+        String value = getProperty(key);
+        if (value == null) {
+            return false;
+        }
+        consumer.accept(target, value, 0, value.length());
+        return true;
+    }
+
+    /**
+     * Adapt a {@link Properties} instance.
+     *
+     * @param properties loaded properties
+     * @return source delegating to {@link Properties#getProperty(String)}
+     */
+    static PropertySource of(Properties properties) {
+        return properties::getProperty;
+    }
+
+    /**
+     * Adapt a map of property values. The map must not be modified while
+     * the source is in use.
+     *
+     * @param values property values keyed by property name
+     * @return source delegating to {@link Map#get(Object)}
+     */
+    static PropertySource of(Map<String, String> values) {
+        return values::get;
+    }
+}
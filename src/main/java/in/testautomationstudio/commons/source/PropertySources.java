@@ -0,0 +1,173 @@
+package in.testautomationstudio.commons.source;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Loads properties files from the classpath or the file system into
+ * {@link ImmutablePropertySource}s.
+ *
+ * <h2>Locations</h2>
+ * <ul>
+ *   <li>{@code file:<path>} is a file on the default file system, absolute
+ *       or relative to the working directory. It is read through a
+ *       {@link FileChannel}: into a heap buffer of the exact file size, or,
+ *       from {@value #MAPPING_THRESHOLD} bytes on, through a read-only
+ *       memory mapping, so large files are tokenized without being copied
+ *       onto the heap.</li>
+ *   <li>{@code classpath:<path>}, or a location without prefix, is a
+ *       classpath resource read with
+ *       {@link ClassLoader#getResourceAsStream(String)}.</li>
+ * </ul>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * PropertySource external = PropertySources.load("file:/etc/grid/qa-configurations.properties", classLoader);
+ * PropertySource bundled = PropertySources.load("qa-configurations.properties", classLoader);
+ * }</pre>
+ */
+public final class PropertySources {
+    /**
+     * Prefix of file system locations.
+     */
+    public static final String FILE_PREFIX = "file:";
+
+    /**
+     * Prefix of classpath locations; optional.
+     */
+    public static final String CLASSPATH_PREFIX = "classpath:";
+
+    /**
+     * Size in bytes from which files are memory-mapped instead of read.
+     */
+    public static final long MAPPING_THRESHOLD = 1024 * 1024;
+
+    private PropertySources() {
+    }
+
+    /**
+     * Load the properties file at {@code location}.
+     *
+     * @param location    {@code file:} path, {@code classpath:} path or classpath resource name
+     * @param classLoader class loader classpath resources are read with
+     * @return the parsed file
+     * @throws FileNotFoundException if the file or resource does not exist
+     * @throws IOException           if the file or resource cannot be read
+     */
+    public static ImmutablePropertySource load(String location, ClassLoader classLoader) throws IOException {
+        return parse(read(location, classLoader));
+    }
+
+    /**
+     * Read the bytes of the properties file at {@code location} without
+     * parsing them. Together with {@link #parse(ByteBuffer)} this splits
+     * {@link #load(String, ClassLoader)} into its I/O and parsing steps.
+     *
+     * @param location    {@code file:} path, {@code classpath:} path or classpath resource name
+     * @param classLoader class loader classpath resources are read with
+     * @return the content of the file, possibly a read-only memory mapping
+     * @throws FileNotFoundException if the file or resource does not exist
+     * @throws IOException           if the file or resource cannot be read
+     */
+    public static ByteBuffer read(String location, ClassLoader classLoader) throws IOException {
+        Path file = file(location);
+        if (file != null) {
+            return readFile(file);
+        }
+        return readResource(location.startsWith(CLASSPATH_PREFIX)
+                ? location.substring(CLASSPATH_PREFIX.length()) : location, classLoader);
+    }
+
+    /**
+     * Parse the content of a properties file.
+     *
+     * @param buffer content as returned by {@link #read(String, ClassLoader)};
+     *               its position is left unchanged
+     * @return the parsed file
+     * @throws IllegalArgumentException if the content holds a malformed escape
+     */
+    public static ImmutablePropertySource parse(ByteBuffer buffer) {
+        ImmutablePropertySource.Builder builder = ImmutablePropertySource.builder();
+        PropertiesTokenizer.tokenize(buffer, new PropertiesTokenizer.Handler() {
+            @Override
+            public void accept(String key, String value) {
+                builder.put(key, value);
+            }
+
+            @Override
+            public void acceptRaw(String key, ByteBuffer input, int start, int end) {
+                builder.putRaw(key, input, start, end);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * @param location location as accepted by {@link #load(String, ClassLoader)}
+     * @return the file of a {@code file:} location, or {@code null} for a classpath location
+     */
+    public static Path file(String location) {
+        return location.startsWith(FILE_PREFIX) ? Path.of(location.substring(FILE_PREFIX.length())) : null;
+    }
+
+    /**
+     * Load a properties file from the file system.
+     *
+     * @param file path of the file
+     * @return the parsed file
+     * @throws FileNotFoundException if the file does not exist
+     * @throws IOException           if the file cannot be read
+     */
+    public static ImmutablePropertySource loadFile(Path file) throws IOException {
+        return parse(readFile(file));
+    }
+
+    private static ByteBuffer readFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer;
+            if (size >= MAPPING_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Read until full or end of file
+                }
+                buffer.flip();
+            }
+            return buffer;
+        } catch (NoSuchFileException e) {
+            FileNotFoundException notFound = new FileNotFoundException("File not found on file system: " + file);
+            notFound.initCause(e);
+            throw notFound;
+        }
+    }
+
+    /**
+     * Load a properties file from the classpath.
+     *
+     * @param name        resource name
+     * @param classLoader class loader the resource is read with
+     * @return the parsed resource
+     * @throws FileNotFoundException if the resource does not exist
+     * @throws IOException           if the resource cannot be read
+     */
+    public static ImmutablePropertySource loadResource(String name, ClassLoader classLoader) throws IOException {
+        return parse(readResource(name, classLoader));
+    }
+
+    private static ByteBuffer readResource(String name, ClassLoader classLoader) throws IOException {
+        try (InputStream resource = classLoader.getResourceAsStream(name)) {
+            if (resource == null) {
+                throw new FileNotFoundException("File not found on classpath: " + name);
+            }
+            return ByteBuffer.wrap(resource.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package in.testautomationstudio.commons.source;
+
+/**
+ * Receives a property value as a range of characters, see
+ * {@link PropertySource#consumeProperty(String, Object, PropertyValueConsumer)}.
+ *
+ * <p>The range is only valid during the call: {@code text} may be a view of
+ * the loaded file rather than a {@link String}, and must not be retained.
+ * The target is passed through so that one consumer instance can serve
+ * every bean, without capturing it.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * PropertyValueConsumer timeout = (target, text, start, end) ->
+ *         ((Settings) target).timeout = Integer.parseInt(text, start, end, 10);
+ * source.consumeProperty("timeout", settings, timeout);
+ * }</pre>
+ */
+@FunctionalInterface
+public interface PropertyValueConsumer {
+    /**
+     * Consume the value held by the characters {@code [start, end)} of
+     * {@code text}.
+     *
+     * @param target object passed to
+     *               {@link PropertySource#consumeProperty(String, Object, PropertyValueConsumer)}
+     * @param text   characters holding the value
+     * @param start  index of the first character of the value
+     * @param end    index after the last character of the value
+     */
+    void accept(Object target, CharSequence text, int start, int end);
+}
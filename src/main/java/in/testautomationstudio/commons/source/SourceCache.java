@@ -0,0 +1,294 @@
+package in.testautomationstudio.commons.source;
+
+import in.testautomationstudio.commons.jfr.ConfigurationEvents;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded cache of parsed property sources, keyed by resolved path and
+ * class loader.
+ *
+ * <p>Readers consult the cache before opening and parsing a resource, so many
+ * beans bound from the same file cost one read and parse plus a map lookup
+ * each. Lookups take no locks; concurrent misses for the same key wait for a
+ * single load instead of each parsing the file.</p>
+ *
+ * <h2>Eviction</h2>
+ * <p>Every entry records the time of its last access. When an insertion
+ * grows the cache beyond {@code maximumSize}, the least recently accessed
+ * entries are evicted (an approximate LRU policy: accesses racing with the
+ * eviction scan may be missed).</p>
+ *
+ * <h2>Class loaders</h2>
+ * <p>Keys hold their class loader weakly and compare it by identity, so a
+ * cached source does not keep a discarded class loader, such as that of a
+ * redeployed application or of a test, reachable. Once such a loader is
+ * collected its entries are dropped on the next access to the cache.</p>
+ *
+ * <h2>Invalidation</h2>
+ * <p>Cached sources are never reloaded on their own. Call
+ * {@link #invalidate(String, ClassLoader)} or {@link #invalidateAll()} after
+ * the underlying resource changes.</p>
+ *
+ * <h2>Monitoring</h2>
+ * <p>While a Flight Recorder recording is running, the size and counters of
+ * every live cache are recorded periodically as
+ * {@value in.testautomationstudio.commons.jfr.SourceCacheStatisticsEvent#NAME}
+ * events.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * SourceCache cache = SourceCache.shared();
+ * PropertySource source = cache.get("qa-configurations.properties", classLoader, this::load);
+ * CacheStats stats = cache.stats(); // hits, misses, evictions, size
+ * }</pre>
+ */
+public final class SourceCache {
+    /**
+     * Maximum number of sources kept by {@link #shared()}.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 64;
+
+    private static final SourceCache SHARED = new SourceCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final int maximumSize;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ClassLoader> collectedLoaders = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a cache holding at most {@code maximumSize} sources.
+     *
+     * @param maximumSize maximum number of cached sources, at least 1
+     * @throws IllegalArgumentException if {@code maximumSize} is less than 1
+     */
+    public SourceCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be at least 1: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        ConfigurationEvents.monitor(this);
+    }
+
+    /**
+     * @return the process-wide cache used by readers unless configured otherwise
+     */
+    public static SourceCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Return the source cached for {@code path} and {@code classLoader},
+     * loading it with {@code loader} on a miss.
+     *
+     * @param path        resolved path of the source
+     * @param classLoader class loader the path is resolved against
+     * @param loader      loads and parses the source on a miss
+     * @return cached or freshly loaded source
+     * @throws IOException if the source has to be loaded and loading fails;
+     *                     failed loads are not cached
+     */
+    public PropertySource get(String path, ClassLoader classLoader, SourceLoader loader) throws IOException {
+        expungeCollectedLoaders();
+        Entry entry = entries.get(new Key(path, classLoader, null));
+        if (entry != null) {
+            hits.increment();
+            entry.lastAccess = System.nanoTime();
+            return entry.await(this, path, classLoader);
+        }
+        Key key = new Key(path, classLoader, collectedLoaders);
+        Entry created = new Entry(() -> loader.load(path, classLoader));
+        entry = entries.putIfAbsent(key, created);
+        if (entry != null) {
+            hits.increment();
+            return entry.await(this, path, classLoader);
+        }
+        misses.increment();
+        created.load.run();
+        PropertySource source = created.await(this, path, classLoader);
+        evictIfNeeded();
+        return source;
+    }
+
+    /**
+     * Drop the source cached for {@code path} and {@code classLoader}, if any.
+     *
+     * @param path        resolved path of the source
+     * @param classLoader class loader the path was resolved against
+     */
+    public void invalidate(String path, ClassLoader classLoader) {
+        expungeCollectedLoaders();
+        entries.remove(new Key(path, classLoader, null));
+    }
+
+    /**
+     * Drop every cached source.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return maximum number of cached sources
+     */
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @return number of cached sources
+     */
+    public int size() {
+        expungeCollectedLoaders();
+        return entries.size();
+    }
+
+    /**
+     * @return point-in-time snapshot of the cache counters
+     */
+    public CacheStats stats() {
+        expungeCollectedLoaders();
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    /**
+     * Remove the entries whose class loader has been garbage collected.
+     */
+    private void expungeCollectedLoaders() {
+        for (Reference<? extends ClassLoader> collected = collectedLoaders.poll(); collected != null;
+             collected = collectedLoaders.poll()) {
+            // Stale keys are only equal to themselves
+            entries.remove((Key) collected);
+        }
+    }
+
+    private void evictIfNeeded() {
+        while (entries.size() > maximumSize) {
+            Map.Entry<Key, Entry> eldest = null;
+            for (Map.Entry<Key, Entry> candidate : entries.entrySet()) {
+                if (eldest == null || candidate.getValue().lastAccess < eldest.getValue().lastAccess) {
+                    eldest = candidate;
+                }
+            }
+            if (eldest != null && entries.remove(eldest.getKey(), eldest.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Loads and parses a source on a cache miss.
+     */
+    @FunctionalInterface
+    public interface SourceLoader {
+        /**
+         * @param path        resolved path of the source
+         * @param classLoader class loader the path is resolved against
+         * @return the parsed source
+         * @throws IOException if the source cannot be read
+         */
+        PropertySource load(String path, ClassLoader classLoader) throws IOException;
+    }
+
+    /**
+     * Counters of a {@link SourceCache}.
+     *
+     * @param hits      lookups answered from the cache
+     * @param misses    lookups that loaded the source
+     * @param evictions entries removed to respect the size bound
+     * @param size      number of cached sources
+     */
+    public record CacheStats(long hits, long misses, long evictions, int size) {
+        /**
+         * @return fraction of lookups answered from the cache, or 0 without lookups
+         */
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    /**
+     * Path plus a weak reference to the class loader, compared by identity.
+     * Keys of the bootstrap loader ({@code null}) hold no referent and never
+     * become stale.
+     */
+    private static final class Key extends WeakReference<ClassLoader> {
+        private final String path;
+        private final boolean bootstrap;
+        private final int hash;
+
+        /**
+         * @param queue queue notified when {@code classLoader} is collected,
+         *              or {@code null} for keys only used to look up
+         */
+        private Key(String path, ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+            super(classLoader, queue);
+            this.path = Objects.requireNonNull(path, "path");
+            this.bootstrap = classLoader == null;
+            this.hash = 31 * path.hashCode() + System.identityHashCode(classLoader);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other) || hash != other.hash || bootstrap != other.bootstrap
+                    || !path.equals(other.path)) {
+                return false;
+            }
+            ClassLoader classLoader = get();
+            return classLoader == other.get() && (bootstrap || classLoader != null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Entry {
+        private final FutureTask<PropertySource> load;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(Callable<PropertySource> loader) {
+            this.load = new FutureTask<>(loader);
+        }
+
+        private PropertySource await(SourceCache cache, String path, ClassLoader classLoader) throws IOException {
+            try {
+                return load.get();
+            } catch (ExecutionException e) {
+                cache.entries.remove(new Key(path, classLoader, null), this);
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException ioException) {
+                    throw ioException;
+                }
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IOException(cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for " + path, e);
+            }
+        }
+    }
+}
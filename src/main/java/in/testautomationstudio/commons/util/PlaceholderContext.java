@@ -0,0 +1,107 @@
+package in.testautomationstudio.commons.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Where {@link PlaceholderResolver} looks up placeholder keys: system
+ * properties first, then environment variables.
+ *
+ * <p>The {@link #live()} context reads {@link System#getProperty(String)}
+ * and {@link System#getenv(String)} for every key, as
+ * {@link PlaceholderResolver#resolvePlaceholders(String)} does. A
+ * {@link #snapshot()} context copies both into one immutable map when it is
+ * created and answers every key with one lookup in that map. Resolving
+ * thousands of values then goes neither through the system
+ * {@link java.util.Properties}, which can be modified concurrently, nor
+ * through {@link System#getenv(String)}, which first misses the system
+ * properties and then allocates a wrapper for every key it looks up. Changes
+ * made after the snapshot was taken are only seen after
+ * {@link #refresh()}.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * PlaceholderContext context = PlaceholderContext.snapshot();
+ * for (String path : paths) {
+ *     resolved.add(PlaceholderResolver.resolvePlaceholders(path, context));
+ * }
+ * // after System.setProperty("env", "prod")
+ * context.refresh();
+ * }</pre>
+ *
+ * <h2>Thread safety</h2>
+ * <p>Contexts are thread-safe. {@link #refresh()} replaces the snapshot in a
+ * single write, so concurrent lookups see either the old or the new one,
+ * never a mix.</p>
+ */
+public final class PlaceholderContext {
+    private static final PlaceholderContext LIVE = new PlaceholderContext(null);
+
+    private volatile Map<String, String> values;
+
+    private PlaceholderContext(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * @return the shared context reading system properties and environment
+     * variables on every lookup
+     */
+    public static PlaceholderContext live() {
+        return LIVE;
+    }
+
+    /**
+     * Create a context answering lookups from a copy of the current system
+     * properties and environment variables.
+     *
+     * @return new snapshot context
+     */
+    public static PlaceholderContext snapshot() {
+        return new PlaceholderContext(capture());
+    }
+
+    /**
+     * @return whether lookups are answered from a snapshot
+     */
+    public boolean isSnapshot() {
+        return this != LIVE;
+    }
+
+    /**
+     * Take a new snapshot of the system properties and environment
+     * variables. Does nothing for the {@link #live()} context.
+     */
+    public void refresh() {
+        if (isSnapshot()) {
+            values = capture();
+        }
+    }
+
+    /**
+     * Look up {@code key} as a system property, then as an environment
+     * variable.
+     *
+     * @param key placeholder key
+     * @return the value, or {@code null} if {@code key} is neither
+     */
+    public String lookup(String key) {
+        Map<String, String> snapshot = values;
+        if (snapshot != null) {
+            return snapshot.get(key);
+        }
+        String value = System.getProperty(key);
+        return value != null ? value : System.getenv(key);
+    }
+
+    private static Map<String, String> capture() {
+        Map<String, String> values = new HashMap<>(System.getenv());
+        // System properties take precedence over environment variables
+        System.getProperties().stringPropertyNames()
+                .forEach(name -> values.put(name, System.getProperty(name)));
+        values.values().removeIf(Objects::isNull);
+        // Never modified once published through the volatile field
+        return values;
+    }
+}
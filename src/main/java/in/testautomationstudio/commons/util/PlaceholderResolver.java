@@ -28,7 +28,15 @@ package in.testautomationstudio.commons.util;
  *   <li>Unterminated placeholders (a {@code ${} } with no matching closing
  *       brace) are treated as literal text: the resolver appends the remainder
  *       of the string without modification.</li>
- *   <li>The implementation is stateless and thread-safe.</li>
+ *   <li>The implementation is thread-safe. Texts containing placeholders are
+ *       split into literals and keys once and the result is cached, so
+ *       resolving the same path again only looks up the keys; texts without
+ *       placeholders are returned as the same instance, without
+ *       allocating.</li>
+ *   <li>While a Flight Recorder recording is running, each resolution of at
+ *       least one placeholder is recorded as a
+ *       {@value in.testautomationstudio.commons.jfr.PlaceholderResolutionEvent#NAME}
+ *       event.</li>
  * </ul>
  *
  * <h2>Examples</h2>
@@ -56,7 +64,6 @@ package in.testautomationstudio.commons.util;
  */
 public final class PlaceholderResolver {
     private static final String PLACEHOLDER_START = "${";
-    private static final String PLACEHOLDER_END = "}";
 
     private PlaceholderResolver() {
     }
@@ -71,36 +78,35 @@ public final class PlaceholderResolver {
      * original input string.</p>
      *
      * @param text input text which may contain zero or more placeholders; may be {@code null}
-     * @return a new string with all placeholders replaced, or {@code null} if the input was {@code null}
+     * @return the string with all placeholders replaced, {@code text} itself
+     * if it contains none, or {@code null} if the input was {@code null}
      * @throws IllegalArgumentException if a placeholder key cannot be resolved
      */
     public static String resolvePlaceholders(String text) {
+        return resolvePlaceholders(text, PlaceholderContext.live());
+    }
+
+    /**
+     * Resolve placeholders of the form {@code ${KEY}} contained in the
+     * supplied {@code text}, looking keys up in {@code context}.
+     *
+     * <p>Pass a {@link PlaceholderContext#snapshot()} when resolving many
+     * texts, so that all of them see one consistent, immutable view of the
+     * system properties and environment: a property changed while they are
+     * resolved cannot make some texts use the old value and others the new
+     * one.</p>
+     *
+     * @param text    input text which may contain zero or more placeholders; may be {@code null}
+     * @param context where placeholder keys are looked up
+     * @return the string with all placeholders replaced, {@code text} itself
+     * if it contains none, or {@code null} if the input was {@code null}
+     * @throws IllegalArgumentException if a placeholder key cannot be resolved
+     */
+    public static String resolvePlaceholders(String text, PlaceholderContext context) {
         if (text == null) return null;
-        StringBuilder sb = new StringBuilder();
-        int i = 0;
-        while (i < text.length()) {
-            int start = text.indexOf(PLACEHOLDER_START, i);
-            if (start == -1) {
-                sb.append(text.substring(i));
-                break;
-            }
-            sb.append(text, i, start);
-            int end = text.indexOf(PLACEHOLDER_END, start);
-            if (end == -1) {
-                sb.append(text.substring(start));
-                break;
-            }
-            String key = text.substring(start + 2, end);
-            String value = System.getProperty(key);
-            if (value == null) {
-                value = System.getenv(key);
-            }
-            if (value == null) {
-                throw new IllegalArgumentException("No environment variable or system property found for placeholder: " + key + " in filePath: " + text);
-            }
-            sb.append(value);
-            i = end + 1;
+        if (!text.contains(PLACEHOLDER_START)) {
+            return text;
         }
-        return sb.toString();
+        return PlaceholderTemplate.of(text).resolve(context);
     }
 }
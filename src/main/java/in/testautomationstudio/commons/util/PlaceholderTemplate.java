@@ -0,0 +1,174 @@
+package in.testautomationstudio.commons.util;
+
+import in.testautomationstudio.commons.jfr.ConfigurationEvents;
+import in.testautomationstudio.commons.jfr.PlaceholderResolutionEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A text containing {@code ${KEY}} placeholders, split once into literal
+ * segments and placeholder keys, see {@link PlaceholderResolver}.
+ *
+ * <p>Templates obtained with {@link #of(String)} are cached by text, so
+ * resolving the same {@code @Configuration} path again only looks up the
+ * keys and concatenates. The cache is meant for the handful of paths an
+ * application declares; once it holds {@value #MAXIMUM_CACHED} templates,
+ * further texts are parsed on every call instead of growing it. Templates of
+ * property values, which are resolved once per loaded file, are parsed with
+ * {@link #parse(String)} and not cached.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * PlaceholderTemplate template = PlaceholderTemplate.parse("${host}:${port}");
+ * template.keys();                       // [host, port]
+ * template.resolve(Map.of("host", "localhost", "port", "8080")::get);
+ * }</pre>
+ *
+ * <p>Templates are immutable and thread-safe.</p>
+ */
+public final class PlaceholderTemplate {
+    /**
+     * Number of texts whose templates {@link #of(String)} keeps.
+     */
+    public static final int MAXIMUM_CACHED = 256;
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final char PLACEHOLDER_END = '}';
+    private static final Map<String, PlaceholderTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String text;
+    /**
+     * {@code literals[i]} precedes {@code keys[i]}; the last literal follows
+     * the last key.
+     */
+    private final String[] literals;
+    private final String[] keys;
+    private final List<String> keyList;
+    private final int literalLength;
+
+    private PlaceholderTemplate(String text, String[] literals, String[] keys) {
+        this.text = text;
+        this.literals = literals;
+        this.keys = keys;
+        this.keyList = List.of(keys);
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * @param text text which may contain placeholders
+     * @return the cached template of {@code text}, parsing it if needed
+     */
+    public static PlaceholderTemplate of(String text) {
+        PlaceholderTemplate template = CACHE.get(text);
+        if (template == null) {
+            template = parse(text);
+            if (CACHE.size() < MAXIMUM_CACHED) {
+                CACHE.putIfAbsent(text, template);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Split {@code text} into literals and placeholder keys, without caching
+     * the result. Placeholders without a closing brace are literal text.
+     *
+     * @param text text which may contain placeholders
+     * @return template of {@code text}
+     */
+    public static PlaceholderTemplate parse(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int literalStart = 0;
+        int i = 0;
+        while (i < text.length()) {
+            int start = text.indexOf(PLACEHOLDER_START, i);
+            if (start == -1) {
+                break;
+            }
+            int end = text.indexOf(PLACEHOLDER_END, start);
+            if (end == -1) {
+                // Unterminated placeholders are literal text
+                break;
+            }
+            literals.add(text.substring(literalStart, start));
+            keys.add(text.substring(start + 2, end));
+            literalStart = end + 1;
+            i = end + 1;
+        }
+        literals.add(text.substring(literalStart));
+        return new PlaceholderTemplate(text, literals.toArray(String[]::new), keys.toArray(String[]::new));
+    }
+
+    /**
+     * @return the text this template was parsed from
+     */
+    public String text() {
+        return text;
+    }
+
+    /**
+     * @return the placeholder keys in order of appearance, with repeats
+     */
+    public List<String> keys() {
+        return keyList;
+    }
+
+    /**
+     * Replace every placeholder with its value in {@code context}, recording
+     * a Flight Recorder event when at least one placeholder was resolved.
+     *
+     * @param context where keys are looked up
+     * @return the resolved text; the template text itself when it has no
+     * placeholders
+     * @throws IllegalArgumentException if a key has no value
+     */
+    public String resolve(PlaceholderContext context) {
+        if (keys.length == 0) {
+            return text;
+        }
+        PlaceholderResolutionEvent event = ConfigurationEvents.beginPlaceholderResolution();
+        String resolved = resolve(key -> {
+            String value = context.lookup(key);
+            if (value == null) {
+                throw new IllegalArgumentException("No environment variable or system property found for placeholder: " + key + " in filePath: " + text);
+            }
+            return value;
+        });
+        ConfigurationEvents.commit(event, text, keys.length);
+        return resolved;
+    }
+
+    /**
+     * Replace every placeholder with the value {@code values} returns for its
+     * key. Values are inserted as they are, without resolving placeholders
+     * they contain.
+     *
+     * @param values returns the value of a key; may throw for unknown keys
+     * @return the resolved text; the template text itself when it has no
+     * placeholders
+     * @throws NullPointerException if {@code values} returns {@code null}
+     */
+    public String resolve(Function<String, String> values) {
+        if (keys.length == 0) {
+            return text;
+        }
+        if (keys.length == 1) {
+            return literals[0] + Objects.requireNonNull(values.apply(keys[0]), keys[0]) + literals[1];
+        }
+        StringBuilder sb = new StringBuilder(literalLength + 16 * keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            sb.append(literals[i]).append(Objects.requireNonNull(values.apply(keys[i]), keys[i]));
+        }
+        return sb.append(literals[keys.length]).toString();
+    }
+}
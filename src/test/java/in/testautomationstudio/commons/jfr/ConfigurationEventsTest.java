@@ -0,0 +1,69 @@
+package in.testautomationstudio.commons.jfr;
+
+import in.testautomationstudio.commons.pojo.TestConfiguration;
+import in.testautomationstudio.commons.reader.BindingMode;
+import in.testautomationstudio.commons.reader.PropertiesReader;
+import in.testautomationstudio.commons.source.SourceCache;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+class ConfigurationEventsTest {
+
+    @Test
+    void verifyLoadIsRecorded(@TempDir Path directory) throws IOException {
+        Path dump = directory.resolve("configuration.jfr");
+        SourceCache cache = new SourceCache(4);
+        try (Recording recording = new Recording()) {
+            recording.enable(SourceLoadEvent.NAME);
+            recording.enable(BindEvent.NAME);
+            recording.enable(PlaceholderResolutionEvent.NAME);
+            recording.enable(SlowParserEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(SourceCacheStatisticsEvent.NAME).with("period", "endChunk");
+            recording.start();
+
+            new PropertiesReader<TestConfiguration>(null, BindingMode.METHOD_HANDLE, cache)
+                    .loadBean(new TestConfiguration());
+
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+        RecordedEvent load = single(events, SourceLoadEvent.NAME);
+        Assertions.assertEquals("test-configurations.properties", load.getString("path"));
+        Assertions.assertEquals(10, load.getInt("properties"));
+        Assertions.assertTrue(load.getLong("bytes") > 0);
+
+        RecordedEvent bind = single(events, BindEvent.NAME);
+        Assertions.assertEquals(TestConfiguration.class.getName(), bind.getClass("configurationClass").getName());
+        Assertions.assertEquals(10, bind.getInt("fieldCount"));
+
+        RecordedEvent resolution = single(events, PlaceholderResolutionEvent.NAME);
+        Assertions.assertEquals("${env}-configurations.properties", resolution.getString("text"));
+        Assertions.assertEquals(1, resolution.getInt("placeholders"));
+
+        RecordedEvent parser = single(events, SlowParserEvent.NAME);
+        Assertions.assertEquals("browser.name", parser.getString("key"));
+
+        Assertions.assertTrue(events.stream()
+                .filter(event -> event.getEventType().getName().equals(SourceCacheStatisticsEvent.NAME))
+                .anyMatch(event -> event.getInt("maximumSize") == 4 && event.getLong("misses") == 1));
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        Assertions.assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
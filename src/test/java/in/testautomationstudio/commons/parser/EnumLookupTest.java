@@ -0,0 +1,63 @@
+package in.testautomationstudio.commons.parser;
+
+import in.testautomationstudio.commons.annotation.EnumAlias;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class EnumLookupTest {
+
+    @Test
+    void verifyNamesAndAliasesResolve() {
+        EnumLookup<Level> lookup = EnumLookup.of(Level.class);
+        Assertions.assertSame(lookup, EnumLookup.of(Level.class));
+        Assertions.assertEquals(Level.INFO, lookup.parse("INFO"));
+        Assertions.assertEquals(Level.INFO, lookup.parse("info"));
+        Assertions.assertEquals(Level.WARNING, lookup.parse("warn"));
+        Assertions.assertEquals(Level.WARNING, lookup.parse("WARN"));
+        Assertions.assertEquals(Level.DEBUG, lookup.parse("debug"));
+    }
+
+    @Test
+    void verifyExactSpellingWinsOverAmbiguousCase() {
+        EnumLookup<Mode> lookup = EnumLookup.of(Mode.class);
+        Assertions.assertEquals(Mode.fast, lookup.find("fast"));
+        Assertions.assertEquals(Mode.FAST, lookup.find("FAST"));
+        Assertions.assertNull(lookup.find("Fast"));
+    }
+
+    @Test
+    void verifyMissIsReportedWithoutThrowing() {
+        EnumLookup<Level> lookup = EnumLookup.of(Level.class);
+        Assertions.assertNull(lookup.find("verbose"));
+        Assertions.assertNull(lookup.find(null));
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> lookup.parse("verbose"));
+        Assertions.assertEquals("No Level constant matches 'verbose'; expected DEBUG, INFO, WARNING or the alias warn,"
+                + " ignoring case", exception.getMessage());
+    }
+
+    @Test
+    void verifyConflictingAliasIsRejected() {
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class,
+                () -> EnumLookup.of(Conflict.class));
+        Assertions.assertTrue(exception.getMessage().contains("'ON'"), exception.getMessage());
+    }
+
+    enum Level {
+        DEBUG,
+        INFO,
+        @EnumAlias("warn")
+        WARNING
+    }
+
+    enum Mode {
+        fast,
+        FAST
+    }
+
+    enum Conflict {
+        ON,
+        @EnumAlias("ON")
+        OFF
+    }
+}
@@ -0,0 +1,64 @@
+package in.testautomationstudio.commons.parser;
+
+import in.testautomationstudio.commons.annotation.StatefulParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ParserRegistryTest {
+
+    @Test
+    void verifyParserIsShared() {
+        Assertions.assertSame(ParserRegistry.getParser(BrowserTypeParser.class),
+                ParserRegistry.getParser(BrowserTypeParser.class));
+    }
+
+    @Test
+    void verifyStatefulParserIsNotShared() {
+        Assertions.assertNotSame(ParserRegistry.getParser(CountingParser.class),
+                ParserRegistry.getParser(CountingParser.class));
+    }
+
+    @Test
+    void verifyRegisteredParserIsUsed() {
+        UpperCaseParser parser = new UpperCaseParser();
+        ParserRegistry.register(UpperCaseParser.class, parser);
+        Assertions.assertSame(parser, ParserRegistry.getParser(UpperCaseParser.class));
+    }
+
+    @Test
+    void verifyInstantiationFailureIsReported() {
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class,
+                () -> ParserRegistry.getParser(NoDefaultConstructorParser.class));
+        Assertions.assertTrue(exception.getMessage().startsWith("Failed to instantiate custom PropertyValueParser"));
+    }
+
+    @StatefulParser
+    public static class CountingParser implements PropertyValueParser<Integer> {
+        private int count;
+
+        @Override
+        public Integer parse(String value) {
+            return ++count;
+        }
+    }
+
+    public static class UpperCaseParser implements PropertyValueParser<String> {
+        @Override
+        public String parse(String value) {
+            return value.toUpperCase();
+        }
+    }
+
+    public static class NoDefaultConstructorParser implements PropertyValueParser<String> {
+        private final String prefix;
+
+        public NoDefaultConstructorParser(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public String parse(String value) {
+            return prefix + value;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package in.testautomationstudio.commons.pojo;
+
+import in.testautomationstudio.commons.annotation.Configuration;
+import in.testautomationstudio.commons.annotation.PropertyKey;
+
+@Configuration(filePath = "qa-configurations.properties")
+public class QaConfiguration {
+    @PropertyKey(key = "string.property")
+    private String stringProperty;
+
+    @PropertyKey(key = "int.property")
+    private int intProperty;
+
+    public String getStringProperty() {
+        return stringProperty;
+    }
+
+    public int getIntProperty() {
+        return intProperty;
+    }
+}
@@ -0,0 +1,338 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.EnumAlias;
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.annotation.StatefulParser;
+import in.testautomationstudio.commons.enums.BrowserType;
+import in.testautomationstudio.commons.parser.BrowserTypeParser;
+import in.testautomationstudio.commons.parser.IntPropertyValueParser;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import in.testautomationstudio.commons.pojo.TestConfiguration;
+import in.testautomationstudio.commons.source.PropertySource;
+import in.testautomationstudio.commons.source.PropertyValueConsumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+class BindersTest {
+    private static final Properties PROPERTIES = new Properties();
+
+    @BeforeAll
+    public static void loadProperties() throws IOException {
+        try (InputStream inputStream = BindersTest.class.getClassLoader().getResourceAsStream("qa-configurations.properties")) {
+            PROPERTIES.load(inputStream);
+        }
+    }
+
+    @Test
+    void verifyGeneratedBinderIsUsedWhenPresent() {
+        Assertions.assertEquals("in.testautomationstudio.commons.pojo.TestConfigurationBinder",
+                Binders.forClass(TestConfiguration.class).getClass().getName());
+    }
+
+    @Test
+    void verifyBindingPlanIsUsedWithoutGeneratedBinder() {
+        Assertions.assertInstanceOf(BindingPlan.class, Binders.forClass(PrivateConfiguration.class));
+    }
+
+    @Test
+    void verifyGeneratedBinderMatchesBindingPlan() {
+        TestConfiguration generated = new TestConfiguration();
+        TestConfiguration reflective = new TestConfiguration();
+        Binders.generatedBinder(TestConfiguration.class).bind(generated, PropertySource.of(PROPERTIES));
+        BindingPlan.of(TestConfiguration.class).bind(reflective, PropertySource.of(PROPERTIES));
+
+        Assertions.assertEquals("string1", generated.getStringProperty());
+        Assertions.assertEquals(BrowserType.FIREFOX, generated.getBrowserType());
+        Assertions.assertEquals(reflective.getStringProperty(), generated.getStringProperty());
+        Assertions.assertEquals(reflective.getIntProperty(), generated.getIntProperty());
+        Assertions.assertEquals(reflective.getIntegerWrapperProperty(), generated.getIntegerWrapperProperty());
+        Assertions.assertEquals(reflective.getFloatProperty(), generated.getFloatProperty());
+        Assertions.assertEquals(reflective.getFloatWrapperProperty(), generated.getFloatWrapperProperty());
+        Assertions.assertEquals(reflective.getDoubleProperty(), generated.getDoubleProperty());
+        Assertions.assertEquals(reflective.getDoubleWrapperProperty(), generated.getDoubleWrapperProperty());
+        Assertions.assertEquals(reflective.getBooleanProperty(), generated.getBooleanProperty());
+        Assertions.assertEquals(reflective.getBooleanWrapperProperty(), generated.getBooleanWrapperProperty());
+        Assertions.assertEquals(reflective.getBrowserType(), generated.getBrowserType());
+    }
+
+    @Test
+    void verifyRuntimeBindersMatchGeneratedBinder() {
+        TestConfiguration generated = new TestConfiguration();
+        Binders.generatedBinder(TestConfiguration.class).bind(generated, PropertySource.of(PROPERTIES));
+        for (BindingMode mode : BindingMode.values()) {
+            TestConfiguration configuration = new TestConfiguration();
+            Binders.runtimeBinder(TestConfiguration.class, mode).bind(configuration, PropertySource.of(PROPERTIES));
+            Assertions.assertEquals(generated.getStringProperty(), configuration.getStringProperty(), mode.name());
+            Assertions.assertEquals(generated.getIntProperty(), configuration.getIntProperty(), mode.name());
+            Assertions.assertEquals(generated.getIntegerWrapperProperty(), configuration.getIntegerWrapperProperty(), mode.name());
+            Assertions.assertEquals(generated.getFloatProperty(), configuration.getFloatProperty(), mode.name());
+            Assertions.assertEquals(generated.getFloatWrapperProperty(), configuration.getFloatWrapperProperty(), mode.name());
+            Assertions.assertEquals(generated.getDoubleProperty(), configuration.getDoubleProperty(), mode.name());
+            Assertions.assertEquals(generated.getDoubleWrapperProperty(), configuration.getDoubleWrapperProperty(), mode.name());
+            Assertions.assertEquals(generated.getBooleanProperty(), configuration.getBooleanProperty(), mode.name());
+            Assertions.assertEquals(generated.getBooleanWrapperProperty(), configuration.getBooleanWrapperProperty(), mode.name());
+            Assertions.assertEquals(generated.getBrowserType(), configuration.getBrowserType(), mode.name());
+        }
+    }
+
+    @Test
+    void verifyHiddenClassBinderBindsPrivateNestedClass() {
+        PrivateConfiguration configuration = new PrivateConfiguration();
+        Binders.forClass(PrivateConfiguration.class, BindingMode.HIDDEN_CLASS).bind(configuration, PropertySource.of(PROPERTIES));
+        Assertions.assertEquals(2, configuration.intProperty);
+        Assertions.assertEquals(BrowserType.FIREFOX, configuration.browserType);
+        Assertions.assertEquals("unchanged", configuration.missingProperty);
+    }
+
+    @Test
+    void verifyHiddenClassFallsBackWhenConstantPoolOverflows(@TempDir Path directory) throws Exception {
+        Class<?> type = largeBeanClass(directory, 14_000);
+        ConfigurationBinder<Object> binder = Binders.forClass(type, BindingMode.HIDDEN_CLASS);
+        Assertions.assertInstanceOf(BindingPlan.class, binder);
+
+        Object bean = type.getDeclaredConstructor().newInstance();
+        binder.bind(bean, PropertySource.of(Map.of("key.0", "first", "key.13999", "42")));
+        Assertions.assertEquals("first", type.getDeclaredField("field0").get(bean));
+        Assertions.assertEquals(42, type.getDeclaredField("field13999").get(bean));
+    }
+
+    @Test
+    void verifyBindingPlanBindsPrivateNestedClass() {
+        PrivateConfiguration configuration = new PrivateConfiguration();
+        Binders.forClass(PrivateConfiguration.class).bind(configuration, PropertySource.of(PROPERTIES));
+        Assertions.assertEquals(2, configuration.intProperty);
+        Assertions.assertEquals("unchanged", configuration.missingProperty);
+    }
+
+    @Test
+    void verifyStatefulParserIsCreatedForEveryValue() {
+        StatefulConfiguration generated = new StatefulConfiguration();
+        Binders.forClass(StatefulConfiguration.class).bind(generated, PropertySource.of(PROPERTIES));
+        Assertions.assertEquals(1, generated.first);
+        Assertions.assertEquals(1, generated.second);
+
+        for (BindingMode mode : BindingMode.values()) {
+            StatefulConfiguration configuration = new StatefulConfiguration();
+            Binders.runtimeBinder(StatefulConfiguration.class, mode).bind(configuration, PropertySource.of(PROPERTIES));
+            Assertions.assertEquals(1, configuration.first, mode.name());
+            Assertions.assertEquals(1, configuration.second, mode.name());
+        }
+    }
+
+    @Test
+    void verifyPrimitiveParsersBindWithoutBoxing() {
+        PrimitiveConfiguration generated = new PrimitiveConfiguration();
+        Binders.forClass(PrimitiveConfiguration.class).bind(generated, PropertySource.of(PROPERTIES));
+        Assertions.assertEquals("in.testautomationstudio.commons.reader.BindersTest_PrimitiveConfigurationBinder",
+                Binders.forClass(PrimitiveConfiguration.class).getClass().getName());
+        Assertions.assertEquals(4, generated.doubled);
+        Assertions.assertEquals(8, generated.privateDoubled);
+        Assertions.assertEquals(2L, generated.longProperty);
+        Assertions.assertEquals(4L, generated.longWrapperProperty);
+
+        for (BindingMode mode : BindingMode.values()) {
+            PrimitiveConfiguration configuration = new PrimitiveConfiguration();
+            Binders.runtimeBinder(PrimitiveConfiguration.class, mode).bind(configuration, PropertySource.of(PROPERTIES));
+            Assertions.assertEquals(4, configuration.doubled, mode.name());
+            Assertions.assertEquals(8, configuration.privateDoubled, mode.name());
+            Assertions.assertEquals(2L, configuration.longProperty, mode.name());
+            Assertions.assertEquals(4L, configuration.longWrapperProperty, mode.name());
+        }
+    }
+
+    @Test
+    void verifyPrimitiveFieldsAreConsumedAsRanges() {
+        Map<String, String> values = Map.of("int.property", "2", "integer.wrapper.property", "4");
+        List<String> stringReads = new ArrayList<>();
+        PropertySource source = new PropertySource() {
+            @Override
+            public String getProperty(String key) {
+                stringReads.add(key);
+                return values.get(key);
+            }
+
+            @Override
+            public boolean consumeProperty(String key, Object target, PropertyValueConsumer consumer) {
+                String value = values.get(key);
+                if (value == null) {
+                    return false;
+                }
+                // Only the range holds the value
+                String text = "[" + value + "]";
+                consumer.accept(target, text, 1, text.length() - 1);
+                return true;
+            }
+        };
+
+        List<ConfigurationBinder<Object>> binders = new ArrayList<>();
+        binders.add(Binders.generatedBinder(PrimitiveConfiguration.class));
+        for (BindingMode mode : BindingMode.values()) {
+            binders.add(Binders.runtimeBinder(PrimitiveConfiguration.class, mode));
+        }
+        for (ConfigurationBinder<Object> binder : binders) {
+            stringReads.clear();
+            PrimitiveConfiguration configuration = new PrimitiveConfiguration();
+            binder.bind(configuration, source);
+            String name = binder.getClass().getName();
+            Assertions.assertEquals(4, configuration.doubled, name);
+            Assertions.assertEquals(8, configuration.privateDoubled, name);
+            Assertions.assertEquals(2L, configuration.longProperty, name);
+            Assertions.assertEquals(4L, configuration.longWrapperProperty, name);
+            // Only the wrapper field reads a String
+            Assertions.assertEquals(List.of("integer.wrapper.property"), stringReads, name);
+        }
+    }
+
+    @Test
+    void verifyDefaultsApplyOnlyToAbsentPrimitiveKeys() {
+        for (BindingMode mode : BindingMode.values()) {
+            DefaultedConfiguration configuration = new DefaultedConfiguration();
+            Binders.runtimeBinder(DefaultedConfiguration.class, mode)
+                    .bind(configuration, PropertySource.of(Map.of("blank.property", " ")));
+            Assertions.assertEquals(7, configuration.absent, mode.name());
+            Assertions.assertEquals(-1, configuration.blank, mode.name());
+        }
+        DefaultedConfiguration generated = new DefaultedConfiguration();
+        Binders.generatedBinder(DefaultedConfiguration.class)
+                .bind(generated, PropertySource.of(Map.of("blank.property", " ")));
+        Assertions.assertEquals(7, generated.absent);
+        Assertions.assertEquals(-1, generated.blank);
+    }
+
+    @Test
+    void verifyEnumFieldsAcceptAnyCaseAndAliases() {
+        PropertySource source = PropertySource.of(Map.of("browser.name", "firefox", "fallback.browser", "google-chrome"));
+        EnumConfiguration generated = new EnumConfiguration();
+        Binders.forClass(EnumConfiguration.class).bind(generated, source);
+        Assertions.assertEquals(Browser.FIREFOX, generated.browser);
+        Assertions.assertEquals(Browser.CHROME, generated.fallback);
+
+        for (BindingMode mode : BindingMode.values()) {
+            EnumConfiguration configuration = new EnumConfiguration();
+            Binders.runtimeBinder(EnumConfiguration.class, mode).bind(configuration, source);
+            Assertions.assertEquals(Browser.FIREFOX, configuration.browser, mode.name());
+            Assertions.assertEquals(Browser.CHROME, configuration.fallback, mode.name());
+        }
+
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Binders.forClass(EnumConfiguration.class).bind(new EnumConfiguration(),
+                        PropertySource.of(Map.of("browser.name", "opera"))));
+        Assertions.assertTrue(exception.getMessage().contains("'opera'"), exception.getMessage());
+    }
+
+    public static class DoublingParser implements IntPropertyValueParser {
+        @Override
+        public int parseInt(String value) {
+            return Integer.parseInt(value) * 2;
+        }
+
+        // Primitive fields must be bound through parseInt
+        @Override
+        public Integer parse(String value) {
+            throw new UnsupportedOperationException("boxed");
+        }
+    }
+
+    static class PrimitiveConfiguration {
+        @PropertyKey(key = "int.property", parser = DoublingParser.class)
+        int doubled;
+
+        @PropertyKey(key = "integer.wrapper.property", parser = DoublingParser.class)
+        private int privateDoubled;
+
+        @PropertyKey(key = "int.property")
+        long longProperty;
+
+        @PropertyKey(key = "integer.wrapper.property")
+        private Long longWrapperProperty;
+    }
+
+    enum Browser {
+        @EnumAlias("google-chrome")
+        CHROME,
+        FIREFOX
+    }
+
+    static class DefaultedConfiguration {
+        @PropertyKey(key = "absent.property", defaultValue = "7")
+        private int absent;
+
+        @PropertyKey(key = "blank.property", defaultValue = "7")
+        int blank = -1;
+    }
+
+    static class EnumConfiguration {
+        @PropertyKey(key = "browser.name")
+        Browser browser;
+
+        @PropertyKey(key = "fallback.browser")
+        private Browser fallback;
+    }
+
+    @StatefulParser
+    public static class CountingParser implements PropertyValueParser<Integer> {
+        private int count;
+
+        @Override
+        public Integer parse(String value) {
+            return ++count;
+        }
+    }
+
+    static class StatefulConfiguration {
+        @PropertyKey(key = "int.property", parser = CountingParser.class)
+        int first;
+
+        @PropertyKey(key = "int.property", parser = CountingParser.class)
+        private int second;
+    }
+
+    // Private nested classes cannot be referenced from a generated binder
+    private static class PrivateConfiguration {
+        @PropertyKey(key = "int.property")
+        private int intProperty;
+
+        @PropertyKey(key = "browser.name", parser = BrowserTypeParser.class)
+        private BrowserType browserType;
+
+        @PropertyKey(key = "missing.property")
+        private String missingProperty = "unchanged";
+    }
+
+    /**
+     * Compile a bean with {@code fieldCount} fields alternating between
+     * {@code String} and {@code int}, defined in this package and class loader.
+     */
+    private static Class<?> largeBeanClass(Path directory, int fieldCount) throws IOException, IllegalAccessException {
+        String packageName = BindersTest.class.getPackageName();
+        String simpleName = "LargeConfiguration" + fieldCount;
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(packageName).append(";\n\n")
+                .append("public class ").append(simpleName).append(" {\n");
+        for (int i = 0; i < fieldCount; i++) {
+            source.append("    @in.testautomationstudio.commons.annotation.PropertyKey(key = \"key.").append(i).append("\")\n")
+                    .append("    ").append(i % 2 == 0 ? "String" : "int").append(" field").append(i).append(";\n");
+        }
+        source.append("}\n");
+        Path sourceFile = directory.resolve(simpleName + ".java");
+        Files.writeString(sourceFile, source);
+        int status = ToolProvider.getSystemJavaCompiler().run(null, null, null, "-proc:none",
+                "-d", directory.toString(), "-classpath", System.getProperty("java.class.path"), sourceFile.toString());
+        Assertions.assertEquals(0, status);
+        byte[] bytes = Files.readAllBytes(directory.resolve(packageName.replace('.', '/')).resolve(simpleName + ".class"));
+        return MethodHandles.lookup().defineClass(bytes);
+    }
+}
@@ -0,0 +1,198 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.Configuration;
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import in.testautomationstudio.commons.source.SourceCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+class BindingListenerTest {
+
+    @Test
+    void verifyEveryPhaseIsReported() {
+        RecordingListener listener = new RecordingListener();
+        PropertiesReader<PlanConfiguration> reader =
+                new PropertiesReader<>(null, BindingMode.METHOD_HANDLE, new SourceCache(4), listener);
+
+        PlanConfiguration configuration = new PlanConfiguration();
+        reader.loadBean(configuration);
+
+        Assertions.assertEquals(2, configuration.intProperty);
+        Assertions.assertEquals(List.of(
+                "pathResolved PlanConfiguration qa-configurations.properties",
+                "cacheMiss qa-configurations.properties",
+                "sourceOpened qa-configurations.properties",
+                "sourceParsed qa-configurations.properties 10",
+                "fieldWritten stringProperty",
+                "fieldParsed intProperty",
+                "fieldWritten intProperty",
+                "beanBound PlanConfiguration"), listener.events);
+
+        listener.events.clear();
+        reader.loadBean(new PlanConfiguration());
+
+        Assertions.assertEquals(List.of(
+                "pathResolved PlanConfiguration qa-configurations.properties",
+                "cacheHit qa-configurations.properties",
+                "fieldWritten stringProperty",
+                "fieldParsed intProperty",
+                "fieldWritten intProperty",
+                "beanBound PlanConfiguration"), listener.events);
+    }
+
+    @Test
+    void verifyGeneratedBinderIsKeptWithListener() {
+        Assertions.assertNotNull(Binders.generatedBinder(ParsedConfiguration.class));
+        RecordingListener listener = new RecordingListener();
+        PropertiesReader<ParsedConfiguration> reader =
+                new PropertiesReader<>(null, BindingMode.METHOD_HANDLE, new SourceCache(4), listener);
+
+        ParsedConfiguration configuration = new ParsedConfiguration();
+        reader.loadBean(configuration);
+
+        Assertions.assertEquals(2, configuration.intProperty);
+        Assertions.assertEquals("STRING1", configuration.upperCase);
+        // Only the custom parser is timed; built-in conversions and writes are compiled in
+        Assertions.assertEquals(List.of(
+                "pathResolved ParsedConfiguration qa-configurations.properties",
+                "cacheMiss qa-configurations.properties",
+                "sourceOpened qa-configurations.properties",
+                "sourceParsed qa-configurations.properties 10",
+                "fieldParsed upperCase",
+                "beanBound ParsedConfiguration"), listener.events);
+    }
+
+    @Test
+    void verifyHiddenClassBinderIsKeptWithListener() {
+        RecordingListener listener = new RecordingListener();
+        PropertiesReader<HiddenParsedConfiguration> reader =
+                new PropertiesReader<>(null, BindingMode.HIDDEN_CLASS, new SourceCache(4), listener);
+
+        HiddenParsedConfiguration configuration = new HiddenParsedConfiguration();
+        reader.loadBean(configuration);
+
+        Assertions.assertEquals("STRING1", configuration.upperCase);
+        Assertions.assertEquals(List.of("fieldParsed upperCase", "beanBound HiddenParsedConfiguration"),
+                listener.events.subList(4, listener.events.size()));
+    }
+
+    @Test
+    void verifyFailuresAreReported() {
+        RecordingListener listener = new RecordingListener();
+        PropertiesReader<Object> reader = new PropertiesReader<>(null, BindingMode.REFLECTIVE, null, listener);
+
+        Assertions.assertThrows(RuntimeException.class, () -> reader.loadBean(new AbsentFileConfiguration()));
+        Assertions.assertThrows(NumberFormatException.class, () -> reader.loadBean(new InvalidValueConfiguration()));
+
+        Assertions.assertTrue(listener.events.contains("openFailed missing-configurations.properties"));
+        Assertions.assertTrue(listener.events.contains("fieldFailed stringProperty"));
+        Assertions.assertFalse(listener.events.contains("beanBound InvalidValueConfiguration"));
+    }
+
+    @Configuration(filePath = "missing-configurations.properties")
+    static class AbsentFileConfiguration {
+        @PropertyKey(key = "string.property")
+        private String stringProperty;
+    }
+
+    // Private classes get no generated binder, so they are bound by runtime plans
+    @Configuration(filePath = "qa-configurations.properties")
+    private static class InvalidValueConfiguration {
+        @PropertyKey(key = "string.property")
+        private int stringProperty;
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    private static class PlanConfiguration {
+        @PropertyKey(key = "string.property")
+        private String stringProperty;
+
+        @PropertyKey(key = "int.property")
+        private int intProperty;
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    static class ParsedConfiguration {
+        @PropertyKey(key = "int.property")
+        private int intProperty;
+
+        @PropertyKey(key = "string.property", parser = UpperCaseParser.class)
+        private String upperCase;
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    private static class HiddenParsedConfiguration {
+        @PropertyKey(key = "int.property")
+        private int intProperty;
+
+        @PropertyKey(key = "string.property", parser = UpperCaseParser.class)
+        private String upperCase;
+    }
+
+    public static class UpperCaseParser implements PropertyValueParser<String> {
+        @Override
+        public String parse(String value) {
+            return value.toUpperCase(Locale.ROOT);
+        }
+    }
+
+    private static class RecordingListener implements BindingListener {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void pathResolved(Class<?> type, String resolvedPath, long nanos) {
+            events.add("pathResolved " + type.getSimpleName() + " " + resolvedPath);
+        }
+
+        @Override
+        public void cacheHit(String resolvedPath) {
+            events.add("cacheHit " + resolvedPath);
+        }
+
+        @Override
+        public void cacheMiss(String resolvedPath) {
+            events.add("cacheMiss " + resolvedPath);
+        }
+
+        @Override
+        public void sourceOpened(String resolvedPath, long nanos) {
+            events.add("sourceOpened " + resolvedPath);
+        }
+
+        @Override
+        public void openFailed(String resolvedPath, Exception failure) {
+            events.add("openFailed " + resolvedPath);
+        }
+
+        @Override
+        public void sourceParsed(String resolvedPath, int size, long nanos) {
+            events.add("sourceParsed " + resolvedPath + " " + size);
+        }
+
+        @Override
+        public void fieldParsed(Field field, long nanos) {
+            events.add("fieldParsed " + field.getName());
+        }
+
+        @Override
+        public void fieldWritten(Field field, long nanos) {
+            events.add("fieldWritten " + field.getName());
+        }
+
+        @Override
+        public void fieldFailed(Field field, Exception failure) {
+            events.add("fieldFailed " + field.getName());
+        }
+
+        @Override
+        public void beanBound(Class<?> type, long nanos) {
+            events.add("beanBound " + type.getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.pojo.QaConfiguration;
+import in.testautomationstudio.commons.pojo.TestConfiguration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+class ConfigurationIndexTest {
+    private static final ConfigurationIndex INDEX = ConfigurationIndex.load(ConfigurationIndexTest.class.getClassLoader());
+
+    private static ConfigurationIndex only(Class<?>... types) {
+        List<String> names = Arrays.stream(types).map(Class::getName).toList();
+        return INDEX.filter(entry -> names.contains(entry.className()));
+    }
+
+    private static ConfigurationIndex pojos() {
+        return INDEX.filter(entry -> entry.className().startsWith("in.testautomationstudio.commons.pojo."));
+    }
+
+    @Test
+    void verifyIndexListsConfigurationClasses() {
+        ConfigurationIndex.Entry entry = INDEX.entries().stream()
+                .filter(candidate -> candidate.className().equals(TestConfiguration.class.getName()))
+                .findFirst()
+                .orElseThrow();
+
+        Assertions.assertEquals("${env}-configurations.properties", entry.filePath());
+        Assertions.assertEquals(ConfigurationIndex.Kind.BEAN, entry.kind());
+        Assertions.assertEquals(10, entry.keys().size());
+        Assertions.assertEquals(new ConfigurationIndex.Key("string.property", true), entry.keys().get(0));
+        Assertions.assertEquals(new ConfigurationIndex.Key("browser.name", false), entry.keys().get(9));
+        Assertions.assertTrue(INDEX.entries().stream()
+                .anyMatch(candidate -> candidate.className().equals(QaConfiguration.class.getName())));
+    }
+
+    @Test
+    void verifyPreloadBindsIndexedClasses() {
+        Map<Class<?>, Object> configurations = pojos().preload(new ConfigurationLoader());
+
+        Assertions.assertEquals("string", ((TestConfiguration) configurations.get(TestConfiguration.class)).getStringProperty());
+        Assertions.assertEquals("string1", ((QaConfiguration) configurations.get(QaConfiguration.class)).getStringProperty());
+    }
+
+    @Test
+    void verifyValidateReportsProblems() {
+        Assertions.assertEquals(List.of(), pojos().validate(new PropertiesReader<>()));
+
+        List<String> problems = INDEX.filter(entry -> entry.className().endsWith("$MissingFileConfiguration")
+                        || entry.className().endsWith("$UnresolvedPathConfiguration"))
+                .validate(new PropertiesReader<>());
+        Assertions.assertEquals(2, problems.size());
+        Assertions.assertTrue(problems.get(0).contains("missing-configurations.properties"));
+        Assertions.assertTrue(problems.get(1).contains("undefined.placeholder"));
+
+        List<String> missingKeys = pojos().validate(new PropertiesReader<>("missing-keys.properties"));
+        Assertions.assertTrue(missingKeys.contains(QaConfiguration.class.getName() + ": missing required key 'int.property'"));
+    }
+
+    @Test
+    void verifyInterfacesAreIndexedWithTheirGetters() {
+        ConfigurationIndex.Entry entry = only(ConfigurationProxiesTest.QaSettings.class).entries().get(0);
+
+        Assertions.assertEquals(ConfigurationIndex.Kind.PROXY, entry.kind());
+        Assertions.assertEquals(10, entry.keys().size());
+        Assertions.assertTrue(entry.keys().contains(new ConfigurationIndex.Key("string.property", true)));
+        Assertions.assertTrue(entry.keys().contains(new ConfigurationIndex.Key("timeout", false)));
+        Assertions.assertTrue(entry.keys().contains(new ConfigurationIndex.Key("missing.with.default", false)));
+    }
+
+    @Test
+    void verifyPreloadImplementsIndexedInterfaces() {
+        Map<Class<?>, Object> configurations = only(ConfigurationProxiesTest.QaSettings.class,
+                ConfigurationProxiesTest.GridSettings.class, QaConfiguration.class).preload(new ConfigurationLoader());
+
+        Assertions.assertEquals("string1",
+                ((ConfigurationProxiesTest.QaSettings) configurations.get(ConfigurationProxiesTest.QaSettings.class)).stringProperty());
+        Assertions.assertEquals("http://grid.example.com:4444/wd/hub",
+                ((ConfigurationProxiesTest.GridSettings) configurations.get(ConfigurationProxiesTest.GridSettings.class)).url());
+        Assertions.assertEquals("string1", ((QaConfiguration) configurations.get(QaConfiguration.class)).getStringProperty());
+    }
+
+    @Test
+    void verifyValidateChecksInterfaceKeys() {
+        List<String> problems = only(ConfigurationProxiesTest.QaSettings.class)
+                .validate(new PropertiesReader<>("missing-keys.properties"));
+        String name = ConfigurationProxiesTest.QaSettings.class.getName();
+
+        Assertions.assertTrue(problems.contains(name + ": missing required key 'int.property'"), problems.toString());
+        Assertions.assertFalse(problems.contains(name + ": missing required key 'timeout'"), problems.toString());
+        Assertions.assertFalse(problems.contains(name + ": missing required key 'string.property'"), problems.toString());
+    }
+
+    @Test
+    void verifyRecordsAndConstructorsAreIndexedWithTheirParameters() {
+        ConfigurationIndex.Entry record = only(ConstructorBindingTest.QaRecord.class).entries().get(0);
+        ConfigurationIndex.Entry settings = only(ConstructorBindingTest.QaSettings.class).entries().get(0);
+
+        Assertions.assertEquals(ConfigurationIndex.Kind.CONSTRUCTOR, record.kind());
+        Assertions.assertEquals(7, record.keys().size());
+        Assertions.assertEquals(new ConfigurationIndex.Key("string.property", true), record.keys().get(0));
+        Assertions.assertEquals(new ConfigurationIndex.Key("missing.string", false), record.keys().get(6));
+        Assertions.assertEquals(ConfigurationIndex.Kind.CONSTRUCTOR, settings.kind());
+        Assertions.assertEquals(List.of(new ConfigurationIndex.Key("string.property", true),
+                new ConfigurationIndex.Key("timeout", true)), settings.keys());
+    }
+
+    @Test
+    void verifyPreloadCreatesRecordsThroughTheirConstructor() {
+        Map<Class<?>, Object> configurations = only(ConstructorBindingTest.QaRecord.class,
+                ConstructorBindingTest.QaSettings.class, ConstructorBindingTest.GridRecord.class)
+                .preload(new ConfigurationLoader());
+
+        Assertions.assertEquals("string1",
+                ((ConstructorBindingTest.QaRecord) configurations.get(ConstructorBindingTest.QaRecord.class)).stringProperty());
+        Assertions.assertInstanceOf(ConstructorBindingTest.QaSettings.class,
+                configurations.get(ConstructorBindingTest.QaSettings.class));
+        Assertions.assertEquals(3,
+                ((ConstructorBindingTest.GridRecord) configurations.get(ConstructorBindingTest.GridRecord.class)).retries());
+
+        List<String> problems = only(ConstructorBindingTest.QaRecord.class)
+                .validate(new PropertiesReader<>("missing-keys.properties"));
+        Assertions.assertTrue(problems.contains(ConstructorBindingTest.QaRecord.class.getName()
+                + ": missing required key 'int.property'"), problems.toString());
+    }
+}
@@ -0,0 +1,56 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.Configuration;
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.pojo.QaConfiguration;
+import in.testautomationstudio.commons.pojo.TestConfiguration;
+import in.testautomationstudio.commons.source.SourceCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class ConfigurationLoaderTest {
+
+    @Test
+    void verifyClassesAreLoadedWithOneReadPerSource() {
+        SourceCache cache = new SourceCache(4);
+        ConfigurationLoader loader = new ConfigurationLoader(new PropertiesReader<>(null, BindingMode.METHOD_HANDLE, cache));
+
+        Map<Class<?>, Object> configurations = loader.loadClasses(List.of(TestConfiguration.class, QaConfiguration.class));
+
+        Assertions.assertEquals("string", ((TestConfiguration) configurations.get(TestConfiguration.class)).getStringProperty());
+        Assertions.assertEquals("string1", ((QaConfiguration) configurations.get(QaConfiguration.class)).getStringProperty());
+        Assertions.assertEquals(new SourceCache.CacheStats(0, 2, 0, 2), cache.stats());
+    }
+
+    @Test
+    void verifyFailuresAreCombined() {
+        TestConfiguration configuration = new TestConfiguration();
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class,
+                () -> new ConfigurationLoader().loadBeans(List.of(configuration, new MissingFileConfiguration(),
+                        new UnresolvedPathConfiguration(), new InvalidValueConfiguration())));
+
+        Assertions.assertEquals(3, exception.getSuppressed().length);
+        Assertions.assertEquals("string", configuration.getStringProperty());
+    }
+
+    @Configuration(filePath = "missing-configurations.properties")
+    static class MissingFileConfiguration {
+        @PropertyKey(key = "string.property")
+        private String stringProperty;
+    }
+
+    @Configuration(filePath = "${undefined.placeholder}-configurations.properties")
+    static class UnresolvedPathConfiguration {
+        @PropertyKey(key = "string.property")
+        private String stringProperty;
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    static class InvalidValueConfiguration {
+        @PropertyKey(key = "string.property")
+        private int stringProperty;
+    }
+}
@@ -0,0 +1,120 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.Configuration;
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.enums.BrowserType;
+import in.testautomationstudio.commons.parser.PropertyValueParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConfigurationProxiesTest {
+    @Test
+    void verifyGettersReturnParsedValues() {
+        QaSettings settings = new PropertiesReader<>().loadProxy(QaSettings.class);
+
+        Assertions.assertEquals("string1", settings.stringProperty());
+        Assertions.assertEquals(2, settings.intProperty());
+        Assertions.assertEquals(2.6f, settings.floatWrapperProperty());
+        Assertions.assertFalse(settings.booleanProperty());
+        Assertions.assertEquals(BrowserType.FIREFOX, settings.browser());
+    }
+
+    @Test
+    void verifyMissingValuesFallBackToDefaultsAndZero() {
+        QaSettings settings = new PropertiesReader<>().loadProxy(QaSettings.class);
+
+        Assertions.assertEquals(30, settings.timeout());
+        Assertions.assertEquals("fallback", settings.withDefaultValue());
+        Assertions.assertEquals(0L, settings.missingLong());
+        Assertions.assertNull(settings.missingString());
+    }
+
+    @Test
+    void verifyValuesAreParsedOnceOnFirstCall() {
+        CountingParser.CALLS.set(0);
+        QaSettings settings = new PropertiesReader<>().loadProxy(QaSettings.class);
+        Assertions.assertEquals(0, CountingParser.CALLS.get());
+
+        List<String> first = settings.counted();
+        Assertions.assertSame(first, settings.counted());
+        Assertions.assertEquals(List.of("string1"), first);
+        Assertions.assertEquals(1, CountingParser.CALLS.get());
+    }
+
+    @Test
+    void verifyValuesAreInterpolated() {
+        GridSettings settings = new PropertiesReader<>().loadProxy(GridSettings.class);
+
+        Assertions.assertEquals("http://grid.example.com:4444/wd/hub", settings.url());
+        Assertions.assertEquals(settings, settings);
+        Assertions.assertNotEquals(settings, new PropertiesReader<>().loadProxy(GridSettings.class));
+        Assertions.assertTrue(settings.toString().startsWith(GridSettings.class.getName() + "@"));
+    }
+
+    @Test
+    void verifyInvalidInterfacesAreRejected() {
+        PropertiesReader<Object> reader = new PropertiesReader<>();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reader.loadProxy(UnannotatedSettings.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reader.loadProxy(String.class));
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    interface QaSettings {
+        @PropertyKey(key = "string.property")
+        String stringProperty();
+
+        @PropertyKey(key = "int.property")
+        int intProperty();
+
+        @PropertyKey(key = "float.wrapper.property")
+        Float floatWrapperProperty();
+
+        @PropertyKey(key = "boolean.property")
+        boolean booleanProperty();
+
+        @PropertyKey(key = "browser.name")
+        BrowserType browser();
+
+        @PropertyKey(key = "timeout")
+        default int timeout() {
+            return 30;
+        }
+
+        @PropertyKey(key = "missing.with.default", defaultValue = "fallback")
+        String withDefaultValue();
+
+        @PropertyKey(key = "missing.long")
+        long missingLong();
+
+        @PropertyKey(key = "missing.string")
+        String missingString();
+
+        @PropertyKey(key = "string.property", parser = CountingParser.class)
+        List<String> counted();
+    }
+
+    @Configuration(filePath = "interpolated-configurations.properties", interpolate = true)
+    interface GridSettings {
+        @PropertyKey(key = "grid.url")
+        String url();
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    interface UnannotatedSettings {
+        String stringProperty();
+    }
+
+    public static class CountingParser implements PropertyValueParser<List<String>> {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Override
+        public List<String> parse(String value) {
+            CALLS.incrementAndGet();
+            return List.of(value);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.Configuration;
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.enums.BrowserType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class ConstructorBindingTest {
+    @Test
+    void verifyRecordIsCreatedFromProperties() {
+        QaRecord record = new PropertiesReader<>().read(QaRecord.class);
+
+        Assertions.assertEquals(new QaRecord("string1", 2, 1.12211, true, BrowserType.FIREFOX, 0L, "fallback"), record);
+    }
+
+    @Test
+    void verifyAnnotatedConstructorIsUsed() {
+        QaSettings settings = new PropertiesReader<>().read(QaSettings.class);
+
+        Assertions.assertEquals("string1", settings.stringProperty);
+        Assertions.assertEquals(30, settings.timeout);
+    }
+
+    @Test
+    void verifyValuesAreInterpolated() {
+        GridRecord grid = new PropertiesReader<>().read(GridRecord.class);
+
+        Assertions.assertEquals("http://grid.example.com:4444/wd/hub", grid.url());
+        Assertions.assertEquals(3, grid.retries());
+    }
+
+    @Test
+    void verifyClassesWithoutBindableConstructorAreRejected() {
+        PropertiesReader<Object> reader = new PropertiesReader<>();
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reader.read(UnannotatedRecord.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reader.read(AmbiguousSettings.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> reader.read(Runnable.class));
+    }
+
+    @Test
+    void verifyNoBinderIsGeneratedWithoutFieldsToAssign() {
+        for (Class<?> type : List.of(QaRecord.class, QaSettings.class)) {
+            Assertions.assertThrows(ClassNotFoundException.class,
+                    () -> Class.forName(ConfigurationBinder.binderClassName(type.getName())));
+        }
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    record QaRecord(@PropertyKey(key = "string.property") String stringProperty,
+                    @PropertyKey(key = "int.property") int intProperty,
+                    @PropertyKey(key = "double.property") double doubleProperty,
+                    @PropertyKey(key = "boolean.wrapper.property") Boolean booleanWrapperProperty,
+                    @PropertyKey(key = "browser.name") BrowserType browser,
+                    @PropertyKey(key = "missing.long") long missingLong,
+                    @PropertyKey(key = "missing.string", defaultValue = "fallback") String withDefaultValue) {
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    static final class QaSettings {
+        private final String stringProperty;
+        private final int timeout;
+
+        QaSettings(@PropertyKey(key = "string.property") String stringProperty,
+                   @PropertyKey(key = "timeout") Integer timeout) {
+            this.stringProperty = stringProperty;
+            this.timeout = timeout != null ? timeout : 30;
+        }
+    }
+
+    @Configuration(filePath = "interpolated-configurations.properties", interpolate = true)
+    record GridRecord(@PropertyKey(key = "grid.url") String url, @PropertyKey(key = "retries") int retries) {
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    record UnannotatedRecord(@PropertyKey(key = "string.property") String stringProperty, int intProperty) {
+    }
+
+    @Configuration(filePath = "qa-configurations.properties")
+    static final class AmbiguousSettings {
+        AmbiguousSettings(@PropertyKey(key = "string.property") String stringProperty) {
+        }
+
+        AmbiguousSettings(@PropertyKey(key = "int.property") int intProperty) {
+        }
+    }
+}
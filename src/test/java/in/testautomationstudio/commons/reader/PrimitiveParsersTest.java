@@ -0,0 +1,90 @@
+package in.testautomationstudio.commons.reader;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class PrimitiveParsersTest {
+    private static final List<String> INPUTS = List.of(
+            "0", "-0", "+0", "0.0", "-0.0", "1", "-1", "+1", "1.", ".5", "-.5", "0.1", "0.3", "123.456",
+            "1e5", "1E5", "1e+5", "1e-5", "-2.5e-3", "1e22", "1e23", "1e-22", "1e-23", "9007199254740993",
+            "123456789012345", "1234567890123456", "0.000000000000000000000000000001", "1e400", "1e-400",
+            "3.4028235e38", "1.4e-45", "16777217", "0.1f", "2d", " 7 ", "NaN", "-Infinity", "0x1p3",
+            "", "-", ".", "e5", "1e", "1e+", "1.2.3", "1-2", "abc", "12a", "0000000000000000001.5", "1.5000000000000000");
+
+    @Test
+    void verifyRangesParseLikeTheJdk() {
+        Random random = new Random(42);
+        List<String> inputs = new ArrayList<>(INPUTS);
+        for (int i = 0; i < 20_000; i++) {
+            inputs.add(randomDecimal(random));
+            inputs.add(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+            inputs.add(Float.toString(random.nextFloat() * (float) Math.pow(10, random.nextInt(20) - 10)));
+        }
+        for (String input : inputs) {
+            // Surround the value so that only the range may be read
+            String text = "k=" + input + "\n";
+            int start = 2;
+            int end = start + input.length();
+            assertSameOutcome(input, () -> Double.doubleToRawLongBits(Double.parseDouble(input)),
+                    () -> Double.doubleToRawLongBits(PrimitiveParsers.DOUBLE.parseDouble(text, start, end)));
+            assertSameOutcome(input, () -> (long) Float.floatToRawIntBits(Float.parseFloat(input)),
+                    () -> (long) Float.floatToRawIntBits(PrimitiveParsers.FLOAT.parseFloat(text, start, end)));
+            assertSameOutcome(input, () -> Double.doubleToRawLongBits(Double.parseDouble(input)),
+                    () -> Double.doubleToRawLongBits(PrimitiveParsers.DOUBLE.parseDouble(input)));
+            assertSameOutcome(input, () -> (long) Float.floatToRawIntBits(Float.parseFloat(input)),
+                    () -> (long) Float.floatToRawIntBits(PrimitiveParsers.FLOAT.parseFloat(input)));
+            assertSameOutcome(input, () -> (long) Integer.parseInt(input),
+                    () -> (long) PrimitiveParsers.INT.parseInt(text, start, end));
+            assertSameOutcome(input, () -> Long.parseLong(input),
+                    () -> PrimitiveParsers.LONG.parseLong(text, start, end));
+        }
+    }
+
+    @Test
+    void verifyBooleanRangesParseLikeTheJdk() {
+        for (String input : List.of("true", "TRUE", "True", "tRuE", "false", "", "yes", "truee", "tru", " true")) {
+            String text = "[" + input + "]";
+            Assertions.assertEquals(Boolean.parseBoolean(input),
+                    PrimitiveParsers.BOOLEAN.parseBoolean(text, 1, 1 + input.length()), input);
+        }
+    }
+
+    private static String randomDecimal(Random random) {
+        StringBuilder decimal = new StringBuilder();
+        if (random.nextBoolean()) {
+            decimal.append('-');
+        }
+        decimal.append(random.nextInt(1_000_000));
+        if (random.nextBoolean()) {
+            decimal.append('.').append(random.nextInt(100_000_000));
+        }
+        if (random.nextInt(3) == 0) {
+            decimal.append('e').append(random.nextInt(60) - 30);
+        }
+        return decimal.toString();
+    }
+
+    private static void assertSameOutcome(String input, ParseCall expected, ParseCall actual) {
+        Long expectedValue = null;
+        Class<?> expectedFailure = null;
+        try {
+            expectedValue = expected.call();
+        } catch (RuntimeException e) {
+            expectedFailure = e.getClass();
+        }
+        if (expectedFailure != null) {
+            Assertions.assertThrows(expectedFailure.asSubclass(Throwable.class), actual::call, input);
+        } else {
+            Assertions.assertEquals(expectedValue, actual.call(), input);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ParseCall {
+        long call();
+    }
+}
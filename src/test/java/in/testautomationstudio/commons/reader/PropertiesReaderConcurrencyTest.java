@@ -0,0 +1,75 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.Configuration;
+import in.testautomationstudio.commons.enums.BrowserType;
+import in.testautomationstudio.commons.pojo.QaConfiguration;
+import in.testautomationstudio.commons.pojo.TestConfiguration;
+import in.testautomationstudio.commons.source.SourceCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class PropertiesReaderConcurrencyTest {
+    private static final int THREADS = 64;
+    private static final int ITERATIONS = 200;
+
+    @Test
+    void verifySharedReaderBindsConcurrently() throws Exception {
+        stress(new PropertiesReader<>(null, BindingMode.METHOD_HANDLE, new SourceCache(4)));
+    }
+
+    @Test
+    void verifySharedReaderBindsConcurrentlyWithoutCache() throws Exception {
+        stress(new PropertiesReader<>(null, BindingMode.REFLECTIVE, null));
+    }
+
+    @Test
+    void verifySharedReaderBindsConcurrentlyWithHiddenClassBinder() throws Exception {
+        stress(new PropertiesReader<>(null, BindingMode.HIDDEN_CLASS, new SourceCache(4)));
+    }
+
+    /**
+     * Every thread alternates between two classes whose {@link Configuration}
+     * paths differ, through one shared reader, and checks each bean it binds.
+     */
+    private static void stress(ConfigurationReader<Object> reader) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        if ((i + offset) % 2 == 0) {
+                            TestConfiguration configuration = new TestConfiguration();
+                            reader.loadBean(configuration);
+                            Assertions.assertEquals("string", configuration.getStringProperty());
+                            Assertions.assertEquals(1, configuration.getIntProperty());
+                            Assertions.assertEquals(BrowserType.CHROME, configuration.getBrowserType());
+                        } else {
+                            QaConfiguration configuration = new QaConfiguration();
+                            reader.loadBean(configuration);
+                            Assertions.assertEquals("string1", configuration.getStringProperty());
+                            Assertions.assertEquals(2, configuration.getIntProperty());
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package in.testautomationstudio.commons.reader;
 
+import in.testautomationstudio.commons.annotation.Configuration;
+import in.testautomationstudio.commons.annotation.PropertyKey;
 import in.testautomationstudio.commons.enums.BrowserType;
+import in.testautomationstudio.commons.pojo.QaConfiguration;
 import in.testautomationstudio.commons.pojo.TestConfiguration;
+import in.testautomationstudio.commons.source.SourceCache;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 
 class PropertiesReaderTest {
     private static final TestConfiguration TEST_CONFIGURATION = new TestConfiguration();
@@ -64,4 +74,76 @@ class PropertiesReaderTest {
     void verifyBrowserTypePropertyValue() {
         Assertions.assertEquals(BrowserType.CHROME, TEST_CONFIGURATION.getBrowserType());
     }
-}
\ No newline at end of file
+
+    @Test
+    void verifyLoadBeansParsesEachSourceOnce() {
+        SourceCache cache = new SourceCache(4);
+        TestConfiguration first = new TestConfiguration();
+        QaConfiguration second = new QaConfiguration();
+        TestConfiguration third = new TestConfiguration();
+
+        new PropertiesReader<>(null, BindingMode.METHOD_HANDLE, cache).loadBeans(List.of(first, second, third));
+
+        Assertions.assertEquals("string", first.getStringProperty());
+        Assertions.assertEquals("string1", second.getStringProperty());
+        Assertions.assertEquals("string", third.getStringProperty());
+        Assertions.assertEquals(new SourceCache.CacheStats(0, 2, 0, 2), cache.stats());
+    }
+
+    @Test
+    void verifyFileSystemSource(@TempDir Path directory) throws IOException {
+        Path file = Files.writeString(directory.resolve("external.properties"), "string.property=external\nint.property=7\n");
+        QaConfiguration configuration = new QaConfiguration();
+
+        new PropertiesReader<QaConfiguration>("file:" + file).loadBean(configuration);
+
+        Assertions.assertEquals("external", configuration.getStringProperty());
+        Assertions.assertEquals(7, configuration.getIntProperty());
+    }
+
+    @Test
+    void verifyValuesAreInterpolatedOnlyWhenEnabled() {
+        InterpolatedConfiguration interpolated = new InterpolatedConfiguration();
+        LiteralConfiguration literal = new LiteralConfiguration();
+
+        new PropertiesReader<>().loadBeans(List.of(interpolated, literal));
+
+        Assertions.assertEquals("http://grid.example.com:4444/wd/hub", interpolated.url);
+        Assertions.assertEquals(3, interpolated.retries);
+        Assertions.assertEquals("http://${grid.host}:${grid.port}/wd/hub", literal.url);
+    }
+
+    @Test
+    void verifyUnresolvablePlaceholderFailsOnlyClassesReadingIt() {
+        PropertiesReader<Object> reader = new PropertiesReader<>();
+
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> reader.loadBean(new TokenConfiguration()));
+        Assertions.assertEquals("No property, environment variable or system property found for placeholder:"
+                + " grid.no.such.token in value of: grid.token", exception.getMessage());
+        InterpolatedConfiguration interpolated = new InterpolatedConfiguration();
+        reader.loadBean(interpolated);
+        Assertions.assertEquals("http://grid.example.com:4444/wd/hub", interpolated.url);
+    }
+
+    @Configuration(filePath = "interpolated-configurations.properties", interpolate = true)
+    static class InterpolatedConfiguration {
+        @PropertyKey(key = "grid.url")
+        String url;
+
+        @PropertyKey(key = "retries")
+        private int retries;
+    }
+
+    @Configuration(filePath = "interpolated-configurations.properties")
+    static class LiteralConfiguration {
+        @PropertyKey(key = "grid.url")
+        String url;
+    }
+
+    @Configuration(filePath = "interpolated-configurations.properties", interpolate = true)
+    static class TokenConfiguration {
+        @PropertyKey(key = "grid.token")
+        String token;
+    }
+}
@@ -0,0 +1,147 @@
+package in.testautomationstudio.commons.reader;
+
+import in.testautomationstudio.commons.annotation.Configuration;
+import in.testautomationstudio.commons.annotation.PropertyKey;
+import in.testautomationstudio.commons.source.SourceCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class ReloadingConfigurationTest {
+    private static final String FILE_NAME = "reload-configurations.properties";
+
+    private Path file;
+
+    @BeforeEach
+    void createFile() throws IOException, URISyntaxException {
+        Path classes = Path.of(ReloadingConfigurationTest.class.getClassLoader()
+                .getResource("qa-configurations.properties").toURI()).getParent();
+        file = classes.resolve(FILE_NAME);
+        write("1");
+    }
+
+    @AfterEach
+    void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * A reader with its own cache, so a snapshot cached by an earlier test is
+     * not served after the file was rewritten.
+     */
+    private static PropertiesReader<ReloadConfiguration> reader() {
+        return new PropertiesReader<>(null, BindingMode.METHOD_HANDLE, new SourceCache(4));
+    }
+
+    private void write(String version) throws IOException {
+        Files.writeString(file, "version=" + version + "\nname=node-" + version + "\n");
+    }
+
+    @Test
+    void verifyReloadPublishesNewSnapshot() throws IOException, InterruptedException {
+        try (ReloadingConfiguration<ReloadConfiguration> configuration =
+                     ReloadingConfiguration.watch(reader(), ReloadConfiguration::new)) {
+            ReloadConfiguration first = configuration.get();
+            Assertions.assertEquals(1, first.version);
+
+            write("2");
+            // Let the watcher publish its own reload of the change first, so it cannot replace ours
+            awaitVersion(configuration, 2);
+            ReloadConfiguration second = configuration.reload();
+
+            Assertions.assertSame(second, configuration.get());
+            Assertions.assertEquals(2, second.version);
+            Assertions.assertEquals("node-2", second.name);
+            Assertions.assertEquals(1, first.version);
+            Assertions.assertEquals("node-1", first.name);
+        }
+    }
+
+    @Test
+    void verifyFileChangeIsPickedUp() throws IOException, InterruptedException {
+        try (ReloadingConfiguration<ReloadConfiguration> configuration =
+                     ReloadingConfiguration.watch(reader(), ReloadConfiguration::new)) {
+            Assertions.assertTrue(configuration.isWatching());
+
+            write("3");
+            awaitVersion(configuration, 3);
+
+            ReloadConfiguration current = configuration.get();
+            Assertions.assertEquals(3, current.version);
+            Assertions.assertEquals("node-3", current.name);
+        }
+    }
+
+    @Test
+    void verifyRewriteInPlaceIsReloadedOnceComplete() throws IOException, InterruptedException {
+        List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+        try (ReloadingConfiguration<ReloadConfiguration> configuration = ReloadingConfiguration.watch(
+                reader(), ReloadConfiguration::new, failures::add, Duration.ofMillis(500))) {
+            ReloadConfiguration first = configuration.get();
+
+            // An editor truncating the file and writing it back in two steps
+            Files.writeString(file, "");
+            Thread.sleep(100);
+            write("4");
+            awaitVersion(configuration, 4);
+
+            Assertions.assertEquals("node-4", configuration.get().name);
+            Assertions.assertEquals(1, first.version);
+            Assertions.assertTrue(failures.isEmpty());
+        }
+    }
+
+    @Test
+    void verifyRelativeFilePathIsWatched() throws IOException, InterruptedException {
+        Path relative = Path.of("reload-relative-configurations.properties");
+        try {
+            Files.writeString(relative, "version=1\nname=node-1\n");
+            PropertiesReader<ReloadConfiguration> reader = new PropertiesReader<>("file:" + relative,
+                    BindingMode.METHOD_HANDLE, new SourceCache(4));
+            ReloadingConfiguration<ReloadConfiguration> configuration =
+                    ReloadingConfiguration.watch(reader, ReloadConfiguration::new);
+            try {
+                Assertions.assertTrue(configuration.isWatching());
+
+                Files.writeString(relative, "version=5\nname=node-5\n");
+                awaitVersion(configuration, 5);
+                Assertions.assertEquals("node-5", configuration.get().name);
+            } finally {
+                configuration.close();
+            }
+            Assertions.assertFalse(configuration.isWatching());
+        } finally {
+            Files.deleteIfExists(relative);
+        }
+    }
+
+    private static void awaitVersion(ReloadingConfiguration<ReloadConfiguration> configuration, int version)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        ReloadConfiguration current;
+        while ((current = configuration.get()).version != version && System.nanoTime() < deadline) {
+            // A snapshot of the truncated file would have version 0
+            Assertions.assertNotEquals(0, current.version);
+            Thread.sleep(20);
+        }
+        Assertions.assertEquals(version, configuration.get().version);
+    }
+
+    @Configuration(filePath = FILE_NAME)
+    static class ReloadConfiguration {
+        @PropertyKey(key = "version")
+        private int version;
+
+        @PropertyKey(key = "name")
+        private String name;
+    }
+}
@@ -0,0 +1,128 @@
+package in.testautomationstudio.commons.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+class ImmutablePropertySourceTest {
+
+    @Test
+    void verifyLookupMatchesMap() {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            values.put("key." + i, "value." + i);
+        }
+        ImmutablePropertySource source = ImmutablePropertySource.copyOf(values);
+
+        Assertions.assertEquals(1000, source.size());
+        values.forEach((key, value) -> Assertions.assertEquals(value, source.getProperty(new String(key))));
+        Assertions.assertNull(source.getProperty("key.1000"));
+        Assertions.assertEquals("fallback", source.getProperty("missing", "fallback"));
+    }
+
+    @Test
+    void verifyCollidingHashesAreDistinguished() {
+        Assertions.assertEquals("Aa".hashCode(), "BB".hashCode());
+        ImmutablePropertySource source = ImmutablePropertySource.builder().put("Aa", "1").put("BB", "2").build();
+
+        Assertions.assertEquals("1", source.getProperty("Aa"));
+        Assertions.assertEquals("2", source.getProperty("BB"));
+        Assertions.assertNull(source.getProperty("C#"));
+    }
+
+    @Test
+    void verifyLastValueWins() {
+        ImmutablePropertySource source = ImmutablePropertySource.builder()
+                .put("key", "first").put("other", "x").put("key", "second").build();
+
+        Assertions.assertEquals(2, source.size());
+        Assertions.assertEquals("second", source.getProperty("key"));
+    }
+
+    @Test
+    void verifyEmptySource() {
+        ImmutablePropertySource source = ImmutablePropertySource.builder().build();
+
+        Assertions.assertEquals(0, source.size());
+        Assertions.assertNull(source.getProperty("key"));
+    }
+
+    @Test
+    void verifyRawValuesAreConsumedAsRanges() {
+        byte[] bytes = "port=8080\nname=qa\\u0020grid\nempty=\nport=9090\n".getBytes(StandardCharsets.ISO_8859_1);
+        ImmutablePropertySource source = PropertySources.parse(ByteBuffer.allocateDirect(bytes.length).put(bytes).flip());
+        StringBuilder consumed = new StringBuilder();
+        PropertyValueConsumer consumer = (target, text, start, end) ->
+                ((StringBuilder) target).append(text, start, end).append(text instanceof String ? ":string;" : ":raw;");
+
+        Assertions.assertTrue(source.consumeProperty("port", consumed, consumer));
+        Assertions.assertTrue(source.consumeProperty("name", consumed, consumer));
+        Assertions.assertTrue(source.consumeProperty("empty", consumed, consumer));
+        Assertions.assertFalse(source.consumeProperty("missing", consumed, consumer));
+        Assertions.assertEquals("9090:raw;qa grid:string;:string;", consumed.toString());
+
+        Assertions.assertEquals("9090", source.getProperty("port"));
+        Assertions.assertSame(source.getProperty("port"), source.getProperty("port"));
+        consumed.setLength(0);
+        source.consumeProperty("port", consumed, consumer);
+        Assertions.assertEquals("9090:string;", consumed.toString());
+    }
+
+    @Test
+    void verifyValuesAreInterpolatedInDependencyOrder() {
+        byte[] bytes = ("url=${scheme}://${host}:${port}\nhost=${name}.${domain}\nname=grid\ndomain=example.com\n"
+                + "scheme=https\nport=443\nhome=${java.home}\nliteral=${unterminated\nretries=3\n").getBytes(StandardCharsets.ISO_8859_1);
+        ImmutablePropertySource source = PropertySources.parse(ByteBuffer.wrap(bytes));
+        PropertySource interpolated = source.interpolated();
+
+        Assertions.assertSame(interpolated, source.interpolated());
+        Assertions.assertEquals("https://grid.example.com:443", interpolated.getProperty("url"));
+        Assertions.assertEquals("grid.example.com", interpolated.getProperty("host"));
+        Assertions.assertEquals(System.getProperty("java.home"), interpolated.getProperty("home"));
+        Assertions.assertEquals("${unterminated", interpolated.getProperty("literal"));
+        Assertions.assertEquals("${scheme}://${host}:${port}", source.getProperty("url"));
+
+        StringBuilder consumed = new StringBuilder();
+        PropertyValueConsumer consumer = (target, text, start, end) ->
+                ((StringBuilder) target).append(text, start, end).append(text instanceof String ? ":string;" : ":raw;");
+        interpolated.consumeProperty("retries", consumed, consumer);
+        interpolated.consumeProperty("host", consumed, consumer);
+        Assertions.assertEquals("3:raw;grid.example.com:string;", consumed.toString());
+    }
+
+    @Test
+    void verifySourceWithoutPlaceholdersIsNotCopied() {
+        ImmutablePropertySource source = ImmutablePropertySource.builder().put("dollar", "$5").put("brace", "{}").build();
+        Assertions.assertSame(source, source.interpolated());
+    }
+
+    @Test
+    void verifyCyclesAndMissingKeysAreReportedOnLookup() {
+        ImmutablePropertySource cyclic = ImmutablePropertySource.builder()
+                .put("a", "${b}").put("b", "x${c}").put("c", "${b}").put("d", "${e}").put("e", "ok").build();
+        PropertySource interpolated = cyclic.interpolated();
+        Assertions.assertEquals("ok", interpolated.getProperty("d"));
+        IllegalArgumentException cycle = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> interpolated.getProperty("a"));
+        Assertions.assertEquals("Cyclic placeholder reference: b -> c -> b", cycle.getMessage());
+        IllegalArgumentException again = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> interpolated.consumeProperty("c", null, (target, text, start, end) -> {
+                }));
+        Assertions.assertEquals(cycle.getMessage(), again.getMessage());
+
+        ImmutablePropertySource missing = ImmutablePropertySource.builder()
+                .put("a", "${no.such.key}").put("b", "${a}").put("c", "${java.home}").build();
+        PropertySource partial = missing.interpolated();
+        Assertions.assertEquals(System.getProperty("java.home"), partial.getProperty("c"));
+        for (String key : new String[]{"b", "a", "b"}) {
+            IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> partial.getProperty(key));
+            Assertions.assertEquals("No property, environment variable or system property found for placeholder:"
+                    + " no.such.key in value of: a", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package in.testautomationstudio.commons.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+class PropertiesTokenizerTest {
+
+    private static Map<String, String> tokenize(String text) {
+        Map<String, String> values = new HashMap<>();
+        PropertiesTokenizer.tokenize(text.getBytes(StandardCharsets.ISO_8859_1), values::put);
+        return values;
+    }
+
+    private static Map<String, String> load(String text) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1)));
+        Map<String, String> values = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> values.put(key, properties.getProperty(key)));
+        return values;
+    }
+
+    @Test
+    void verifySeparatorsAndWhitespace() throws IOException {
+        String text = "a=1\nb:2\nc 3\n  d\t =  4 \ne\nf=\ng  :  = 5\nh==6\r\ni:7\rj=8";
+        Assertions.assertEquals(load(text), tokenize(text));
+    }
+
+    @Test
+    void verifyCommentsAndBlankLines() throws IOException {
+        String text = "# comment\n! other comment\n\n   \t\n  # indented comment \\\nkey=value\n#last";
+        Assertions.assertEquals(load(text), tokenize(text));
+    }
+
+    @Test
+    void verifyContinuationLines() throws IOException {
+        String text = "list=a,\\\n    b,\\\r\n\tc\nodd=x\\\\\neven=y\\\\\\\n  z\nend=1\\\n\nlast=2\\";
+        Assertions.assertEquals(load(text), tokenize(text));
+    }
+
+    @Test
+    void verifyLinesOfOnlyAContinuation() throws IOException {
+        for (String text : new String[]{"a=1\n\\", "\\\n", "=x\n\\\n", " \\\n", "\\\n\\\n",
+                "a=1\n\\\r\n", "\\\n\n", "\\\n  \n", "\\\n#c", "a=1\n\\\nb=2"}) {
+            Assertions.assertEquals(load(text), tokenize(text), text);
+        }
+        Assertions.assertEquals(Map.of("", ""), tokenize("=x\n\\\n"));
+    }
+
+    @Test
+    void verifyEscapes() throws IOException {
+        String text = "key\\ with\\=sep\\:s=v\\t\\n\\r\\f\\q\nunicode=\\u0041\\u00e9\\u20AC\n\\#hash=yes\nlatin=café";
+        Map<String, String> values = tokenize(text);
+        Assertions.assertEquals(load(text), values);
+        Assertions.assertEquals("Aé€", values.get("unicode"));
+        Assertions.assertEquals("v\t\n\r\fq", values.get("key with=sep:s"));
+    }
+
+    @Test
+    void verifyMalformedUnicodeEscapeIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tokenize("key=\\u00zz"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tokenize("key=\\u00"));
+    }
+
+    @Test
+    void verifyDirectBufferMatchesHeapArray() {
+        String text = "a=1\nb = two\\\n  lines\nc=\\u0063";
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        Map<String, String> values = new HashMap<>();
+        PropertiesTokenizer.tokenize(direct, values::put);
+        Assertions.assertEquals(tokenize(text), values);
+        Assertions.assertEquals(0, direct.position());
+    }
+}
@@ -0,0 +1,58 @@
+package in.testautomationstudio.commons.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+class PropertySourcesTest {
+    private final ClassLoader classLoader = PropertySourcesTest.class.getClassLoader();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void verifyFileLocationIsReadFromFileSystem() throws IOException {
+        Path file = Files.writeString(directory.resolve("external.properties"), "string.property=external\n");
+
+        ImmutablePropertySource source = PropertySources.load("file:" + file, classLoader);
+
+        Assertions.assertEquals("external", source.getProperty("string.property"));
+    }
+
+    @Test
+    void verifyLargeFileIsMapped() throws IOException {
+        StringBuilder text = new StringBuilder();
+        int count = 0;
+        while (text.length() < PropertySources.MAPPING_THRESHOLD) {
+            text.append("key.").append(count).append('=').append("value-").append(count).append('\n');
+            count++;
+        }
+        Path file = Files.writeString(directory.resolve("large.properties"), text);
+
+        ImmutablePropertySource source = PropertySources.loadFile(file);
+
+        Assertions.assertEquals(count, source.size());
+        Assertions.assertEquals("value-" + (count - 1), source.getProperty("key." + (count - 1)));
+    }
+
+    @Test
+    void verifyClasspathLocations() throws IOException {
+        Assertions.assertEquals("string1",
+                PropertySources.load("qa-configurations.properties", classLoader).getProperty("string.property"));
+        Assertions.assertEquals("string1",
+                PropertySources.load("classpath:qa-configurations.properties", classLoader).getProperty("string.property"));
+    }
+
+    @Test
+    void verifyMissingFileIsReported() {
+        Assertions.assertThrows(FileNotFoundException.class,
+                () -> PropertySources.load("file:" + directory.resolve("missing.properties"), classLoader));
+        Assertions.assertThrows(FileNotFoundException.class,
+                () -> PropertySources.load("missing.properties", classLoader));
+    }
+}
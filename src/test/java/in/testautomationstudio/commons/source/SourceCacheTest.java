@@ -0,0 +1,110 @@
+package in.testautomationstudio.commons.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SourceCacheTest {
+    private final ClassLoader classLoader = SourceCacheTest.class.getClassLoader();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private PropertySource load(String path, ClassLoader classLoader) {
+        loads.incrementAndGet();
+        Properties properties = new Properties();
+        properties.setProperty("path", path);
+        return PropertySource.of(properties);
+    }
+
+    @Test
+    void verifyRepeatedGetIsServedFromCache() throws IOException {
+        SourceCache cache = new SourceCache(4);
+        PropertySource first = cache.get("a.properties", classLoader, this::load);
+        PropertySource second = cache.get("a.properties", classLoader, this::load);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(new SourceCache.CacheStats(1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    void verifyClassLoaderIsPartOfKey() throws IOException {
+        SourceCache cache = new SourceCache(4);
+        cache.get("a.properties", classLoader, this::load);
+        cache.get("a.properties", null, this::load);
+
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    void verifyCollectedClassLoaderIsNotRetained() throws IOException, InterruptedException {
+        SourceCache cache = new SourceCache(4);
+        ClassLoader discarded = new URLClassLoader(new URL[0], null);
+        WeakReference<ClassLoader> reference = new WeakReference<>(discarded);
+        cache.get("a.properties", discarded, this::load);
+        Assertions.assertEquals(1, cache.size());
+
+        discarded = null;
+        // Stale keys are enqueued after the collection, so wait for the cache itself to shrink
+        for (int i = 0; i < 100 && cache.size() != 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        Assertions.assertNull(reference.get());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void verifyLeastRecentlyUsedSourceIsEvicted() throws IOException, InterruptedException {
+        SourceCache cache = new SourceCache(2);
+        cache.get("a.properties", classLoader, this::load);
+        Thread.sleep(1);
+        cache.get("b.properties", classLoader, this::load);
+        Thread.sleep(1);
+        cache.get("a.properties", classLoader, this::load);
+        Thread.sleep(1);
+        cache.get("c.properties", classLoader, this::load);
+        Thread.sleep(1);
+
+        cache.get("a.properties", classLoader, this::load);
+        Assertions.assertEquals(3, loads.get());
+        cache.get("b.properties", classLoader, this::load);
+        Assertions.assertEquals(4, loads.get());
+        Assertions.assertEquals(2, cache.stats().evictions());
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    void verifyInvalidatedSourceIsReloaded() throws IOException {
+        SourceCache cache = new SourceCache(4);
+        cache.get("a.properties", classLoader, this::load);
+        cache.invalidate("a.properties", classLoader);
+        cache.get("a.properties", classLoader, this::load);
+        cache.invalidateAll();
+
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    void verifyFailedLoadIsNotCached() {
+        SourceCache cache = new SourceCache(4);
+        SourceCache.SourceLoader missing = (path, loader) -> {
+            loads.incrementAndGet();
+            throw new FileNotFoundException(path);
+        };
+
+        Assertions.assertThrows(FileNotFoundException.class, () -> cache.get("missing.properties", classLoader, missing));
+        Assertions.assertThrows(FileNotFoundException.class, () -> cache.get("missing.properties", classLoader, missing));
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(0, cache.size());
+    }
+}
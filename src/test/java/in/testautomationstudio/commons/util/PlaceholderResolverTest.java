@@ -0,0 +1,77 @@
+package in.testautomationstudio.commons.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+class PlaceholderResolverTest {
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty("placeholder.env");
+        System.clearProperty("placeholder.region");
+    }
+
+    @Test
+    void verifyTextWithoutPlaceholdersIsReturnedAsIs() {
+        String text = new String("test-configurations.properties");
+        Assertions.assertSame(text, PlaceholderResolver.resolvePlaceholders(text));
+        Assertions.assertNull(PlaceholderResolver.resolvePlaceholders(null));
+    }
+
+    @Test
+    void verifyPlaceholdersAreLookedUpOnEveryCall() {
+        String text = "file:${placeholder.env}/${placeholder.region}/${placeholder.env}.properties";
+        System.setProperty("placeholder.env", "qa");
+        System.setProperty("placeholder.region", "eu");
+        Assertions.assertEquals("file:qa/eu/qa.properties", PlaceholderResolver.resolvePlaceholders(text));
+        System.setProperty("placeholder.env", "prod");
+        Assertions.assertEquals("file:prod/eu/prod.properties", PlaceholderResolver.resolvePlaceholders(text));
+    }
+
+    @Test
+    void verifySnapshotIgnoresChangesUntilRefreshed() {
+        System.setProperty("placeholder.env", "qa");
+        PlaceholderContext context = PlaceholderContext.snapshot();
+        System.setProperty("placeholder.env", "prod");
+        Assertions.assertEquals("qa.properties", PlaceholderResolver.resolvePlaceholders("${placeholder.env}.properties", context));
+        Assertions.assertEquals("prod.properties", PlaceholderResolver.resolvePlaceholders("${placeholder.env}.properties"));
+
+        context.refresh();
+        Assertions.assertEquals("prod.properties", PlaceholderResolver.resolvePlaceholders("${placeholder.env}.properties", context));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PlaceholderResolver.resolvePlaceholders("${placeholder.region}.properties", context));
+    }
+
+    @Test
+    void verifySnapshotPrefersSystemPropertiesOverEnvironment() {
+        Assumptions.assumeFalse(System.getenv().isEmpty());
+        String name = System.getenv().keySet().iterator().next();
+        System.setProperty(name, "from-property");
+        try {
+            Assertions.assertEquals("from-property", PlaceholderContext.snapshot().lookup(name));
+            Assertions.assertEquals("from-property", PlaceholderContext.live().lookup(name));
+        } finally {
+            System.clearProperty(name);
+        }
+        Assertions.assertEquals(System.getenv(name), PlaceholderContext.snapshot().lookup(name));
+    }
+
+    @Test
+    void verifyUnterminatedPlaceholderIsLiteral() {
+        System.setProperty("placeholder.env", "qa");
+        Assertions.assertEquals("qa-${region.properties",
+                PlaceholderResolver.resolvePlaceholders("${placeholder.env}-${region.properties"));
+        String unterminated = "config-${env.properties";
+        Assertions.assertSame(unterminated, PlaceholderTemplate.of(unterminated).resolve(PlaceholderContext.live()));
+    }
+
+    @Test
+    void verifyMissingKeyIsReported() {
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> PlaceholderResolver.resolvePlaceholders("${placeholder.missing}.properties"));
+        Assertions.assertEquals("No environment variable or system property found for placeholder: placeholder.missing"
+                + " in filePath: ${placeholder.missing}.properties", exception.getMessage());
+    }
+}